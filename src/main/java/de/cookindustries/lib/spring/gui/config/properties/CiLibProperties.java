@@ -13,6 +13,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import lombok.Data;
 
 /**
@@ -27,6 +28,7 @@ import lombok.Data;
 public class CiLibProperties
 {
 
+    @Valid
     @NestedConfigurationProperty
     private CiLibResourcesProperties resources = new CiLibResourcesProperties();
 
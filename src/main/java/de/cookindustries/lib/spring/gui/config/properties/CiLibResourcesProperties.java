@@ -9,6 +9,7 @@ package de.cookindustries.lib.spring.gui.config.properties;
 
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import jakarta.validation.Valid;
 import lombok.Data;
 
 /**
@@ -21,6 +22,10 @@ public class CiLibResourcesProperties
 {
 
     @NestedConfigurationProperty
-    private CiLibResourcesPathProperties path = new CiLibResourcesPathProperties();
+    private CiLibResourcesPathProperties path          = new CiLibResourcesPathProperties();
+
+    @Valid
+    @NestedConfigurationProperty
+    private CiLibTemplateCacheProperties templateCache = new CiLibTemplateCacheProperties();
 
 }
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * Properties of the {@code TemplateFileCache}.
+ * 
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Data
+public class CiLibTemplateCacheProperties
+{
+
+    /** Only index the template paths at startup and load each template on first use */
+    private boolean lazy        = false;
+
+    /** Maximum number of loaded templates kept in {@link #lazy} mode, the least recently used ones are evicted first */
+    @Min(value = 1, message = "template-cache maximum-size must be positive")
+    private int     maximumSize = 1_000;
+
+    /** A directory to load additional templates from and to watch for changes, disabled if blank */
+    private String  watchDirectory;
+
+    /** A precompiled template bundle to load instead of the json files on the classpath, e.g. {@code classpath:templates.bundle} */
+    private String  bundle;
+
+    /** Share equal strings and identical subtrees across all templates loaded at startup, ignored in {@link #lazy} mode */
+    private boolean intern      = true;
+
+}
@@ -9,8 +9,8 @@ package de.cookindustries.lib.spring.gui.hmi;
 
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 
+import de.cookindustries.lib.spring.gui.hmi.util.UidStrategies;
 import lombok.Builder.Default;
 import lombok.experimental.SuperBuilder;
 import lombok.Getter;
@@ -29,11 +29,11 @@ public abstract class UiElement
 {
 
     /**
-     * the unique id for this element
+     * the unique id for this element, generated by the {@link UidStrategies#current() current} strategy if not set
      */
     @NonNull
     @Default
-    private final String              uid     = UUID.randomUUID().toString();
+    private final String              uid     = UidStrategies.current().nextUid();
 
     /**
      * a list of styling classes
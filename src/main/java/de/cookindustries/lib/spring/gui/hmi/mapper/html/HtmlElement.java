@@ -7,15 +7,14 @@
  */
 package de.cookindustries.lib.spring.gui.hmi.mapper.html;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.commons.text.StringEscapeUtils;
 
-import de.cookindustries.lib.spring.gui.util.StringAdapter;
-import de.cookindustries.lib.spring.gui.util.StringConcat;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
@@ -89,69 +88,193 @@ public final class HtmlElement
      * @return a HTML string of this object
      */
     public String html()
+    {
+        StringBuilder stb = new StringBuilder();
+
+        try
+        {
+            html(stb);
+        }
+        catch (IOException ex)
+        {
+            // a StringBuilder does not throw
+            throw new UncheckedIOException(ex);
+        }
+
+        return stb.toString();
+    }
+
+    /**
+     * Write the HTML of this object to {@code out}, without creating an intermediate {@code String}
+     * 
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
+     * @since 3.7.0
+     */
+    public void html(Appendable out) throws IOException
     {
         if (inactive)
         {
-            return "";
+            return;
         }
 
-        StringConcat sc = new StringConcat();
+        open(out);
 
-        sc
-            .append(StringAdapter.prefix(LT, tag))
+        for (String content : contents)
+        {
+            if (content != null)
+            {
+                out.append(content);
+            }
+        }
 
-            .append(!attributes.isEmpty(), SPACE)
-            .append(!attributes.isEmpty(), getAttributes())
+        close(out);
+    }
 
-            .append(!classes.isEmpty(), SPACE)
-            .append(!classes.isEmpty(), StringAdapter.prefixAndSuffix("class=\"", StringAdapter.separate(classes, SPACE), QTM))
+    /**
+     * Write the opening tag of this object, so the content can be written directly to {@code out}
+     * <p>
+     * A single tag is closed right away.
+     * 
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
+     * @since 3.7.0
+     */
+    void open(Appendable out) throws IOException
+    {
+        if (inactive)
+        {
+            return;
+        }
+
+        out.append(LT).append(tag);
 
-            .append(!dataAttributes.isEmpty(), SPACE)
-            .append(!dataAttributes.isEmpty(), getDataAttributes());
+        if (!attributes.isEmpty())
+        {
+            out.append(SPACE);
+            writeAttributes(out);
+        }
+
+        if (!classes.isEmpty())
+        {
+            out.append(SPACE).append("class=\"");
+            writeSeparated(out, classes);
+            out.append(QTM);
+        }
 
-        if (isSingleTag)
+        if (!dataAttributes.isEmpty())
         {
-            sc.append(GTS);
+            out.append(SPACE);
+            writeDataAttributes(out);
         }
-        else
+
+        out.append(isSingleTag ? GTS : GT);
+    }
+
+    /**
+     * Write the closing tag of this object
+     * 
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
+     * @since 3.7.0
+     */
+    void close(Appendable out) throws IOException
+    {
+        if (inactive || isSingleTag)
         {
-            sc
-                .append(GT)
-                .append(!contents.isEmpty(), () -> StringAdapter.from(contents))
-                .append(StringAdapter.prefixAndSuffix(LTS, tag, GT));
+            return;
         }
 
-        return sc.toString();
+        out.append(LTS).append(tag).append(GT);
     }
 
     /**
-     * Get the attributes as a {@code String}
+     * Write the attributes, separated by a space
      * 
-     * @return a {@code String} representation of the attributes
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
      */
-    private String getAttributes()
+    private void writeAttributes(Appendable out) throws IOException
     {
-        return attributes
-            .stream()
-            .map(att -> att.getHtmlRep())
-            .filter(str -> !str.isBlank())
-            .collect(Collectors.joining(SPACE));
+        boolean first = true;
+
+        for (Attribute attribute : attributes)
+        {
+            String html = attribute.getHtmlRep();
+
+            if (html.isBlank())
+            {
+                continue;
+            }
+
+            if (!first)
+            {
+                out.append(SPACE);
+            }
+
+            out.append(html);
+            first = false;
+        }
     }
 
     /**
-     * Get the data-attributes as a {@code String}
+     * Write the items, that are not {@code null}, separated by a space
      * 
-     * @return a {@code String} representation of the data-attributes
+     * @param out to write to
+     * @param items to write
+     * @throws IOException if {@code out} could not be written to
      */
-    private String getDataAttributes()
+    private void writeSeparated(Appendable out, Set<String> items) throws IOException
     {
-        return dataAttributes
-            .entrySet()
-            .stream()
-            .filter(da -> da.getValue() != null)
-            .map(daa -> StringAdapter.prefixAndSuffix("data-", daa.getKey(), "=\"")
-                + StringAdapter.suffix(StringEscapeUtils.escapeHtml4(daa.getValue()), QTM))
-            .collect(Collectors.joining(SPACE));
+        boolean first = true;
+
+        for (String item : items)
+        {
+            if (item == null)
+            {
+                continue;
+            }
+
+            if (!first)
+            {
+                out.append(SPACE);
+            }
+
+            out.append(item);
+            first = false;
+        }
+    }
+
+    /**
+     * Write the data-attributes, separated by a space
+     * 
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
+     */
+    private void writeDataAttributes(Appendable out) throws IOException
+    {
+        boolean first = true;
+
+        for (Map.Entry<String, String> dataAttribute : dataAttributes.entrySet())
+        {
+            if (dataAttribute.getValue() == null)
+            {
+                continue;
+            }
+
+            if (!first)
+            {
+                out.append(SPACE);
+            }
+
+            out
+                .append("data-")
+                .append(dataAttribute.getKey())
+                .append("=\"")
+                .append(StringEscapeUtils.escapeHtml4(dataAttribute.getValue()))
+                .append(QTM);
+            first = false;
+        }
     }
 
 }
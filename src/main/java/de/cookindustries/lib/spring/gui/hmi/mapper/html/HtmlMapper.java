@@ -7,15 +7,19 @@
  */
 package de.cookindustries.lib.spring.gui.hmi.mapper.html;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 
 import de.cookindustries.lib.spring.gui.hmi.container.AudioContainer;
 import de.cookindustries.lib.spring.gui.hmi.container.BurgerContainer;
@@ -127,6 +131,9 @@ public final class HtmlMapper
 
     private static final DecimalFormat DOUBLE_FORMATER         = new DecimalFormat("0.000", DecimalFormatSymbols.getInstance(Locale.ROOT));
 
+    /** pre-rendered HTML of immutable containers, held as long as the container itself is reachable */
+    private static final Map<Container, String> PRERENDERED = new ConcurrentReferenceHashMap<>(16, ReferenceType.WEAK);
+
     /**
      * Internal constructor
      */
@@ -148,6 +155,23 @@ public final class HtmlMapper
         return mapper.render(container);
     }
 
+    /**
+     * Map a {@link Container} to its HTML represantation and write it to {@code out}.
+     * <p>
+     * Every element is written once directly to {@code out}, instead of being copied into the HTML of each of its parents.
+     * 
+     * @param container to map
+     * @param out to write the resulting HTML to
+     * @throws IOException if {@code out} could not be written to
+     * @since 3.7.0
+     */
+    public static void map(Container container, Appendable out) throws IOException
+    {
+        HtmlMapper mapper = new HtmlMapper();
+
+        mapper.write(container, out);
+    }
+
     /**
      * Map a list of {@link Container}s to a single HTML String
      * 
@@ -164,6 +188,19 @@ public final class HtmlMapper
             .toList();
     }
 
+    /**
+     * Render a {@link Container} once and reuse the HTML whenever the same instance is mapped again.
+     * <p>
+     * Only immutable {@code Container}s, that are shared between results, should be pre-rendered.
+     * 
+     * @param container to pre-render
+     * @since 3.7.0
+     */
+    public static void prerender(Container container)
+    {
+        PRERENDERED.put(container, new HtmlMapper().render(container));
+    }
+
     /**
      * A temporary result for not yet implemented objects.
      * <p>
@@ -197,34 +234,72 @@ public final class HtmlMapper
      * @return the resulting HTML String or
      */
     private String render(Container container)
+    {
+        StringBuilder stb = new StringBuilder();
+
+        try
+        {
+            write(container, stb);
+        }
+        catch (IOException ex)
+        {
+            // a StringBuilder does not throw
+            throw new UncheckedIOException(ex);
+        }
+
+        return stb.toString();
+    }
+
+    /**
+     * Write a {@link Container} as HTML component to {@code out}.
+     * <p>
+     * Containers holding other containers write their opening tag, their children and their closing tag one after another, so every
+     * element is written once, no matter how deep it is nested.
+     * 
+     * @param container to write
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
+     */
+    private void write(Container container, Appendable out) throws IOException
     {
         if (container == null)
         {
-            return "";
+            return;
         }
 
-        return switch (container.getType())
+        String prerendered = PRERENDERED.get(container);
+
+        if (prerendered != null)
         {
-            case AUDIO -> render((AudioContainer) container);
-            case BURGER -> render((BurgerContainer) container);
-            case BUTTON -> render((Button) container);
-            case BUTTON_BAR -> render((ButtonBarContainer) container);
-            case BUTTON_ICON -> render((ButtonIcon) container);
-            case CONTENT -> render((ContentContainer) container);
-            case EMPTY -> "";
-            case FORM -> render((FormContainer) container);
-            case HEADING -> render((HeadingContainer) container);
-            case HIDDEN -> render((HiddenContainer) container);
-            case IMAGE -> render((ImageContainer) container);
-            case LINK -> render((LinkContainer) container);
-            case MODAL -> render((ModalContainer) container);
-            case SPLITTED -> render((SplittedContainer) container);
-            case SVG -> render((SVGContainer) container);
-            case TAB -> render((TabContainer) container);
-            case TABLE -> render((TableContainer) container);
-            case TABLE_ROW -> render((TableRowContainer) container);
-            case TEXT -> render((TextContainer) container);
-        };
+            out.append(prerendered);
+
+            return;
+        }
+
+        switch (container.getType())
+        {
+            case AUDIO -> out.append(render((AudioContainer) container));
+            case BURGER -> out.append(render((BurgerContainer) container));
+            case BUTTON -> out.append(render((Button) container));
+            case BUTTON_BAR -> write((ButtonBarContainer) container, out);
+            case BUTTON_ICON -> out.append(render((ButtonIcon) container));
+            case CONTENT -> write((ContentContainer) container, out);
+            case EMPTY -> {
+                // nothing to write
+            }
+            case FORM -> write((FormContainer) container, out);
+            case HEADING -> out.append(render((HeadingContainer) container));
+            case HIDDEN -> write((HiddenContainer) container, out);
+            case IMAGE -> out.append(render((ImageContainer) container));
+            case LINK -> write((LinkContainer) container, out);
+            case MODAL -> write((ModalContainer) container, out);
+            case SPLITTED -> write((SplittedContainer) container, out);
+            case SVG -> out.append(render((SVGContainer) container));
+            case TAB -> out.append(render((TabContainer) container));
+            case TABLE -> write((TableContainer) container, out);
+            case TABLE_ROW -> write((TableRowContainer) container, out);
+            case TEXT -> out.append(render((TextContainer) container));
+        }
     }
 
     private String render(AudioContainer audioContainer)
@@ -342,27 +417,30 @@ public final class HtmlMapper
             .html();
     }
 
-    private String render(ButtonBarContainer buttonBarContainer)
+    private void write(ButtonBarContainer buttonBarContainer, Appendable out) throws IOException
     {
-        return HtmlElement
-            .builder()
-            .tag(TAG_DIV)
-            .attribute(
-                Attribute
-                    .builder()
-                    .name(ATT_ID)
-                    .value(buttonBarContainer.getUid())
-                    .build())
-            .classes(buttonBarContainer.getClasses())
-            .dataAttributes(buttonBarContainer.getDataAttributes())
-            .contents(
-                buttonBarContainer
-                    .getButtons()
-                    .stream()
-                    .map(this::render)
-                    .toList())
-            .build()
-            .html();
+        HtmlElement elementMapper =
+            HtmlElement
+                .builder()
+                .tag(TAG_DIV)
+                .attribute(
+                    Attribute
+                        .builder()
+                        .name(ATT_ID)
+                        .value(buttonBarContainer.getUid())
+                        .build())
+                .classes(buttonBarContainer.getClasses())
+                .dataAttributes(buttonBarContainer.getDataAttributes())
+                .build();
+
+        elementMapper.open(out);
+
+        for (Button button : buttonBarContainer.getButtons())
+        {
+            out.append(render(button));
+        }
+
+        elementMapper.close(out);
     }
 
     private String render(ButtonIcon buttonIcon)
@@ -415,15 +493,8 @@ public final class HtmlMapper
         return elementMapper.html();
     }
 
-    private String render(ContentContainer contentContainer)
+    private void write(ContentContainer contentContainer, Appendable out) throws IOException
     {
-        String      content       =
-            contentContainer
-                .getContents()
-                .stream()
-                .map(this::render)
-                .collect(Collectors.joining());
-
         HtmlElement elementMapper =
             HtmlElement
                 .builder()
@@ -436,21 +507,20 @@ public final class HtmlMapper
                         .build())
                 .classes(contentContainer.getClasses())
                 .dataAttributes(contentContainer.getDataAttributes())
-                .content(content)
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+
+        for (Container content : contentContainer.getContents())
+        {
+            write(content, out);
+        }
+
+        elementMapper.close(out);
     }
 
-    private String render(FormContainer formContainer)
+    private void write(FormContainer formContainer, Appendable out) throws IOException
     {
-        String      content       =
-            formContainer
-                .getInputs()
-                .stream()
-                .map(i -> render(i, formContainer.getUid()))
-                .collect(Collectors.joining());
-
         HtmlElement elementMapper =
             HtmlElement
                 .builder()
@@ -465,13 +535,19 @@ public final class HtmlMapper
                 .clazz(formContainer.getDirection() == Direction.HORIZONTAL ? "form-container-row" : "form-container-column")
                 .classes(formContainer.getClasses())
                 .dataAttributes(formContainer.getDataAttributes())
-                .content(content)
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+
+        for (Input input : formContainer.getInputs())
+        {
+            out.append(render(input, formContainer.getUid()));
+        }
+
+        elementMapper.close(out);
     }
 
-    private String render(HiddenContainer hiddenContainer)
+    private void write(HiddenContainer hiddenContainer, Appendable out) throws IOException
     {
         HtmlElement elementMapper =
             HtmlElement
@@ -486,10 +562,11 @@ public final class HtmlMapper
                 .clazz(CLASS_HIDDEN)
                 .classes(hiddenContainer.getClasses())
                 .dataAttributes(hiddenContainer.getDataAttributes())
-                .content(render(hiddenContainer.getChild()))
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+        write(hiddenContainer.getChild(), out);
+        elementMapper.close(out);
     }
 
     private String render(ImageContainer imageContainer)
@@ -519,7 +596,7 @@ public final class HtmlMapper
         return elementMapper.html();
     }
 
-    private String render(LinkContainer linkContainer)
+    private void write(LinkContainer linkContainer, Appendable out) throws IOException
     {
         HtmlElement elementMapper =
             HtmlElement
@@ -546,13 +623,14 @@ public final class HtmlMapper
                 .classes(linkContainer.getClasses())
                 .dataAttributes(linkContainer.getDataAttributes())
                 .dataAttribute(DATA_ATT_TOOLTIP, linkContainer.getTooltip().isBlank() ? null : htmlEscape(linkContainer.getTooltip()))
-                .content(render(linkContainer.getContent()))
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+        write(linkContainer.getContent(), out);
+        elementMapper.close(out);
     }
 
-    private String render(ModalContainer modalContainer)
+    private void write(ModalContainer modalContainer, Appendable out) throws IOException
     {
         List<Button> buttons = new ArrayList<>();
 
@@ -632,17 +710,15 @@ public final class HtmlMapper
                 .classes(modalContainer.getClasses())
                 .dataAttribute("close-on-overlay", modalContainer.getCloseOnOverlayClick().toString())
                 .dataAttributes(modalContainer.getDataAttributes())
-                .content(render(modalInlay))
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+        write(modalInlay, out);
+        elementMapper.close(out);
     }
 
-    private String render(SplittedContainer splittedContainer)
+    private void write(SplittedContainer splittedContainer, Appendable out) throws IOException
     {
-        String      head          = render(splittedContainer.getHead());
-        String      tail          = render(splittedContainer.getTail());
-
         HtmlElement elementMapper =
             HtmlElement
                 .builder()
@@ -657,11 +733,12 @@ public final class HtmlMapper
                 .clazz("justify-content-between")
                 .classes(splittedContainer.getClasses())
                 .dataAttributes(splittedContainer.getDataAttributes())
-                .content(head)
-                .content(tail)
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+        write(splittedContainer.getHead(), out);
+        write(splittedContainer.getTail(), out);
+        elementMapper.close(out);
     }
 
     private String render(SVGContainer svgContainer)
@@ -709,7 +786,7 @@ public final class HtmlMapper
         return elementNotYetImplemented("tabbed container");
     }
 
-    private String render(TableContainer table)
+    private void write(TableContainer table, Appendable out) throws IOException
     {
         List<String> headColumns   =
             table
@@ -724,13 +801,6 @@ public final class HtmlMapper
                     .html())
                 .toList();
 
-        List<String> rows          =
-            table
-                .getRows()
-                .stream()
-                .map(this::render)
-                .toList();
-
         HtmlElement  tableHead     =
             HtmlElement
                 .builder()
@@ -746,7 +816,6 @@ public final class HtmlMapper
                 .tag(TAG_DIV)
                 .clazz("table-body")
                 .clazz("table-" + table.getName() + "-body")
-                .contents(rows)
                 .build();
 
         HtmlElement  elementMapper =
@@ -761,29 +830,31 @@ public final class HtmlMapper
                         .build())
                 .classes(table.getClasses())
                 .dataAttributes(table.getDataAttributes())
-                .content(tableHead.html())
-                .content(tableBody.html())
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+        tableHead.html(out);
+        tableBody.open(out);
+
+        for (Container row : table.getRows())
+        {
+            write(row, out);
+        }
+
+        tableBody.close(out);
+        elementMapper.close(out);
     }
 
-    private String render(TableRowContainer row)
+    private void write(TableRowContainer row, Appendable out) throws IOException
     {
-        List<String> cells         =
-            row
-                .getCells()
-                .stream()
-                .map(tr -> HtmlElement
-                    .builder()
-                    .tag(TAG_DIV)
-                    .clazz("table-cell")
-                    .content(render(tr))
-                    .build()
-                    .html())
-                .toList();
+        HtmlElement cell          =
+            HtmlElement
+                .builder()
+                .tag(TAG_DIV)
+                .clazz("table-cell")
+                .build();
 
-        HtmlElement  elementMapper =
+        HtmlElement elementMapper =
             HtmlElement
                 .builder()
                 .tag(TAG_DIV)
@@ -797,10 +868,18 @@ public final class HtmlMapper
                 .clazz("table-" + row.getTableName())
                 .classes(row.getClasses())
                 .dataAttributes(row.getDataAttributes())
-                .contents(cells)
                 .build();
 
-        return elementMapper.html();
+        elementMapper.open(out);
+
+        for (Container content : row.getCells())
+        {
+            cell.open(out);
+            write(content, out);
+            cell.close(out);
+        }
+
+        elementMapper.close(out);
     }
 
     private String render(TextContainer textContainer)
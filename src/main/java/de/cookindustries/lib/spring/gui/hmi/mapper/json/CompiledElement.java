@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.List;
+import java.util.Map;
+
+import de.cookindustries.lib.spring.gui.hmi.container.ContainerType;
+import de.cookindustries.lib.spring.gui.hmi.input.InputType;
+import de.cookindustries.lib.spring.gui.hmi.svg.SVGPathCommandType;
+import de.cookindustries.lib.spring.gui.hmi.svg.SVGType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * An immutable mapping plan for a {@link PseudoElement}, created by the {@link TemplateCompiler}.
+ * <p>
+ * All type names are resolved to their enum constants and all {@code uid}s, {@code classes}, {@code attributes} and {@code parameters} are
+ * pre-classified into {@link ValueSlot}s. Values without any placeholder are resolved completely, so the {@link JsonMapper} only has to
+ * evaluate the dynamic parts of a template per mapping run.
+ * <p>
+ * A plan does not reference the {@link PseudoElement} it was compiled from, so only the plan stays in memory.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Getter
+@Builder(toBuilder = true, access = AccessLevel.PACKAGE)
+public final class CompiledElement
+{
+
+    /**
+     * The raw {@code uid} as written in the template, can be {@code null}
+     */
+    private final String                 uid;
+
+    /**
+     * The classified {@code uid}, {@code null} if no {@code uid} is set. Literal {@code uid}s are already sanitized.
+     */
+    private final ValueSlot              uidSlot;
+
+    /**
+     * The raw type name
+     */
+    @NonNull
+    private final String                 type;
+
+    /**
+     * The resolved {@link InternalElementType}, {@code null} if {@link #type} is no internal type
+     */
+    private final InternalElementType    internalType;
+
+    /**
+     * The resolved {@link ContainerType}, {@code null} if {@link #type} is no container
+     */
+    private final ContainerType          containerType;
+
+    /**
+     * The resolved {@link InputType}, {@code null} if {@link #type} is no input
+     */
+    private final InputType              inputType;
+
+    /**
+     * The resolved {@link SVGType}, {@code null} if {@link #type} is no svg element
+     */
+    private final SVGType                svgType;
+
+    /**
+     * The resolved {@link SVGPathCommandType}, {@code null} if {@link #type} is no svg path command
+     */
+    private final SVGPathCommandType     pathCommandType;
+
+    /**
+     * Whether {@link #type} is {@code INPUT_VALUE}
+     */
+    private final boolean                inputValue;
+
+    /**
+     * The classified classes, blank literals are already removed
+     */
+    @NonNull
+    private final List<ValueSlot>        classes;
+
+    /**
+     * The resolved classes, if no class is a placeholder, {@code null} otherwise
+     */
+    private final List<String>           staticClasses;
+
+    /**
+     * The classified attributes
+     */
+    @NonNull
+    private final List<AttributeSlot>    attributes;
+
+    /**
+     * The resolved attributes, if no attribute contains a placeholder, {@code null} otherwise
+     */
+    private final Map<String, String>    staticAttributes;
+
+    /**
+     * The classified parameters
+     */
+    @NonNull
+    private final Map<String, ValueSlot> parameters;
+
+    /**
+     * The compiled children
+     */
+    @NonNull
+    private final List<CompiledElement>  children;
+
+    /**
+     * The number of elements in this subtree, including this element
+     */
+    private final int                    nodeCount;
+
+    /**
+     * Whether this subtree holds no placeholder, no {@code active} parameter and no source binding, and all of its {@code uid}s are
+     * literals
+     */
+    private final boolean                constant;
+
+    /**
+     * The pre-mapped result of this subtree, {@code null} if it is not {@link #constant} or could not be folded
+     */
+    private final FoldedSubtree          folded;
+
+    /**
+     * The sanitized path of the {@code COMPONENT}, if this is the root of a {@link TemplateCompiler#inline inlined} {@code template},
+     * {@code null} otherwise
+     */
+    private final String                 includePath;
+
+    /**
+     * The {@link TemplateRenderers#fingerprint(PseudoElement) fingerprint} of the {@code template}, if this is the root plan of one,
+     * {@code 0} otherwise
+     */
+    private final long                   fingerprint;
+
+    /**
+     * Create a copy of this plan with a fixed, already resolved {@code uid}.
+     *
+     * @param resolvedUid to set
+     * @return the copy
+     */
+    CompiledElement withUid(String resolvedUid)
+    {
+        return toBuilder()
+            .uid(resolvedUid)
+            .uidSlot(ValueSlot.ofValueOnly(resolvedUid, TemplateCompiler.sanitizeUid(resolvedUid)))
+            .folded(null)
+            .build();
+    }
+
+    /**
+     * A compiled attribute.
+     *
+     * @param key the classified key, a literal key is already sanitized
+     * @param value the classified value, a literal value is already stripped of quotes
+     */
+    public record AttributeSlot(ValueSlot key, ValueSlot value)
+    {
+    }
+}
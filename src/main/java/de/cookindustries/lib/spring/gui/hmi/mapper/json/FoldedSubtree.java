@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.List;
+
+import de.cookindustries.lib.spring.gui.function.AbsFunctionCall;
+import de.cookindustries.lib.spring.gui.hmi.container.Container;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenSource;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The pre-mapped result of a {@link CompiledElement#isConstant() constant} subtree.
+ * <p>
+ * The {@link Container}s are mapped once when the {@code template} is loaded and are spliced into every result by reference, so they
+ * must never be mutated.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class FoldedSubtree
+{
+
+    /**
+     * The mapped containers
+     */
+    private final List<Container>       containers;
+
+    /**
+     * The functions collected while mapping the subtree
+     */
+    private final List<AbsFunctionCall> functions;
+
+    /**
+     * All {@code uid}s of the subtree
+     */
+    private final List<String>          uids;
+
+    /**
+     * Check if the folded result can be used with the {@code token}s of a mapping run.
+     *
+     * @param tokens of the mapping run
+     * @return {@code true} if no {@code uid} of the subtree is deactivated
+     */
+    boolean isActive(TokenSource tokens)
+    {
+        for (String uid : uids)
+        {
+            if (!tokens.isUidActive(uid))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
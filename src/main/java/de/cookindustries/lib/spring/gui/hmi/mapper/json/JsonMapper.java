@@ -7,23 +7,25 @@
  */
 package de.cookindustries.lib.spring.gui.hmi.mapper.json;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,12 +80,17 @@ import de.cookindustries.lib.spring.gui.hmi.input.Textbox;
 import de.cookindustries.lib.spring.gui.hmi.input.Textfield;
 import de.cookindustries.lib.spring.gui.hmi.input.util.InputValue;
 import de.cookindustries.lib.spring.gui.hmi.input.util.InputValueList;
+import de.cookindustries.lib.spring.gui.hmi.mapper.html.HtmlMapper;
 import de.cookindustries.lib.spring.gui.hmi.mapper.exception.JsonMapperException;
 import de.cookindustries.lib.spring.gui.hmi.mapper.exception.JsonParsingException;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.CompiledElement.AttributeSlot;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappable;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableDissector;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableList;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableTable;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenScope;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenSource;
 import de.cookindustries.lib.spring.gui.hmi.svg.SVGElement;
 import de.cookindustries.lib.spring.gui.hmi.svg.SVGGroup;
 import de.cookindustries.lib.spring.gui.hmi.svg.SVGLine;
@@ -103,9 +110,12 @@ import de.cookindustries.lib.spring.gui.hmi.svg.SVGPathCommandType;
 import de.cookindustries.lib.spring.gui.hmi.svg.SVGText;
 import de.cookindustries.lib.spring.gui.hmi.svg.SVGType;
 import de.cookindustries.lib.spring.gui.hmi.util.TemplateFileCache;
+import de.cookindustries.lib.spring.gui.hmi.util.UidStrategies;
+import de.cookindustries.lib.spring.gui.hmi.util.UidStrategy;
 import de.cookindustries.lib.spring.gui.i18n.AbsTranslationProvider;
 import de.cookindustries.lib.spring.gui.i18n.BasicText;
 import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
+import de.cookindustries.lib.spring.gui.util.StringAdapter;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.NonNull;
@@ -215,56 +225,72 @@ public class JsonMapper
     private static final String                    INDICATOR_FUNCTION_PLACEHOLDER = "$$function$";
 
     private static final StaticTranslationProvider NOOP_TRANSLATION_PROVIDER      = new StaticTranslationProvider();
-
-    private static final ContainerType[]           CONTENT_CONTAINER_CHILDREN     =
-        {
-            ContainerType.AUDIO,
-            ContainerType.BUTTON,
-            ContainerType.BURGER,
-            ContainerType.BUTTON_BAR,
-            ContainerType.BUTTON_ICON,
-            ContainerType.CONTENT,
-            ContainerType.FORM,
-            ContainerType.HIDDEN,
-            ContainerType.IMAGE,
-            ContainerType.LINK,
-            ContainerType.SPLITTED,
-            ContainerType.SVG,
-            ContainerType.TAB,
-            ContainerType.TABLE,
-            ContainerType.TEXT,
-            ContainerType.HEADING,
-            ContainerType.EMPTY
-        };
-
-    private static final ContainerType[]           LINK_CONTAINER_CHILDREN        = {ContainerType.TEXT};
-
-    private static final ContainerType[]           TABLE_ROW_CONTAINER_CHILDREN   =
-        {
-            ContainerType.AUDIO,
-            ContainerType.BUTTON,
-            ContainerType.BURGER,
-            ContainerType.BUTTON_BAR,
-            ContainerType.BUTTON_ICON,
-            ContainerType.CONTENT,
-            ContainerType.HIDDEN,
-            ContainerType.IMAGE,
-            ContainerType.LINK,
-            ContainerType.SPLITTED,
-            ContainerType.SVG,
-            ContainerType.TEXT,
-            ContainerType.EMPTY
-        };
-
-    private static final ContainerType[]           MODAL_CONTAINER_CHILDREN       =
-        {
-            ContainerType.FORM,
-            ContainerType.IMAGE,
-            ContainerType.LINK,
-            ContainerType.TEXT,
-            ContainerType.HEADING,
-            ContainerType.TABLE
-        };
+    private static final FlatMappableDissector     NOOP_DISSECTOR                 = new FlatMappableDissector(NOOP_TRANSLATION_PROVIDER);
+    private static final String                    FOLD_PATH                      = "folded";
+
+    private static final AtomicLong                MAPPER_IDS                     = new AtomicLong();
+
+    /**
+     * The default minimum number of elements of independent subtrees to map them in parallel, if a {@code executor} is set
+     */
+    public static final int                        DEFAULT_PARALLEL_THRESHOLD     = 256;
+
+    private static final Set<ContainerType>        CONTENT_CONTAINER_CHILDREN     =
+        Collections.unmodifiableSet(
+            EnumSet.of(
+                ContainerType.AUDIO,
+                ContainerType.BUTTON,
+                ContainerType.BURGER,
+                ContainerType.BUTTON_BAR,
+                ContainerType.BUTTON_ICON,
+                ContainerType.CONTENT,
+                ContainerType.FORM,
+                ContainerType.HIDDEN,
+                ContainerType.IMAGE,
+                ContainerType.LINK,
+                ContainerType.SPLITTED,
+                ContainerType.SVG,
+                ContainerType.TAB,
+                ContainerType.TABLE,
+                ContainerType.TEXT,
+                ContainerType.HEADING,
+                ContainerType.EMPTY));
+
+    private static final Set<ContainerType>        LINK_CONTAINER_CHILDREN        =
+        Collections.unmodifiableSet(EnumSet.of(ContainerType.TEXT));
+
+    private static final Set<ContainerType>        TABLE_ROW_CONTAINER_CHILDREN   =
+        Collections.unmodifiableSet(
+            EnumSet.of(
+                ContainerType.AUDIO,
+                ContainerType.BUTTON,
+                ContainerType.BURGER,
+                ContainerType.BUTTON_BAR,
+                ContainerType.BUTTON_ICON,
+                ContainerType.CONTENT,
+                ContainerType.HIDDEN,
+                ContainerType.IMAGE,
+                ContainerType.LINK,
+                ContainerType.SPLITTED,
+                ContainerType.SVG,
+                ContainerType.TEXT,
+                ContainerType.EMPTY));
+
+    private static final Set<ContainerType>        MODAL_CONTAINER_CHILDREN       =
+        Collections.unmodifiableSet(
+            EnumSet.of(
+                ContainerType.FORM,
+                ContainerType.IMAGE,
+                ContainerType.LINK,
+                ContainerType.TEXT,
+                ContainerType.HEADING,
+                ContainerType.TABLE));
+
+    private static final Set<ContainerType>        TABLE_CONTAINER_CHILDREN       =
+        Collections.unmodifiableSet(EnumSet.of(ContainerType.TABLE_ROW));
+
+    private static final Set<ContainerType>        ALL_CONTAINER_TYPES            =
+        Collections.unmodifiableSet(EnumSet.allOf(ContainerType.class));
 
     @NonNull
     private final TemplateFileCache                templateFileCache;
@@ -286,12 +312,14 @@ public class JsonMapper
     @Singular
     private final List<TokenMap>                   tokenMaps;
 
-    private final Set<TokenMap>                    finalizedTokenMaps             = new HashSet<>();
-
-    private final Map<Integer, TokenMap>           tempTokenMaps                  = new HashMap<>();
+    private final TokenScope                       tokenScope                     = new TokenScope();
 
     private final List<AbsFunctionCall>            functions                      = new ArrayList<>();
 
+    private final AtomicInteger                    failures                       = new AtomicInteger();
+
+    private final Map<String, MappingTimings>      componentTimings               = new HashMap<>();
+
     private final String                           uuid                           = nextId();
 
     @Default
@@ -299,7 +327,29 @@ public class JsonMapper
 
     @NonNull
     @Default
-    private final ContainerType[]                  depth0AllowedTypes             = ContainerType.values();
+    private final Set<ContainerType>               depth0AllowedTypes             = ALL_CONTAINER_TYPES;
+
+    private final Executor                         executor;
+
+    @NonNull
+    @Default
+    private final UidStrategy                      uidStrategy                    = UidStrategies.current();
+
+    private final MappingTrace                     trace;
+
+    @Default
+    private final int                              parallelThreshold              = DEFAULT_PARALLEL_THRESHOLD;
+
+    @NonNull
+    @Default
+    private final List<String>                     includeChain                   = List.of();
+
+    @NonNull
+    @Default
+    private final TemplateRenderers                renderers                      = TemplateRenderers.installed();
+
+    @Default
+    private final boolean                          lazyDissection                 = false;
 
     /**
      * Run the mapping process.
@@ -308,12 +358,14 @@ public class JsonMapper
      */
     public MapperResult map()
     {
-        long          start = System.nanoTime();
+        long            start = System.nanoTime();
 
-        PseudoElement root  = templateFileCache.getTemplateTo(srcPath);
+        CompiledElement root  = templateFileCache.getCompiledTemplateTo(srcPath);
 
         LOG.debug("[{}]: ### start ###", uuid);
 
+        List<TokenMap> finalizedTokenMaps = new ArrayList<>();
+
         tokenMaps
             .stream()
             .filter(Objects::nonNull)
@@ -325,109 +377,222 @@ public class JsonMapper
                 tm -> {
                     tm
                         .getObjectsToDissect()
-                        .forEach(etd -> finalizedTokenMaps.add(flatMappableDissector.dissect(etd, tm.getPresedence(), locale)));
+                        .forEach(etd -> finalizedTokenMaps.add(dissect(etd, tm.getPresedence())));
 
                     finalizedTokenMaps.add(tm);
                 });
 
-        LOG.trace("[{}]: map content in [{}] from [{}] with [{}] token maps", uuid, locale.toLanguageTag(),
-            translationProvider.getClass().getSimpleName(), finalizedTokenMaps.size() + tempTokenMaps.size());
+        tokenScope.setBase(tokenScope.getBase().extend(finalizedTokenMaps));
 
-        if (LOG.isTraceEnabled())
-        {
-            finalizedTokenMaps
-                .stream()
-                .map(TokenMap::toString)
-                .map(String::lines)
-                .forEach(stream -> stream.forEach(line -> LOG.trace("[{}]: {}", uuid, line)));
-        }
+        trace(0, "map content in [{}] from [{}] with token maps {}", locale, translationProvider.getClass(), finalizedTokenMaps);
+
+        long            dissected  = System.nanoTime();
+
+        List<Container> containers = UidStrategies.callWith(uidStrategy, () -> renderOrTransform(root));
 
-        long end    = System.nanoTime();
-        long time   = end - start;
-        long timeMs = time / 1000000L;
+        long            end        = System.nanoTime();
+        long            timeMs     = (end - start) / 1000000L;
 
         LOG.debug("[{}]: ### done ### ... mapping took [{}]ms", uuid, timeMs);
 
         MapperResult result =
             MapperResult
                 .builder()
-                .containers(transform(root))
+                .containers(containers)
                 .functions(functions)
                 .time(timeMs)
+                .timings(
+                    MappingTimings
+                        .builder()
+                        .dissection(dissected - start)
+                        .transform(end - dissected)
+                        .components(componentTimings)
+                        .build())
+                .trace(trace)
                 .build();
 
         return result;
     }
 
+    /**
+     * Map a {@link CompiledElement#isConstant() constant} subtree once, to splice the result into every later mapping run.
+     * <p>
+     * The rendered HTML of the resulting {@link Container}s is {@link HtmlMapper#prerender(Container) pre-rendered} as well.
+     * 
+     * @param element the root of the constant subtree
+     * @param templateFileCache the cache the {@code template} is loaded by
+     * @return the folded subtree, or {@code null} if the subtree could not be mapped without failure
+     */
+    static FoldedSubtree fold(CompiledElement element, TemplateFileCache templateFileCache)
+    {
+        JsonMapper      mapper     =
+            JsonMapper
+                .builder()
+                .templateFileCache(templateFileCache)
+                .flatMappableDissector(NOOP_DISSECTOR)
+                .srcPath(FOLD_PATH)
+                .build();
+
+        List<Container> containers = mapper.transform(element);
+
+        if (mapper.failures.get() > 0)
+        {
+            LOG.debug("[{}]: could not fold constant subtree [{}]", mapper.uuid, element.getUid());
+
+            return null;
+        }
+
+        List<String> uids = new ArrayList<>(element.getNodeCount());
+
+        collectUids(element, uids);
+        containers.forEach(HtmlMapper::prerender);
+
+        return new FoldedSubtree(List.copyOf(containers), List.copyOf(mapper.functions), List.copyOf(uids));
+    }
+
+    private static void collectUids(CompiledElement element, List<String> uids)
+    {
+        uids.add(element.getUidSlot().getText());
+
+        element.getChildren().forEach(child -> collectUids(child, uids));
+    }
+
     /*
      * --- > utility functions -------------------------------------------------------------------------------------------------------------
      */
 
     /**
-     * Create a new id for this mapper.
+     * Record an event on the {@link #trace}, if tracing is enabled for this request.
      * 
-     * @return a id build from {@code day-of-month} {@code month-value / 2} {@code 5-digit random number}
+     * @param depth the current depth in the tree
+     * @param message to record
      */
-    private String nextId()
+    private void trace(int depth, String message)
     {
-        LocalDate now    = LocalDate.now();
+        if (trace != null)
+        {
+            trace.record(uuid, depth, message);
+        }
+    }
 
-        int       d      = now.getDayOfMonth();
-        int       m      = now.getMonthValue();
-        int       mDigit = (m + 1) / 2;
-        int       rand   =
-            ThreadLocalRandom
-                .current()
-                .nextInt(0, 100_000);
+    /**
+     * Record an event on the {@link #trace}, if tracing is enabled for this request.
+     * 
+     * @param depth the current depth in the tree
+     * @param message to record, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     */
+    private void trace(int depth, String message, Object arg)
+    {
+        if (trace != null)
+        {
+            trace.record(uuid, depth, message, arg);
+        }
+    }
 
-        return String.format("%02d%d%05d", d, mDigit, rand);
+    /**
+     * Record an event on the {@link #trace}, if tracing is enabled for this request.
+     * 
+     * @param depth the current depth in the tree
+     * @param message to record, with {@code {}} placeholders for the arguments
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     */
+    private void trace(int depth, String message, Object arg1, Object arg2)
+    {
+        if (trace != null)
+        {
+            trace.record(uuid, depth, message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Record an event on the {@link #trace}, if tracing is enabled for this request.
+     * 
+     * @param depth the current depth in the tree
+     * @param message to record, with {@code {}} placeholders for the arguments
+     * @param arg1 the first argument
+     * @param arg2 the second argument
+     * @param arg3 the third argument
+     */
+    private void trace(int depth, String message, Object arg1, Object arg2, Object arg3)
+    {
+        if (trace != null)
+        {
+            trace.record(uuid, depth, message, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Create a new id for this mapper.
+     * 
+     * @return the next number of a process wide counter
+     */
+    private String nextId()
+    {
+        return Long.toString(MAPPER_IDS.incrementAndGet());
     }
 
-    private Container throwNotSupported(PseudoElement element, int depth)
+    private Container throwNotSupported(CompiledElement element, int depth)
     {
         throw new JsonParsingException(element.getUid(), depth, this.count,
             String.format("container type [%s] is not supported", element.getType()));
     }
 
     /**
-     * Resolve the {@code uid} on a {@link PseudoElement}.
+     * Resolve the {@code uid} on a {@link CompiledElement}.
      * <p>
      * {@code Uid}s can only contain letters, numbers, '-' and '_'.
      * 
      * @param element to resolve
      * @param depth the current depth in the tree
-     * @return the resolved {@code uid} or 'unresolvable-uid-xxx' when no value replacement could be performed or a {@code uuid} in the form
-     *         {@code randomid-xxxx-xxxx-xxxx-xxxxxxxxxxxx}, if {@code uid} is {@code null}
+     * @return the resolved {@code uid} or 'unresolvable-uid-xxx' when no value replacement could be performed or {@code randomid-}
+     *         followed by the next {@code uid} of the {@link #uidStrategy}, if {@code uid} is {@code null}
      */
-    private String resolveUid(PseudoElement element, int depth)
+    private String resolveUid(CompiledElement element, int depth)
     {
-        String sourceUid = element.getUid();
-        String resultUid;
+        ValueSlot sourceUid = element.getUidSlot();
+        String    resultUid;
 
         if (sourceUid == null)
         {
-            String random = UUID.randomUUID().toString();
-            resultUid = RANDOM_ID + random.substring(8);
+            resultUid = RANDOM_ID + "-" + uidStrategy.nextUid();
         }
-        else if (sourceUid.startsWith(INDICATOR_VALUE_PLACEHOLDER))
+        else if (sourceUid.getType() == SlotType.VALUE)
         {
-            resultUid = handlePossiblePlaceholder(sourceUid, String.class, depth);
+            resultUid = extractFromTokenMapsAsValue(sourceUid.getKey(), String.class);
 
             if (Objects.isNull(resultUid))
             {
-                LOG.warn("could not resolve uid key [{}] in [{}]", sourceUid, srcPath);
+                LOG.warn("could not resolve uid key [{}] in [{}]", sourceUid.getRaw(), srcPath);
 
-                resultUid = "unresolvable-uid-" + sourceUid.substring(INDICATOR_VALUE_PLACEHOLDER.length());
+                resultUid = "unresolvable-uid-" + sourceUid.getKey();
             }
+
+            resultUid = sanitizeUid(resultUid);
         }
         else
         {
-            resultUid = sourceUid;
+            resultUid = sourceUid.getText();
         }
 
-        LOG.trace("[{}]:[{}]: resolve uid to [{}]", uuid, depth, resultUid);
+        trace(depth, "resolve uid to [{}]", resultUid);
+
+        return resultUid;
+    }
 
-        return sanitizeUid(resultUid);
+    /**
+     * Resolve the {@code uid} on a {@link CompiledElement} to check its active state.
+     * <p>
+     * No {@code uid} is generated for elements without one, since a generated {@code uid} can never be deactivated.
+     * 
+     * @param element to resolve
+     * @param depth the current depth in the tree
+     * @return the resolved {@code uid}, or {@code null} if {@code element} has no {@code uid}
+     */
+    private String resolveUidForActiveCheck(CompiledElement element, int depth)
+    {
+        return element.getUidSlot() == null ? null : resolveUid(element, depth);
     }
 
     /**
@@ -438,99 +603,104 @@ public class JsonMapper
      */
     private String sanitizeUid(String input)
     {
-        return input
-            .replaceAll("[\s.]", "-")
-            .replaceAll("[^a-zA-Z0-9_-]", DEFAULT_EMPTY_VAL);
+        return StringAdapter.sanitizeUid(input);
     }
 
     /**
-     * Traverse the css classes and replace {@code $$class$} parameters from {@link #finalizedTokenMaps}.
+     * Resolve the css classes and replace {@code $$class$} parameters from {@link #tokenScope}.
      * <p>
      * Not found {@code class}es will be ignored.
      * 
-     * @param classes {@code List} of all classes {@code String}s to traverse
+     * @param element to resolve
      * @param depth the recursive depth count
      * @return a {@code List} of {@code String}s containing the non-altered and the replaced classes
      */
-    private List<String> resolveClasses(List<String> classes, int depth)
+    private List<String> resolveClasses(CompiledElement element, int depth)
     {
-        LOG.trace("[{}]:[{}]: resolve classes {}", uuid, depth, classes);
+        if (element.getStaticClasses() != null)
+        {
+            return element.getStaticClasses();
+        }
 
-        return classes
-            .stream()
-            .map(
-                c -> {
-                    if (c.startsWith(INDICATOR_CLASS_PLACEHOLDER))
-                    {
-                        String key = c.replace(INDICATOR_CLASS_PLACEHOLDER, DEFAULT_EMPTY_VAL);
-                        String text = extractFromTokenMapsAsClass(key);
+        trace(depth, "resolve classes {}", element.getClasses().stream().map(ValueSlot::getRaw).toList());
 
-                        if (text == null)
-                        {
-                            return DEFAULT_EMPTY_VAL;
-                        }
+        List<String> classes = new ArrayList<>(element.getClasses().size());
 
-                        return text;
-                    }
+        for (ValueSlot slot : element.getClasses())
+        {
+            String clazz =
+                slot.getType() == SlotType.CLASS
+                    ? extractFromTokenMapsAsClass(slot.getKey())
+                    : slot.getText();
 
-                    return c;
-                })
-            .filter(Predicate.not(String::isBlank))
-            .collect(Collectors.toList());
+            if (clazz != null && !clazz.isBlank())
+            {
+                classes.add(clazz);
+            }
+        }
+
+        return classes;
     }
 
     /**
-     * Resolve the {@code attributes} on a {@link PseudoElement}.
+     * Resolve the {@code attributes} on a {@link CompiledElement}.
      * 
      * @param element to resolve
      * @param depth the current depth in the tree
      * @return the resolved {@code attributes}
      */
-    private Map<String, String> resolveAttributes(PseudoElement element, int depth)
+    private Map<String, String> resolveAttributes(CompiledElement element, int depth)
     {
-        Map<String, String> sourceAttributes   = element.getAttributes();
+        if (element.getStaticAttributes() != null)
+        {
+            return element.getStaticAttributes();
+        }
+
         Map<String, String> resolvedAttributes = new HashMap<>();
 
-        sourceAttributes
-            .forEach(
-                (key, value) -> {
-                    String resolvedKey = key;
-                    String resolvedValue = value.replace("\"", DEFAULT_EMPTY_VAL);
+        for (AttributeSlot attribute : element.getAttributes())
+        {
+            ValueSlot key           = attribute.key();
+            ValueSlot value         = attribute.value();
+            String    resolvedKey   = key.getText();
+            String    resolvedValue = value.getText();
 
-                    if (key.startsWith(INDICATOR_VALUE_PLACEHOLDER))
-                    {
-                        resolvedKey = handlePossiblePlaceholder(key, String.class, depth);
-                    }
+            if (key.getType() == SlotType.VALUE)
+            {
+                resolvedKey = extractFromTokenMapsAsValue(key.getKey(), String.class);
 
-                    if (Objects.isNull(resolvedKey))
-                    {
-                        LOG.warn("could not resolve attribute key [{}] in [{}]", key, srcPath);
+                if (Objects.isNull(resolvedKey))
+                {
+                    LOG.warn("could not resolve attribute key [{}] in [{}]", key.getRaw(), srcPath);
 
-                        resolvedKey = "unresolveable-key-" + key.substring(INDICATOR_VALUE_PLACEHOLDER.length());
-                    }
+                    resolvedKey = "unresolveable-key-" + key.getKey();
+                }
 
-                    if (value.startsWith(INDICATOR_VALUE_PLACEHOLDER))
-                    {
-                        resolvedValue = handlePossiblePlaceholder(value, String.class, depth);
-                    }
+                resolvedKey = sanitizeUid(resolvedKey);
+            }
 
-                    if (Objects.isNull(resolvedValue))
-                    {
-                        LOG.warn("could not resolve attribute value [{}] in [{}]", key, srcPath);
+            if (value.getType() == SlotType.VALUE)
+            {
+                resolvedValue = extractFromTokenMapsAsValue(value.getKey(), String.class);
 
-                        resolvedValue = "unresolveable-value-" + value.substring(INDICATOR_VALUE_PLACEHOLDER.length());
-                    }
+                if (Objects.isNull(resolvedValue))
+                {
+                    LOG.warn("could not resolve attribute value [{}] in [{}]", value.getRaw(), srcPath);
 
-                    resolvedAttributes.put(sanitizeUid(resolvedKey), resolvedValue);
-                });
+                    resolvedValue = "unresolveable-value-" + value.getKey();
+                }
+            }
 
-        LOG.trace("[{}]:[{}]: resolve attributes {}", uuid, depth, resolvedAttributes);
+            resolvedAttributes.put(resolvedKey, resolvedValue);
+        }
+
+        trace(depth, "resolve attributes {}", resolvedAttributes);
 
         return Collections.unmodifiableMap(resolvedAttributes);
     }
 
     /**
-     * Try to handle a placeholder by fetching from {@code #finalizedTokenMaps} based on {@code key} and {@code expectedType}.
+     * Try to handle a placeholder by fetching from {@link #tokenScope} based on {@code key} and {@code expectedType}.
      * <p>
      * If no value is found, the {@code null} is returned.
      * 
@@ -546,7 +716,7 @@ public class JsonMapper
     }
 
     /**
-     * Tries to handle a placeholder by fetching from {@code finalizedTokenMaps} based on {@code key} and {@code expectedType}.
+     * Tries to handle a placeholder by fetching from {@link #tokenScope} based on {@code key} and {@code expectedType}.
      * <p>
      * If no value is found, the {@code defaultValue} is returned.
      *
@@ -561,7 +731,7 @@ public class JsonMapper
     {
         I value = null;
 
-        LOG.trace("[{}]:[{}]: try resolving placeholder [{}] as [{}]", uuid, depth, key, expectedType.getSimpleName());
+        trace(depth, "try resolving placeholder [{}] as [{}]", key, expectedType);
 
         if (key == null)
         {
@@ -571,7 +741,7 @@ public class JsonMapper
         {
             if (key.startsWith(INDICATOR_TEXT_PLACEHOLDER) && expectedType.equals(String.class))
             {
-                LOG.trace("[{}]:[{}]: resolve as [TEXT]", uuid, depth);
+                trace(depth, "resolve as [TEXT]");
 
                 String keyName = key.substring(INDICATOR_TEXT_PLACEHOLDER.length());
 
@@ -579,7 +749,7 @@ public class JsonMapper
             }
             else if (key.startsWith(INDICATOR_VALUE_PLACEHOLDER))
             {
-                LOG.trace("[{}]:[{}]: resolve as [VALUE]", uuid, depth);
+                trace(depth, "resolve as [VALUE]");
 
                 String keyName = key.substring(INDICATOR_VALUE_PLACEHOLDER.length());
 
@@ -587,7 +757,7 @@ public class JsonMapper
             }
             else if (key.startsWith(INDICATOR_CLASS_PLACEHOLDER))
             {
-                LOG.trace("[{}]:[{}]: resolve as [CLASS]", uuid, depth);
+                trace(depth, "resolve as [CLASS]");
 
                 String keyName = key.substring(INDICATOR_CLASS_PLACEHOLDER.length());
 
@@ -595,7 +765,7 @@ public class JsonMapper
             }
             else if (key.startsWith(INDICATOR_FUNCTION_PLACEHOLDER))
             {
-                LOG.trace("[{}]:[{}]: resolve as [FUNCTION]", uuid, depth);
+                trace(depth, "resolve as [FUNCTION]");
 
                 String keyName = key.substring(INDICATOR_FUNCTION_PLACEHOLDER.length());
 
@@ -608,13 +778,50 @@ public class JsonMapper
             value = defaultValue;
         }
 
-        LOG.trace("[{}]:[{}]: resolved to [{}]", uuid, depth, String.valueOf(value));
+        trace(depth, "resolved to [{}]", value);
+
+        return value;
+    }
+
+    /**
+     * Resolve a pre-classified placeholder slot by fetching from {@link #tokenScope} or {@link #translationProvider}.
+     * <p>
+     * If no value is found, the {@code defaultValue} is returned.
+     *
+     * @param <I> the expected result type
+     * @param slot to resolve
+     * @param expectedType the expected type of the extracted value.
+     * @param defaultValue the default value to return if no value is found.
+     * @param depth the current depth in the tree
+     * @return the extracted value if found, or {@code defaultValue} if not found
+     */
+    private <I> I resolveSlot(ValueSlot slot, Class<I> expectedType, I defaultValue, int depth)
+    {
+        trace(depth, "resolve placeholder [{}] as [{}]", slot.getRaw(), slot.getType());
+
+        I value = switch (slot.getType())
+        {
+            case TEXT -> expectedType.equals(String.class)
+                ? expectedType.cast(translationProvider.getText(locale, slot.getKey()))
+                : null;
+            case VALUE -> extractFromTokenMapsAsValue(slot.getKey(), expectedType);
+            case CLASS -> expectedType.cast(extractFromTokenMapsAsClass(slot.getKey()));
+            case FUNCTION -> expectedType.cast(extractFromTokenMapsAsFunction(slot.getKey()));
+            case LITERAL, UNKNOWN -> null;
+        };
+
+        if (value == null && defaultValue != null)
+        {
+            value = defaultValue;
+        }
+
+        trace(depth, "resolved to [{}]", value);
 
         return value;
     }
 
     /**
-     * Extract a value from {@link JsonMapper#finalizedTokenMaps}
+     * Extract a value from {@link JsonMapper#tokenScope}
      *
      * @param <I> expected type of value
      * @param objName name of parameter
@@ -624,33 +831,13 @@ public class JsonMapper
      */
     private <I> I extractFromTokenMapsAsValue(String objName, Class<I> expectedType) throws JsonMapperException
     {
-        Optional<Object> tempResult =
-            tempTokenMaps
-                .values()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.getValue(objName))
-                .filter(Objects::nonNull)
-                .findFirst();
-
-        Optional<Object> result     =
-            finalizedTokenMaps
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.getValue(objName))
-                .filter(Objects::nonNull)
-                .findFirst();
+        Object obj = tokenScope.getValue(objName);
 
-        if (tempResult.isEmpty() && result.isEmpty())
+        if (obj == null)
         {
             return null;
         }
 
-        Object obj =
-            tempResult.isEmpty()
-                ? result.get()
-                : tempResult.get();
-
         if (expectedType.isInstance(obj))
         {
             return expectedType.cast(obj);
@@ -674,108 +861,36 @@ public class JsonMapper
     }
 
     /**
-     * Extract a class from {@link JsonMapper#finalizedTokenMaps}
+     * Extract a class from {@link JsonMapper#tokenScope}
      *
-     * @param <I> expected type of value
-     * @param paramName name of parameter
-     * @param expectedType class of value
-     * @return the value associated with {@code paramName}
-     * @throws JsonMapperException if value is not of type {@code expectedType}
+     * @param objName name of parameter
+     * @return the class associated with {@code objName}
      */
-    private String extractFromTokenMapsAsClass(String objName) throws JsonMapperException
+    private String extractFromTokenMapsAsClass(String objName)
     {
-        Optional<String> tempResult =
-            tempTokenMaps
-                .values()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.getClazz(objName))
-                .filter(Objects::nonNull)
-                .findFirst();
-
-        if (tempResult.isPresent())
-        {
-            return tempResult.get();
-        }
-
-        Optional<String> result =
-            finalizedTokenMaps
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.getClazz(objName))
-                .filter(Objects::nonNull)
-                .findFirst();
-
-        return result.isEmpty()
-            ? null
-            : result.get();
+        return tokenScope.getClazz(objName);
     }
 
     /**
-     * Extract a function from {@link JsonMapper#finalizedTokenMaps}
+     * Extract a function from {@link JsonMapper#tokenScope}
      *
-     * @param <I> expected type of value
-     * @param paramName name of parameter
-     * @param expectedType class of value
-     * @return the value associated with {@code paramName}
-     * @throws JsonMapperException if value is not of type {@code expectedType}
+     * @param objName name of parameter
+     * @return the function associated with {@code objName}
      */
-    private AbsFunctionCall extractFromTokenMapsAsFunction(String objName) throws JsonMapperException
+    private AbsFunctionCall extractFromTokenMapsAsFunction(String objName)
     {
-        Optional<AbsFunctionCall> tempResult =
-            tempTokenMaps
-                .values()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.getFunction(objName))
-                .filter(Objects::nonNull)
-                .findFirst();
-
-        if (tempResult.isPresent())
-        {
-            return tempResult.get();
-        }
-
-        Optional<AbsFunctionCall> result =
-            finalizedTokenMaps
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.getFunction(objName))
-                .filter(Objects::nonNull)
-                .findFirst();
-
-        return result.isEmpty()
-            ? null
-            : result.get();
+        return tokenScope.getFunction(objName);
     }
 
     /**
-     * Check if a {@code uid} is disabled in {@link JsonMapper#finalizedTokenMaps}
+     * Check if a {@code uid} is disabled in {@link JsonMapper#tokenScope}
      *
      * @param uid of the element to check
      * @return {@code false}, if the element is marked as inactive, {@code true} otherwise
-     * @throws JsonMapperException if value is not of type {@code expectedType}
      */
-    private boolean checkActiveStateFromTokenMaps(String uid) throws JsonMapperException
+    private boolean checkActiveStateFromTokenMaps(String uid)
     {
-        boolean tempResult =
-            tempTokenMaps
-                .values()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.isUidActive(uid))
-                .filter(Objects::nonNull)
-                .allMatch(b -> b);;
-
-        boolean result =
-            finalizedTokenMaps
-                .stream()
-                .filter(Objects::nonNull)
-                .map(m -> m.isUidActive(uid))
-                .filter(Objects::nonNull)
-                .allMatch(b -> b);
-
-        return uid == null || (tempResult && result);
+        return uid == null || tokenScope.isUidActive(uid);
     }
 
     /**
@@ -785,10 +900,10 @@ public class JsonMapper
      * @param depth the current depth in the tree
      * @return extracted parameters in record
      */
-    private ContainerParameters resolveContainerBaseParameters(PseudoElement element, int depth)
+    private ContainerParameters resolveContainerBaseParameters(CompiledElement element, int depth)
     {
         String              uid        = resolveUid(element, depth);
-        List<String>        classes    = resolveClasses(element.getClasses(), depth);
+        List<String>        classes    = resolveClasses(element, depth);
         Map<String, String> attributes = resolveAttributes(element, depth);
 
         return new ContainerParameters(uid, classes, attributes);
@@ -801,7 +916,7 @@ public class JsonMapper
      * @param depth the current depth in the tree
      * @return extracted parameters in record
      */
-    private InputParameters resolveInputBaseParameters(PseudoElement element, int depth)
+    private InputParameters resolveInputBaseParameters(CompiledElement element, int depth)
     {
         String  tooltip  = getParameterValue(element, depth, PARAM_TOOLTIP, String.class, DEFAULT_EMPTY_VAL);
         String  name     = getParameterValue(element, depth, PARAM_NAME, String.class);
@@ -817,7 +932,7 @@ public class JsonMapper
     /**
      * Extract a parameter from the {@code element}.
      * <p>
-     * Replaces the content of the result with a value fetched from {@link #finalizedTokenMaps} or {@link #translationProvider} if the
+     * Replaces the content of the result with a value fetched from {@link #tokenScope} or {@link #translationProvider} if the
      * {@code key} starts with '$$'
      * 
      * @param <T> the expected result type
@@ -828,7 +943,7 @@ public class JsonMapper
      * @return the found parameter
      * @throws JsonParsingException if parameter is expected but not found or could not be parsed
      */
-    private <T> T getParameterValue(PseudoElement element, int depth, String key, Class<T> expectedType)
+    private <T> T getParameterValue(CompiledElement element, int depth, String key, Class<T> expectedType)
     {
         return getParameterValue(element, depth, key, expectedType, null, true);
     }
@@ -836,7 +951,7 @@ public class JsonMapper
     /**
      * Extract a parameter from the {@code element}.
      * <p>
-     * Replaces the content of the result with a value fetched from {@link #finalizedTokenMaps} or {@link #translationProvider} if the
+     * Replaces the content of the result with a value fetched from {@link #tokenScope} or {@link #translationProvider} if the
      * {@code key} starts with '$$'
      * 
      * @param <T> the expected result type
@@ -848,7 +963,7 @@ public class JsonMapper
      * @return the found parameter
      * @throws JsonParsingException if parameter is expected but not found and no {@code fallback} is provided, or could not be parsed
      */
-    private <T> T getParameterValue(PseudoElement element, int depth, String key, Class<T> expectedType, T fallback)
+    private <T> T getParameterValue(CompiledElement element, int depth, String key, Class<T> expectedType, T fallback)
     {
         return getParameterValue(element, depth, key, expectedType, fallback, true);
     }
@@ -856,7 +971,7 @@ public class JsonMapper
     /**
      * Extract a paramater from the {@code element}.
      * <p>
-     * Replaces the content of the result with a value fetched from {@link #finalizedTokenMaps} or {@link #translationProvider} if the
+     * Replaces the content of the result with a value fetched from {@link #tokenScope} or {@link #translationProvider} if the
      * {@code key} starts with '$$'
      * 
      * @param <T> the expected result type
@@ -869,14 +984,15 @@ public class JsonMapper
      * @return the found parameter
      * @throws JsonParsingException if parameter is expected but not found and no {@code fallback} is provided, or could not be parsed
      */
-    private <T> T getParameterValue(PseudoElement element, int depth, String key, Class<T> expectedType, T fallback,
+    private <T> T getParameterValue(CompiledElement element, int depth, String key, Class<T> expectedType, T fallback,
         boolean processPlaceholder)
     {
-        Object rawValue = element.getParameters().get(key);
+        ValueSlot slot     = element.getParameters().get(key);
+        Object    rawValue = slot == null ? null : slot.getRaw();
 
-        String uid      = element.getUid() == null ? RANDOM_ID : element.getUid();
+        String    uid      = element.getUid() == null ? RANDOM_ID : element.getUid();
 
-        LOG.trace("[{}]:[{}]: get parameter [{}] from [{}] as [{}]", uuid, depth, key, uid, expectedType.getSimpleName());
+        trace(depth, "get parameter [{}] from [{}] as [{}]", key, uid, expectedType);
 
         if (rawValue == null)
         {
@@ -886,27 +1002,33 @@ public class JsonMapper
                     String.format("parameter [%s] is expected but not set and no fallback given", key));
             }
 
-            LOG.trace("[{}]:[{}]: parameter is [{}]", uuid, depth, String.valueOf(fallback));
+            trace(depth, "parameter is [{}]", fallback);
 
             return fallback;
         }
 
-        LOG.trace("[{}]:[{}]: parameter is [{}]:[{}]", uuid, depth, rawValue.getClass().getSimpleName(), String.valueOf(rawValue));
+        trace(depth, "parameter is [{}]:[{}]", slot.getType(), rawValue);
 
         // ---> DO NOT CHANGE ORDER BETWEEN HERE...
         if (rawValue instanceof String enumVal && expectedType.isEnum())
         {
+            String upperCase = slot.getUpperCase() == null ? enumVal.toUpperCase() : slot.getUpperCase();
+
             @SuppressWarnings({"unchecked", "rawtypes"})
-            Enum<?> temp = Enum.valueOf((Class) expectedType, enumVal.toUpperCase());
+            Enum<?> temp      = Enum.valueOf((Class) expectedType, upperCase);
 
             return expectedType.cast(temp);
         }
 
         if (rawValue instanceof String strVal)
         {
-            if (strVal.startsWith(BASE_INDICATOR_START) && processPlaceholder)
+            if (slot.getType().isDynamic() && processPlaceholder)
+            {
+                return resolveSlot(slot, expectedType, fallback, depth);
+            }
+            else if (slot.getType() == SlotType.LITERAL)
             {
-                return handlePossiblePlaceholder(strVal, expectedType, fallback, depth);
+                return transformLiteralValue(uid, depth, slot, expectedType);
             }
             else
             {
@@ -925,6 +1047,129 @@ public class JsonMapper
                 expectedType.getSimpleName()));
     }
 
+    /**
+     * Check if a parameter is set on the {@code element}.
+     * 
+     * @param element the element to check
+     * @param key the key to lookup
+     * @return {@code true} if the parameter is set, {@code false} otherwise
+     */
+    private boolean hasParameter(CompiledElement element, String key)
+    {
+        ValueSlot slot = element.getParameters().get(key);
+
+        return slot != null && slot.getRaw() != null;
+    }
+
+    /**
+     * Extract an optional parameter from the {@code element}.
+     * 
+     * @param <T> the expected result type
+     * @param element the element to extract from
+     * @param depth the current depth in the tree
+     * @param key the key to lookup
+     * @param expectedType the expected result type
+     * @return the found parameter, or {@code null} if the parameter is not set
+     * @throws JsonParsingException if parameter could not be parsed
+     */
+    private <T> T getOptionalParameterValue(CompiledElement element, int depth, String key, Class<T> expectedType)
+    {
+        if (!hasParameter(element, key))
+        {
+            return null;
+        }
+
+        return getParameterValue(element, depth, key, expectedType);
+    }
+
+    /**
+     * Extract a function parameter from the {@code element} as JS.
+     * <p>
+     * The parameter can either be a {@link AbsFunctionCall}, resolved directly or by placeholder, or a plain JS {@code String}.
+     * 
+     * @param element the element to extract from
+     * @param depth the current depth in the tree
+     * @param key the key to lookup
+     * @param fallback to use if no function is found, can be {@code null}
+     * @return the JS of the found function, or of the {@code fallback}, or {@link #DEFAULT_EMPTY_VAL} if neither is present
+     * @throws JsonParsingException if parameter could not be parsed
+     */
+    private String getFunctionParameterValue(CompiledElement element, int depth, String key, AbsFunctionCall fallback)
+    {
+        String fallbackJS = fallback == null ? DEFAULT_EMPTY_VAL : fallback.parseAsJS();
+
+        if (!hasParameter(element, key))
+        {
+            return fallbackJS;
+        }
+
+        ValueSlot slot = element.getParameters().get(key);
+
+        if (slot.getRaw() instanceof AbsFunctionCall function)
+        {
+            return function.parseAsJS();
+        }
+
+        if (!(slot.getRaw() instanceof String))
+        {
+            return getParameterValue(element, depth, key, String.class);
+        }
+
+        return switch (slot.getType())
+        {
+            case LITERAL -> slot.getText();
+            case VALUE -> {
+                Object value = extractFromTokenMapsAsValue(slot.getKey(), Object.class);
+
+                if (value == null)
+                {
+                    yield fallbackJS;
+                }
+
+                yield value instanceof AbsFunctionCall function
+                    ? function.parseAsJS()
+                    : extractFromTokenMapsAsValue(slot.getKey(), String.class);
+            }
+            case FUNCTION -> {
+                AbsFunctionCall function = extractFromTokenMapsAsFunction(slot.getKey());
+
+                yield function == null ? fallbackJS : function.parseAsJS();
+            }
+            case TEXT, CLASS, UNKNOWN -> fallbackJS;
+        };
+    }
+
+    /**
+     * Transform a literal {@code String} parameter, using the values pre-parsed by the {@link TemplateCompiler} where possible.
+     * 
+     * @param <T> the expected result type
+     * @param uid of the element to transform for error logging
+     * @param depth of the tree
+     * @param slot the literal slot to transform
+     * @param expectedType the expected result type
+     * @return the transformed {@code value}
+     * @throws JsonParsingException if the value could not be transformed
+     */
+    private <T> T transformLiteralValue(String uid, int depth, ValueSlot slot, Class<T> expectedType)
+    {
+        if (expectedType.equals(Boolean.class) && slot.getBooleanValue() != null)
+        {
+            return expectedType.cast(slot.getBooleanValue());
+        }
+
+        if (expectedType.equals(Integer.class) && slot.getIntegerValue() != null)
+        {
+            return expectedType.cast(slot.getIntegerValue());
+        }
+
+        if (expectedType.equals(Double.class) && slot.getDoubleValue() != null)
+        {
+            return expectedType.cast(slot.getDoubleValue());
+        }
+
+        return transformRawStringValue(uid, depth, slot.getText(), expectedType);
+    }
+
     /**
      * Transform the raw String value of a parameter.
      * 
@@ -975,54 +1220,43 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private MapperResult transformInternalComponent(PseudoElement element, int depth, ContainerType... allowedTypes)
+    private MapperResult transformInternalComponent(CompiledElement element, int depth, Set<ContainerType> allowedTypes)
     {
         String       path         = getParameterValue(element, depth, PARAM_PATH, String.class);
         Boolean      isSourceList = getParameterValue(element, depth, PARAM_IS_SOURCE_LIST, Boolean.class, false);
-        String       sourceKey    = null;
+        String       sourceKey    = getOptionalParameterValue(element, depth, PARAM_SOURCE_KEY, String.class);
         MapperResult result       = null;
 
-        try
-        {
-            sourceKey = getParameterValue(element, depth, PARAM_SOURCE_KEY, String.class);
-        }
-        catch (Exception ex)
-        {
-            // ignore it
-        }
-
         if (sourceKey != null)
         {
             if (isSourceList)
             {
-                FlatMappableList<?> srcList = extractFromTokenMapsAsValue(sourceKey, FlatMappableList.class);
-
-                List<MapperResult>  results = new ArrayList<>();
-
-                srcList
-                    .getElements()
-                    .forEach(
-                        src -> {
-                            JsonMapper internalMapper =
-                                JsonMapper
-                                    .builder()
-                                    .templateFileCache(templateFileCache)
-                                    .translationProvider(translationProvider)
-                                    .flatMappableDissector(flatMappableDissector)
-                                    .srcPath(path)
-                                    .locale(locale)
-                                    .tokenMaps(tokenMaps)
-                                    .tokenMap(flatMappableDissector.dissect(src, depth, locale))
-                                    .depth0AllowedTypes(allowedTypes)
-                                    .build();
-
-                            LOG.trace("[{}]:[{}]: map linked component list element [{}] @ mapper [{}]", uuid, depth, path,
-                                internalMapper.uuid);
-
-                            internalMapper.tempTokenMaps.putAll(tempTokenMaps);
-
-                            results.add(internalMapper.map());
-                        });
+                Object                srcSource  = extractFromTokenMapsAsValue(sourceKey, Object.class);
+                List<MapperResult>    results    = new ArrayList<>();
+
+                BiFunction<JsonMapper, FlatMappable, MapperResult> task =
+                    (mapper, src) -> {
+                        JsonMapper internalMapper = mapper.linkedMapper(path, mapper.dissect(src, depth), allowedTypes);
+
+                        mapper.trace(depth, "map linked component list element [{}] @ mapper [{}]", path, internalMapper.uuid);
+
+                        return mapper.recordComponent(path, internalMapper.map());
+                    };
+
+                if (srcSource instanceof FlatMappableList<?> srcList)
+                {
+                    List<FlatMappable> elements = List.copyOf(srcList.getElements());
+                    long               nodes    = (long) templateFileCache.getCompiledTemplateTo(path).getNodeCount() * elements.size();
+
+                    results.addAll(mapIndependent(elements, nodes, task));
+                }
+                else
+                {
+                    try (LazySource srcElements = resolveLazySource(PARAM_SOURCE_KEY, sourceKey, srcSource))
+                    {
+                        srcElements.forEachRemaining(src -> results.add(task.apply(this, src)));
+                    }
+                }
 
                 List<Container>       containers = new ArrayList<>();
                 List<AbsFunctionCall> functions  = new ArrayList<>();
@@ -1044,48 +1278,229 @@ public class JsonMapper
             {
                 FlatMappable srcElement     = extractFromTokenMapsAsValue(sourceKey, FlatMappable.class);
 
-                JsonMapper   internalMapper =
-                    JsonMapper
-                        .builder()
-                        .templateFileCache(templateFileCache)
-                        .translationProvider(translationProvider)
-                        .flatMappableDissector(flatMappableDissector)
-                        .srcPath(path)
-                        .locale(locale)
-                        .tokenMaps(tokenMaps)
-                        .tokenMap(flatMappableDissector.dissect(srcElement, depth, locale))
-                        .depth0AllowedTypes(allowedTypes)
-                        .build();
-
-                LOG.trace("[{}]:[{}]: map linked sourced component [{}] @ mapper [{}]", uuid, depth, path, internalMapper.uuid);
+                JsonMapper   internalMapper = linkedMapper(path, dissect(srcElement, depth), allowedTypes);
 
-                internalMapper.tempTokenMaps.putAll(tempTokenMaps);
+                trace(depth, "map linked sourced component [{}] @ mapper [{}]", path, internalMapper.uuid);
 
-                result = internalMapper.map();
+                result = recordComponent(path, internalMapper.map());
             }
         }
         else
         {
-            JsonMapper internalMapper =
-                JsonMapper
-                    .builder()
-                    .templateFileCache(templateFileCache)
-                    .translationProvider(translationProvider)
-                    .flatMappableDissector(flatMappableDissector)
-                    .srcPath(path)
-                    .locale(locale)
-                    .tokenMaps(tokenMaps)
-                    .depth0AllowedTypes(allowedTypes)
-                    .build();
+            JsonMapper internalMapper = linkedMapper(path, null, allowedTypes);
+
+            trace(depth, "map linked component [{}] @ mapper [{}]", path, internalMapper.uuid);
+
+            result = recordComponent(path, internalMapper.map());
+        }
+
+        return result;
+    }
+
+    /**
+     * Add the {@link MappingTimings} of a linked component to the {@link #componentTimings} of this mapper.
+     * 
+     * @param path of the component template
+     * @param result of the linked component
+     * @return the {@code result}
+     */
+    private MapperResult recordComponent(String path, MapperResult result)
+    {
+        componentTimings.merge(path, result.getTimings(), MappingTimings::plus);
+
+        return result;
+    }
+
+    /**
+     * Dissect a {@link FlatMappable}, {@link FlatMappableDissector#dissectLazily(FlatMappable, int, Locale) lazily} if
+     * {@link #lazyDissection} is set.
+     * 
+     * @param obj to dissect
+     * @param presedence of the resulting {@code TokenMap}
+     * @return the {@code TokenMap}, or {@code null} if {@code obj} is {@code null}
+     */
+    private TokenMap dissect(FlatMappable obj, int presedence)
+    {
+        return lazyDissection
+            ? flatMappableDissector.dissectLazily(obj, presedence, locale)
+            : flatMappableDissector.dissect(obj, presedence, locale);
+    }
+
+    /**
+     * Dissect the source of repetitions.
+     * <p>
+     * The elements of a {@code repetitionSource} are dissected at once into a {@link FlatMappableTable}, whose rows share a single index
+     * of keys. If {@link #lazyDissection} is set, each element is dissected lazily on its own instead, as the table reads all values
+     * upfront.
+     * 
+     * @param list the elements of the {@code repetitionSource}, can be {@code null}
+     * @param target the {@code elementSource}, can be {@code null}
+     * @param depth of the recursive operation
+     * @return the dissected element by index of the repetition, the element is {@code null} if there is no source
+     */
+    private IntFunction<TokenSource> repetitionFrames(FlatMappableList<?> list, FlatMappable target, int depth)
+    {
+        if (list == null)
+        {
+            TokenSource frame = dissect(target, depth);
+
+            return i -> frame;
+        }
+
+        if (lazyDissection)
+        {
+            return i -> dissect(list.get(i), depth);
+        }
+
+        FlatMappableTable table = flatMappableDissector.dissectAll(list, locale);
 
-            LOG.trace("[{}]:[{}]: map linked component [{}] @ mapper [{}]", uuid, depth, path, internalMapper.uuid);
+        trace(depth, "dissected [{}] elements into [{}] columns", table.size(), table.getColumnCount());
+
+        return table::row;
+    }
+
+    /**
+     * Create a mapper for a linked component, that inherits the {@link #tokenScope} of this mapper.
+     * 
+     * @param path of the component template
+     * @param tokenMap the dissected source of the component, can be {@code null}
+     * @param allowedTypes allowed types of the component root
+     * @return the mapper
+     * @throws JsonMapperException if the component links one of the {@code template}s it is linked from
+     */
+    private JsonMapper linkedMapper(String path, TokenMap tokenMap, Set<ContainerType> allowedTypes)
+    {
+        String       sanPath = StringAdapter.sanitizePath(path);
+        List<String> chain   = new ArrayList<>(includeChain);
+
+        chain.add(StringAdapter.sanitizePath(srcPath));
+
+        if (chain.contains(sanPath))
+        {
+            throw new JsonMapperException(String.format("include cycle %s -> [%s]", chain, sanPath));
+        }
+
+        JsonMapper internalMapper =
+            JsonMapper
+                .builder()
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .srcPath(path)
+                .locale(locale)
+                .tokenMap(tokenMap)
+                .depth0AllowedTypes(allowedTypes)
+                .executor(executor)
+                .parallelThreshold(parallelThreshold)
+                .uidStrategy(uidStrategy)
+                .trace(trace)
+                .includeChain(List.copyOf(chain))
+                .renderers(renderers)
+                .lazyDissection(lazyDissection)
+                .build();
+
+        internalMapper.tokenScope.inherit(tokenScope);
+
+        return internalMapper;
+    }
+
+    /**
+     * Create a mapper to map a independent subtree of this mapper on another thread.
+     * <p>
+     * The fork shares all immutable state and inherits the {@link #tokenScope}, but collects {@link #functions} on its own and never
+     * forks again. It draws its {@code uid}s from a {@link UidStrategy#fork(int) fork} of the {@link #uidStrategy}.
+     * 
+     * @param index of the subtree, in document order
+     * @return the fork
+     */
+    private JsonMapper fork(int index)
+    {
+        JsonMapper fork =
+            JsonMapper
+                .builder()
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .srcPath(srcPath)
+                .locale(locale)
+                .depth0AllowedTypes(depth0AllowedTypes)
+                .uidStrategy(uidStrategy.fork(index))
+                .trace(trace)
+                .includeChain(includeChain)
+                .renderers(renderers)
+                .lazyDissection(lazyDissection)
+                .build();
+
+        fork.tokenScope.inherit(tokenScope);
+
+        return fork;
+    }
+
+    /**
+     * Map independent sibling subtrees.
+     * <p>
+     * If a {@link #executor} is set and the subtrees are big enough, each subtree is mapped by its own {@link #fork(int)} on the
+     * {@code executor}. The results and the collected {@link #functions} are merged back in document order. Otherwise all subtrees are
+     * mapped one after another by this mapper.
+     * 
+     * @param <S> type of the subtree sources
+     * @param <R> type of the results
+     * @param sources of the subtrees, in document order
+     * @param nodes the number of elements of all subtrees
+     * @param task to map a single subtree with the given mapper
+     * @return the results, in document order
+     */
+    private <S, R> List<R> mapIndependent(List<S> sources, long nodes, BiFunction<JsonMapper, S, R> task)
+    {
+        List<R> results = new ArrayList<>(sources.size());
+
+        if (executor == null || sources.size() < 2 || nodes < parallelThreshold)
+        {
+            sources.forEach(source -> results.add(task.apply(this, source)));
+
+            return results;
+        }
+
+        trace(0, "map [{}] subtrees with [{}] elements in parallel", sources.size(), nodes);
+
+        List<JsonMapper>           forks   = new ArrayList<>(sources.size());
+        List<CompletableFuture<R>> futures = new ArrayList<>(sources.size());
+
+        for (int i = 0; i < sources.size(); i++)
+        {
+            JsonMapper fork   = fork(i);
+            S          source = sources.get(i);
+
+            forks.add(fork);
+            futures.add(
+                CompletableFuture.supplyAsync(() -> UidStrategies.callWith(fork.uidStrategy, () -> task.apply(fork, source)), executor));
+        }
+
+        for (int i = 0; i < futures.size(); i++)
+        {
+            JsonMapper fork = forks.get(i);
+
+            try
+            {
+                results.add(futures.get(i).join());
+            }
+            catch (CompletionException ex)
+            {
+                if (ex.getCause() instanceof RuntimeException cause)
+                {
+                    throw cause;
+                }
 
-            internalMapper.tempTokenMaps.putAll(tempTokenMaps);
+                throw new JsonMapperException("failed to map subtree in parallel", ex.getCause());
+            }
 
-            result = internalMapper.map();
+            functions.addAll(fork.functions);
+            failures.addAndGet(fork.failures.get());
+            fork.componentTimings.forEach((path, timings) -> componentTimings.merge(path, timings, MappingTimings::plus));
+            count += fork.count;
         }
 
-        return result;
+        return results;
     }
 
     /**
@@ -1100,31 +1515,29 @@ public class JsonMapper
      * @param throwWhenEmpty whether to throw an exception on an empty children-list
      * @return a {@link InputValueList} of the transformed children
      */
-    private <E, T> List<T> handleChildren(PseudoElement element, String parentUid, Class<E> targetEnumType, List<E> allowedTypes,
+    private <E, T> List<T> handleChildren(CompiledElement element, String parentUid, Class<E> targetEnumType, List<E> allowedTypes,
         Class<T> returnType, int depth,
         boolean throwWhenEmpty)
     {
-        LOG.trace("[{}]:[{}]: map children of [{}] as [{}] to [{}]", uuid, depth, parentUid, targetEnumType.getSimpleName(),
-            returnType.getSimpleName());
+        trace(depth, "map children of [{}] as [{}] to [{}]", parentUid, targetEnumType, returnType);
 
         if (throwWhenEmpty && element.getChildren().isEmpty())
         {
-            LOG.trace("[{}]:[{}]: empty children are not allowed", uuid, depth);
+            trace(depth, "empty children are not allowed");
 
             throw new JsonMapperException("children list is not allowed to be empty");
         }
 
         List<T> values = new ArrayList<>();
 
-        for (PseudoElement pe : element.getChildren())
+        for (CompiledElement pe : element.getChildren())
         {
-            String  uid            = resolveUid(element, depth);
+            String  uid            = resolveUidForActiveCheck(element, depth);
             boolean processElement = shouldProcess(element, uid, depth);
 
             if (!processElement)
             {
-                LOG.trace("[{}]:[{}]: skip child [{}] due to parameter [active] is [false] or [uid] is deactivated", uuid, depth,
-                    uid);
+                trace(depth, "skip child [{}] due to parameter [active] is [false] or [uid] is deactivated", uid);
 
                 continue;
             }
@@ -1132,7 +1545,7 @@ public class JsonMapper
             switch (targetEnumType.getSimpleName())
             {
                 case "InputValue":
-                    if ("INPUT_VALUE".equals(pe.getType().toUpperCase()))
+                    if (pe.isInputValue())
                     {
                         values.add(returnType.cast(transformInputValue(pe, depth + 1)));
                     }
@@ -1170,9 +1583,9 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private InputValue transformInputValue(PseudoElement element, int depth)
+    private InputValue transformInputValue(CompiledElement element, int depth)
     {
-        List<String> classes = resolveClasses(element.getClasses(), depth);
+        List<String> classes = resolveClasses(element, depth);
         String       id      = getParameterValue(element, depth, PARAM_ID, String.class, DEFAULT_EMPTY_VAL);
         String       text    = getParameterValue(element, depth, PARAM_TEXT, String.class, BasicText.NO_TEXT_SET.getText());
         String       value   = getParameterValue(element, depth, PARAM_VALUE, String.class, BasicText.NO_VALUE_SET.getText());
@@ -1194,12 +1607,50 @@ public class JsonMapper
      * @param root element
      * @return the transformed {@code Container}
      */
-    private List<Container> transform(PseudoElement root) throws JsonMapperException
+    private List<Container> transform(CompiledElement root) throws JsonMapperException
+    {
+        return transform(root, 0, depth0AllowedTypes);
+    }
+
+    /**
+     * Render the {@code root} with the generated {@link TemplateRenderer} of {@link #srcPath}, or transform it if there is none.
+     * <p>
+     * Requests with a {@link #trace} are always transformed, so the trace shows every step. If the renderer fails, the {@code root} is
+     * transformed instead.
+     * 
+     * @param root of the {@code template}
+     * @return the rendered or transformed {@code Container}s
+     */
+    private List<Container> renderOrTransform(CompiledElement root)
     {
-        return transform(root, 0, ContainerType.values());
+        TemplateRenderer renderer = trace == null ? renderers.get(srcPath, root.getFingerprint()) : null;
+
+        if (renderer != null && depth0AllowedTypes.contains(renderer.getRootType()))
+        {
+            int                 before  = count;
+            MapperRenderContext context = new MapperRenderContext(root);
+
+            try
+            {
+                List<Container> containers = renderer.render(context);
+
+                // the transformed elements are already counted
+                this.count += root.getNodeCount() - context.transformedNodes;
+
+                return containers;
+            }
+            catch (RuntimeException ex)
+            {
+                LOG.warn("template renderer of [{}] failed, transform the template instead", srcPath, ex);
+
+                this.count = before;
+            }
+        }
+
+        return transform(root);
     }
 
-    private boolean shouldProcess(PseudoElement element, String uid, int depth)
+    private boolean shouldProcess(CompiledElement element, String uid, int depth)
     {
         return getParameterValue(element, depth, PARAM_ACTIVE, Boolean.class, true)
             && checkActiveStateFromTokenMaps(uid);
@@ -1218,35 +1669,89 @@ public class JsonMapper
      * @return the transformed container
      * @throws JsonParsingException on any failure, refer to exception text
      */
-    private List<Container> transform(PseudoElement element, int depth, ContainerType... allowedTypes) throws JsonParsingException
+    private List<Container> transform(CompiledElement element, int depth, Set<ContainerType> allowedTypes) throws JsonParsingException
+    {
+        return element.getIncludePath() == null
+            ? transformElement(element, depth, allowedTypes)
+            : transformInlinedComponent(element, depth, allowedTypes);
+    }
+
+    /**
+     * Transform the root of an inlined {@code COMPONENT}, like a linked mapper transforms the root of its {@code template}.
+     * <p>
+     * The {@code template} is transformed from depth {@code 0}, so repetitions dissect their elements with the same
+     * {@code presedence}, and its time and the times of its own components are recorded as the {@link #componentTimings} of its path.
+     *
+     * @param element the root of the inlined {@code template}
+     * @param depth of the {@code COMPONENT}
+     * @param allowedTypes allowed types of the {@code COMPONENT}
+     * @return the transformed containers
+     */
+    private List<Container> transformInlinedComponent(CompiledElement element, int depth, Set<ContainerType> allowedTypes)
+    {
+        String                      path  = element.getIncludePath();
+        Map<String, MappingTimings> outer = componentTimings.isEmpty() ? Map.of() : new HashMap<>(componentTimings);
+        long                        start = System.nanoTime();
+
+        trace(depth, "map inlined component [{}]", path);
+
+        componentTimings.clear();
+
+        try
+        {
+            return transformElement(element, 0, allowedTypes);
+        }
+        finally
+        {
+            MappingTimings timings =
+                MappingTimings
+                    .builder()
+                    .transform(System.nanoTime() - start)
+                    .components(componentTimings)
+                    .build();
+
+            componentTimings.clear();
+            componentTimings.putAll(outer);
+            componentTimings.merge(path, timings, MappingTimings::plus);
+        }
+    }
+
+    /**
+     * Transform a single element.
+     *
+     * @param element to transform
+     * @param depth inside the element tree
+     * @param allowedTypes allowed types of transformations
+     * @return the transformed container
+     * @throws JsonParsingException on any failure, refer to exception text
+     */
+    private List<Container> transformElement(CompiledElement element, int depth, Set<ContainerType> allowedTypes)
+        throws JsonParsingException
     {
         this.count++;
 
         List<Container> resultList     = new ArrayList<>();
 
-        String          uid            = resolveUid(element, depth);
+        String          uid            = resolveUidForActiveCheck(element, depth);
 
         boolean         processElement = shouldProcess(element, uid, depth);
 
         if (!processElement)
         {
-            LOG.debug("[{}]:[{}]: skip CONTAINER [{}] due to parameter [active] is [false] or [uid] is deactivated", uuid, depth,
-                uid);
+            trace(depth, "skip CONTAINER [{}] due to parameter [active] is [false] or [uid] is deactivated", uid);
 
             return List.of(EmptyContainer.builder().build());
         }
 
-        LOG.trace("[{}]:[{}]: start transform >", uuid, depth);
-        LOG.trace("[{}]:[{}]: map [{}] with allowed types [{}]", uuid, depth, uid, allowedTypes);
+        trace(depth, "start transform >");
+        trace(depth, "map [{}] with allowed types [{}]", uid, allowedTypes);
 
-        InternalElementType internalType = null;
+        InternalElementType internalType = element.getInternalType();
 
-        try
+        if (internalType != null)
         {
             try
             {
-                internalType = InternalElementType.valueOf(element.getType().toUpperCase());
-
                 return switch (internalType)
                 {
                     case COMPONENT -> {
@@ -1256,10 +1761,6 @@ public class JsonMapper
                     }
                 };
             }
-            catch (IllegalArgumentException | NullPointerException ex)
-            {
-                // do nothing since it is not a internal type
-            }
             catch (Exception ex)
             {
                 LOG.error("failed to transform component", ex);
@@ -1268,44 +1769,70 @@ public class JsonMapper
 
                 return resultList;
             }
+        }
 
-            ContainerType type = ContainerType.valueOf(element.getType().toUpperCase());
+        try
+        {
+            ContainerType type = element.getContainerType();
+
+            if (type == null)
+            {
+                throw new JsonParsingException(uid, depth, this.count,
+                    String.format("container type [%s] is unknown", element.getType()));
+            }
 
-            if (!Arrays.asList(allowedTypes).contains(type) || (depth == 0 && !Arrays.asList(depth0AllowedTypes).contains(type)))
+            if (!allowedTypes.contains(type))
             {
                 throw new JsonParsingException(uid, depth, this.count,
                     String.format("container type [%s] is not allowed here", element.getType()));
             }
 
-            LOG.debug("[{}]:[{}]: map CONTAINER [{}] as [{}]", uuid, depth, uid, type);
+            FoldedSubtree folded = element.getFolded();
+
+            if (folded != null && folded.isActive(tokenScope))
+            {
+                trace(depth, "splice folded CONTAINER [{}] as [{}]", uid, type);
+
+                this.count += element.getNodeCount() - 1;
+                functions.addAll(folded.getFunctions());
+
+                return folded.getContainers();
+            }
+
+            trace(depth, "map CONTAINER [{}] as [{}]", uid, type);
 
             int                 numberOfRepetitions = 1;
             FlatMappableList<?> targetList          = null;
+            LazySource          lazyTargets         = null;
             FlatMappable        target              = null;
 
             try
             {
-                String targetListName = getParameterValue(element, depth, PARAM_REPETITION_SOURCE, String.class);
-                targetList = extractFromTokenMapsAsValue(targetListName, FlatMappableList.class);
+                if (hasParameter(element, PARAM_REPETITION_SOURCE))
+                {
+                    String targetListName = getParameterValue(element, depth, PARAM_REPETITION_SOURCE, String.class);
+                    Object targetSource   = extractFromTokenMapsAsValue(targetListName, Object.class);
 
-                numberOfRepetitions = targetList.size();
+                    if (targetSource instanceof FlatMappableList<?> list)
+                    {
+                        targetList = list;
+                        numberOfRepetitions = targetList.size();
 
-                LOG.debug("[{}]:[{}]: repeat container [{}] times", uuid, depth, numberOfRepetitions);
-            }
-            catch (JsonParsingException ex)
-            {
-                LOG.trace("[{}]:[{}]: repetitionSource not set", uuid, depth);
+                        trace(depth, "repeat container [{}] times", numberOfRepetitions);
+                    }
+                    else
+                    {
+                        lazyTargets = resolveLazySource(PARAM_REPETITION_SOURCE, targetListName, targetSource);
 
-                try
+                        trace(depth, "repeat container from lazy source");
+                    }
+                }
+                else if (hasParameter(element, PARAM_ELEMENT_SOURCE))
                 {
                     String targetName = getParameterValue(element, depth, PARAM_ELEMENT_SOURCE, String.class);
                     target = extractFromTokenMapsAsValue(targetName, FlatMappable.class);
 
-                    LOG.debug("[{}]:[{}]: source element found", uuid, depth);
-                }
-                catch (JsonParsingException exInner)
-                {
-                    LOG.trace("[{}]:[{}]: elementSource not set", uuid, depth);
+                    trace(depth, "source element found");
                 }
             }
             catch (JsonMapperException ex)
@@ -1317,81 +1844,163 @@ public class JsonMapper
                 return resultList;
             }
 
-            for (int i = 0; i < numberOfRepetitions; i++)
+            if (lazyTargets != null)
             {
-                TokenMap      tempTokenMap  = null;
-                PseudoElement repeatElement =
-                    numberOfRepetitions > 1 && element.getUid() != null
-                        ? element
-                            .toBuilder()
-                            .uid(uid + "-" + i)
-                            .build()
-                        : element;
+                resultList.addAll(transformLazyRepetitions(type, element, uid, lazyTargets, depth));
 
-                if (targetList != null)
-                {
-                    tempTokenMap = flatMappableDissector.dissect(targetList.get(i), depth, locale);
+                return resultList;
+            }
 
-                    tempTokenMaps.put(tempTokenMap.hashCode(), tempTokenMap);
-                }
+            int                      repetitions = numberOfRepetitions;
+            IntFunction<TokenSource> frames      = repetitionFrames(targetList, target, depth);
+
+            resultList.addAll(
+                mapIndependent(
+                    IntStream.range(0, repetitions).boxed().toList(),
+                    (long) element.getNodeCount() * repetitions,
+                    (mapper, i) -> mapper.transformRepetition(
+                        type,
+                        repetitions > 1 && element.getUid() != null
+                            ? element.withUid(uid + "-" + i)
+                            : element,
+                        frames.apply(i),
+                        depth)));
+        }
+        catch (Exception ex)
+        {
+            LOG.error("error parsing element", ex);
 
-                if (target != null)
-                {
-                    tempTokenMap = flatMappableDissector.dissect(target, depth, locale);
+            return List.of(failureContainer());
+        }
 
-                    tempTokenMaps.put(tempTokenMap.hashCode(), tempTokenMap);
-                }
+        return resultList;
+    }
 
-                if (LOG.isTraceEnabled() && !tempTokenMaps.isEmpty())
-                {
-                    LOG.debug("[{}]:[{}]: with following temp token maps", uuid, depth);
+    /**
+     * Wrap the value of a source parameter as {@link LazySource}.
+     * 
+     * @param param the name of the source parameter, for error reporting
+     * @param key the token key of the source
+     * @param value the token value
+     * @return the lazy source
+     * @throws JsonMapperException if {@code value} is not set or no supported lazy source
+     */
+    private LazySource resolveLazySource(String param, String key, Object value)
+    {
+        if (value == null)
+        {
+            throw new JsonMapperException(String.format("%s [%s] not found", param, key));
+        }
 
-                    tempTokenMaps.values()
-                        .stream()
-                        .map(TokenMap::toString)
-                        .map(String::lines)
-                        .forEach(stream -> stream.forEach(line -> LOG.trace("[{}]: {}", uuid, line)));
-                }
+        LazySource source = LazySource.of(value);
 
-                Container result = switch (type)
-                {
-                    case AUDIO -> transfromAudioContainer(repeatElement, depth);
-                    case BURGER -> transfromBurgerContainer(repeatElement, depth);
-                    case BUTTON -> transfromButtonContainer(repeatElement, depth);
-                    case BUTTON_BAR -> transformButtonBarContainer(repeatElement, depth);
-                    case BUTTON_ICON -> transformButtonIconContainer(repeatElement, depth);
-                    case CONTENT -> transformContentContainer(repeatElement, depth);
-                    case EMPTY -> EmptyContainer.builder().build();
-                    case FORM -> transformFormContainer(repeatElement, depth);
-                    case HEADING -> transformHeadingContainer(repeatElement, depth);
-                    case HIDDEN -> transformHiddenContainer(repeatElement, depth);
-                    case IMAGE -> transformImageContainer(repeatElement, depth);
-                    case LINK -> transformLinkContainer(repeatElement, depth);
-                    case MODAL -> transformModal(repeatElement, depth);
-                    case SPLITTED -> transformSplittedContainer(repeatElement, depth);
-                    case SVG -> transformSVGContainer(repeatElement, depth);
-                    case TAB -> transformTabbedContainer(repeatElement, depth);
-                    case TABLE -> transformTableContainer(repeatElement, depth);
-                    case TABLE_ROW -> transformTableRowContainer(repeatElement, depth);
-                    case TEXT -> transformTextContainer(repeatElement, depth);
-                };
+        if (source == null)
+        {
+            throw new JsonMapperException(
+                String.format("%s [%s] of type [%s] is not iterable", param, key, value.getClass().getSimpleName()));
+        }
 
-                resultList.add(result);
+        return source;
+    }
 
-                if (tempTokenMap != null)
+    /**
+     * Transform the repetitions of a container from a {@link LazySource}, pulling and dissecting one element at a time.
+     * <p>
+     * Lazy sources are always mapped sequentially, even if a {@link #executor} is set, to never hold the whole source.
+     * 
+     * @param type of the container
+     * @param element to transform
+     * @param uid the resolved {@code uid} of {@code element}
+     * @param sources to pull the elements from, closed when done
+     * @param depth of the recursive operation
+     * @return the transformed containers
+     */
+    private List<Container> transformLazyRepetitions(ContainerType type, CompiledElement element, String uid, LazySource sources,
+        int depth)
+    {
+        List<Container> results = new ArrayList<>();
+
+        try (sources)
+        {
+            boolean repeated = false;
+            int     i        = 0;
+
+            while (sources.hasNext())
+            {
+                FlatMappable source = sources.next();
+
+                if (i == 0)
                 {
-                    tempTokenMaps.remove(tempTokenMap.hashCode());
+                    // look ahead once to name the repetitions the same way as for a FlatMappableList
+                    repeated = sources.hasNext();
                 }
+
+                CompiledElement repeatElement =
+                    repeated && element.getUid() != null
+                        ? element.withUid(uid + "-" + i)
+                        : element;
+
+                results.add(transformRepetition(type, repeatElement, dissect(source, depth), depth));
+
+                i++;
             }
+
+            trace(depth, "repeated container [{}] times", i);
         }
-        catch (Exception ex)
+
+        return results;
+    }
+
+    /**
+     * Transform a single repetition of a container.
+     * 
+     * @param type of the container
+     * @param element to transform, with the {@code uid} of this repetition
+     * @param frame the dissected element of the {@code repetitionSource} or the {@code elementSource}, can be {@code null}
+     * @param depth of the recursive operation
+     * @return the transformed container
+     */
+    private Container transformRepetition(ContainerType type, CompiledElement element, TokenSource frame, int depth)
+    {
+        if (frame != null)
         {
-            LOG.error("error parsing element", ex);
+            tokenScope.push(frame);
 
-            return List.of(failureContainer());
+            trace(depth, "with temp token map {}", frame);
         }
 
-        return resultList;
+        try
+        {
+            return switch (type)
+            {
+                case AUDIO -> transfromAudioContainer(element, depth);
+                case BURGER -> transfromBurgerContainer(element, depth);
+                case BUTTON -> transfromButtonContainer(element, depth);
+                case BUTTON_BAR -> transformButtonBarContainer(element, depth);
+                case BUTTON_ICON -> transformButtonIconContainer(element, depth);
+                case CONTENT -> transformContentContainer(element, depth);
+                case EMPTY -> EmptyContainer.builder().build();
+                case FORM -> transformFormContainer(element, depth);
+                case HEADING -> transformHeadingContainer(element, depth);
+                case HIDDEN -> transformHiddenContainer(element, depth);
+                case IMAGE -> transformImageContainer(element, depth);
+                case LINK -> transformLinkContainer(element, depth);
+                case MODAL -> transformModal(element, depth);
+                case SPLITTED -> transformSplittedContainer(element, depth);
+                case SVG -> transformSVGContainer(element, depth);
+                case TAB -> transformTabbedContainer(element, depth);
+                case TABLE -> transformTableContainer(element, depth);
+                case TABLE_ROW -> transformTableRowContainer(element, depth);
+                case TEXT -> transformTextContainer(element, depth);
+            };
+        }
+        finally
+        {
+            if (frame != null)
+            {
+                tokenScope.pop();
+            }
+        }
     }
 
     /**
@@ -1401,6 +2010,8 @@ public class JsonMapper
      */
     private TextContainer failureContainer()
     {
+        failures.incrementAndGet();
+
         return TextContainer
             .builder()
             .clazz("alert")
@@ -1416,7 +2027,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private AudioContainer transfromAudioContainer(PseudoElement element, int depth)
+    private AudioContainer transfromAudioContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
 
@@ -1442,7 +2053,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private BurgerContainer transfromBurgerContainer(PseudoElement element, int depth)
+    private BurgerContainer transfromBurgerContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars = resolveContainerBaseParameters(element, depth);
 
@@ -1474,7 +2085,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private BurgerItem transformEntry(PseudoElement element, int depth)
+    private BurgerItem transformEntry(CompiledElement element, int depth)
     {
         String  uid            = element.getUid() == null ? RANDOM_ID : element.getUid();
         boolean processElement = shouldProcess(element, uid, depth);
@@ -1520,24 +2131,14 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Button transfromButtonContainer(PseudoElement element, int depth)
+    private Button transfromButtonContainer(CompiledElement element, int depth)
     {
-        ContainerParameters cpars               = resolveContainerBaseParameters(element, depth);
+        ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
 
-        String              text                = getParameterValue(element, depth, PARAM_TEXT, String.class);
-        ButtonClass         btnClass            =
+        String              text     = getParameterValue(element, depth, PARAM_TEXT, String.class);
+        ButtonClass         btnClass =
             getParameterValue(element, depth, PARAM_BTN_CLASS, ButtonClass.class, ButtonClass.DEFAULT);
-        AbsFunctionCall     btnFunction         = null;
-        String              fallbackBtnFunction = DEFAULT_EMPTY_VAL;
-
-        try
-        {
-            btnFunction = getParameterValue(element, depth, PARAM_ON_CLICK, AbsFunctionCall.class);
-        }
-        catch (JsonParsingException ex)
-        {
-            fallbackBtnFunction = getParameterValue(element, depth, PARAM_ON_CLICK, String.class, DEFAULT_EMPTY_VAL);
-        }
+        String              onClick  = getFunctionParameterValue(element, depth, PARAM_ON_CLICK, null);
 
         return Button
             .builder()
@@ -1546,7 +2147,7 @@ public class JsonMapper
             .dataAttributes(cpars.attributes())
             .text(text)
             .btnClass(btnClass)
-            .onClick(btnFunction == null ? fallbackBtnFunction : btnFunction.parseAsJS())
+            .onClick(onClick)
             .build();
     }
 
@@ -1557,7 +2158,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private ButtonBarContainer transformButtonBarContainer(PseudoElement element, int depth)
+    private ButtonBarContainer transformButtonBarContainer(CompiledElement element, int depth)
     {
         return (ButtonBarContainer) throwNotSupported(element, depth);
     }
@@ -1569,7 +2170,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private ButtonIcon transformButtonIconContainer(PseudoElement element, int depth)
+    private ButtonIcon transformButtonIconContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
 
@@ -1602,16 +2203,15 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private ContentContainer transformContentContainer(PseudoElement element, int depth)
+    private ContentContainer transformContentContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
 
         List<Container>     contents = new ArrayList<>();
 
-        element
-            .getChildren()
-            .stream()
-            .forEach(c -> contents.addAll(transform(c, depth + 1, CONTENT_CONTAINER_CHILDREN)));
+        mapIndependent(element.getChildren(), element.getNodeCount() - 1L,
+            (mapper, child) -> mapper.transform(child, depth + 1, CONTENT_CONTAINER_CHILDREN))
+            .forEach(contents::addAll);
 
         return ContentContainer
             .builder()
@@ -1629,12 +2229,12 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private FormContainer transformFormContainer(PseudoElement element, int depth)
+    private FormContainer transformFormContainer(CompiledElement element, int depth)
     {
         String                                   uid          = resolveUid(element, depth);
         Direction                                direction    =
             getParameterValue(element, depth, PARAM_DIRECTION, Direction.class, Direction.NONE);
-        List<String>                             classes      = resolveClasses(element.getClasses(), depth);
+        List<String>                             classes      = resolveClasses(element, depth);
         Map<String, String>                      attributes   = resolveAttributes(element, depth);
         String                                   connectedBtn =
             getParameterValue(element, depth, PARAM_CONNECTED_BTN, String.class, DEFAULT_EMPTY_VAL);
@@ -1669,7 +2269,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private HiddenContainer transformHiddenContainer(PseudoElement element, int depth)
+    private HiddenContainer transformHiddenContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars = resolveContainerBaseParameters(element, depth);
 
@@ -1694,7 +2294,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private ImageContainer transformImageContainer(PseudoElement element, int depth)
+    private ImageContainer transformImageContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars   = resolveContainerBaseParameters(element, depth);
 
@@ -1719,7 +2319,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private LinkContainer transformLinkContainer(PseudoElement element, int depth)
+    private LinkContainer transformLinkContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars   = resolveContainerBaseParameters(element, depth);
 
@@ -1754,75 +2354,39 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private ModalContainer transformModal(PseudoElement element, int depth)
+    private ModalContainer transformModal(CompiledElement element, int depth)
     {
-        ContainerParameters cpars                   = resolveContainerBaseParameters(element, depth);
+        ContainerParameters cpars               = resolveContainerBaseParameters(element, depth);
 
-        String              name                    = getParameterValue(element, depth, PARAM_NAME, String.class);
-        String              requestUrl              =
+        String              name                = getParameterValue(element, depth, PARAM_NAME, String.class);
+        String              requestUrl          =
             getParameterValue(element, depth, PARAM_REQUEST_URL, String.class, DEFAULT_EMPTY_VAL);
-        Boolean             closeOnOverlayClick     =
+        Boolean             closeOnOverlayClick =
             getParameterValue(element, depth, PARAM_CLOSE_ON_OVERLAY_CLICK, Boolean.class, Boolean.FALSE);
 
-        String              btnNameLeft             =
+        String              btnNameLeft         =
             getParameterValue(element, depth, PARAM_BTN_NAME_LEFT, String.class, BasicText.CANCEL.getText());
-        ButtonClass         btnClassLeft            =
+        ButtonClass         btnClassLeft        =
             getParameterValue(element, depth, PARAM_BTN_CLASS_LEFT, ButtonClass.class, ButtonClass.DEFAULT);
+        String              btnFunctionLeft     =
+            getFunctionParameterValue(element, depth, PARAM_BTN_FUNCTION_LEFT, new CloseModal());
 
-        AbsFunctionCall     btnFunctionLeft         = null;
-        String              fallbackBtnFunctionLeft = DEFAULT_EMPTY_VAL;
-
-        try
-        {
-            btnFunctionLeft =
-                getParameterValue(element, depth, PARAM_BTN_FUNCTION_LEFT, AbsFunctionCall.class, new CloseModal());
-        }
-        catch (JsonParsingException ex)
-        {
-            fallbackBtnFunctionLeft =
-                getParameterValue(element, depth, PARAM_BTN_FUNCTION_LEFT, String.class, DEFAULT_EMPTY_VAL);
-        }
-
-        String          btnNameCenter             =
+        String              btnNameCenter       =
             getParameterValue(element, depth, PARAM_BTN_NAME_CENTER, String.class, DEFAULT_EMPTY_VAL);
-        ButtonClass     btnClassCenter            =
+        ButtonClass         btnClassCenter      =
             getParameterValue(element, depth, PARAM_BTN_CLASS_CENTER, ButtonClass.class, ButtonClass.DEFAULT);
+        String              btnFunctionCenter   = getFunctionParameterValue(element, depth, PARAM_BTN_FUNCTION_CENTER, null);
 
-        AbsFunctionCall btnFunctionCenter         = null;
-        String          fallbackBtnFunctionCenter = DEFAULT_EMPTY_VAL;
-
-        try
-        {
-            btnFunctionCenter =
-                getParameterValue(element, depth, PARAM_BTN_FUNCTION_CENTER, AbsFunctionCall.class);
-        }
-        catch (JsonParsingException ex)
-        {
-            fallbackBtnFunctionCenter =
-                getParameterValue(element, depth, PARAM_BTN_FUNCTION_CENTER, String.class, DEFAULT_EMPTY_VAL);
-        }
-
-        String          btnNameRight             =
+        String              btnNameRight        =
             getParameterValue(element, depth, PARAM_BTN_NAME_RIGHT, String.class, "submit");
-        ButtonClass     btnClassRight            =
+        ButtonClass         btnClassRight       =
             getParameterValue(element, depth, PARAM_BTN_CLASS_RIGHT, ButtonClass.class, ButtonClass.DEFAULT);
-
-        AbsFunctionCall btnFunctionRight         = null;
-        String          fallbackBtnFunctionRight = DEFAULT_EMPTY_VAL;
-
-        try
-        {
-            btnFunctionRight =
-                getParameterValue(element, depth, PARAM_BTN_FUNCTION_RIGHT, AbsFunctionCall.class, new SubmitFromModal());
-        }
-        catch (JsonParsingException ex)
-        {
-            fallbackBtnFunctionRight = getParameterValue(element, depth, PARAM_BTN_FUNCTION_RIGHT, String.class);
-        }
+        String              btnFunctionRight    =
+            getFunctionParameterValue(element, depth, PARAM_BTN_FUNCTION_RIGHT, new SubmitFromModal());
 
         List<Container> children = new ArrayList<>();
 
-        for (PseudoElement pe : element.getChildren())
+        for (CompiledElement pe : element.getChildren())
         {
             children.addAll(transform(pe, depth + 1, MODAL_CONTAINER_CHILDREN));
         }
@@ -1836,13 +2400,13 @@ public class JsonMapper
             .requestUrl(requestUrl)
             .btnNameLeft(btnNameLeft)
             .btnClassLeft(btnClassLeft)
-            .btnFunctionLeft(btnFunctionLeft == null ? fallbackBtnFunctionLeft : btnFunctionLeft.parseAsJS())
+            .btnFunctionLeft(btnFunctionLeft)
             .btnNameCenter(btnNameCenter)
             .btnClassCenter(btnClassCenter)
-            .btnFunctionCenter(btnFunctionCenter == null ? fallbackBtnFunctionCenter : btnFunctionCenter.parseAsJS())
+            .btnFunctionCenter(btnFunctionCenter)
             .btnNameRight(btnNameRight)
             .btnClassRight(btnClassRight)
-            .btnFunctionRight(btnFunctionRight == null ? fallbackBtnFunctionRight : btnFunctionRight.parseAsJS())
+            .btnFunctionRight(btnFunctionRight)
             .closeOnOverlayClick(closeOnOverlayClick)
             .content(
                 ContentContainer
@@ -1859,7 +2423,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SplittedContainer transformSplittedContainer(PseudoElement element, int depth)
+    private SplittedContainer transformSplittedContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars  = resolveContainerBaseParameters(element, depth);
 
@@ -1868,19 +2432,19 @@ public class JsonMapper
         List<Container>     center = new ArrayList<>();
         Integer             cnt    = 0;
 
-        for (PseudoElement pe : element.getChildren())
+        for (CompiledElement pe : element.getChildren())
         {
             if (cnt > 0 && cnt < element.getChildren().size() - 1)
             {
-                center.addAll(transform(pe, depth, ContainerType.values()));
+                center.addAll(transform(pe, depth, ALL_CONTAINER_TYPES));
             }
             else if (cnt == 0)
             {
-                head = transform(pe, depth, ContainerType.values()).get(0);
+                head = transform(pe, depth, ALL_CONTAINER_TYPES).get(0);
             }
             else
             {
-                tail = transform(pe, depth, ContainerType.values()).get(0);
+                tail = transform(pe, depth, ALL_CONTAINER_TYPES).get(0);
             }
 
             cnt++;
@@ -1904,7 +2468,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGContainer transformSVGContainer(PseudoElement element, int depth)
+    private SVGContainer transformSVGContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
 
@@ -1913,7 +2477,7 @@ public class JsonMapper
 
         List<SVGElement>    elements = new ArrayList<>();
 
-        for (PseudoElement pe : element.getChildren())
+        for (CompiledElement pe : element.getChildren())
         {
             elements.addAll(transformSVGElement(pe, depth, SVGType.ALLOWED_BASE_TYPES));
         }
@@ -1936,7 +2500,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private TabContainer transformTabbedContainer(PseudoElement element, int depth)
+    private TabContainer transformTabbedContainer(CompiledElement element, int depth)
     {
         return (TabContainer) throwNotSupported(element, depth);
     }
@@ -1948,7 +2512,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private TableContainer transformTableContainer(PseudoElement element, int depth)
+    private TableContainer transformTableContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars          = resolveContainerBaseParameters(element, depth);
 
@@ -1965,9 +2529,9 @@ public class JsonMapper
 
         List<Container>     rows           = new ArrayList<>();
 
-        for (PseudoElement pe : element.getChildren())
+        for (CompiledElement pe : element.getChildren())
         {
-            rows.addAll(transform(pe, depth, ContainerType.TABLE_ROW));
+            rows.addAll(transform(pe, depth, TABLE_CONTAINER_CHILDREN));
         }
 
         return TableContainer
@@ -1989,14 +2553,14 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private TableRowContainer transformTableRowContainer(PseudoElement element, int depth)
+    private TableRowContainer transformTableRowContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars     = resolveContainerBaseParameters(element, depth);
 
         String              tableName = getParameterValue(element, depth, "tableName", String.class);
         List<Container>     cells     = new ArrayList<>();
 
-        for (PseudoElement pe : element.getChildren())
+        for (CompiledElement pe : element.getChildren())
         {
             cells.addAll(transform(pe, depth + 1, TABLE_ROW_CONTAINER_CHILDREN));
         }
@@ -2018,7 +2582,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private TextContainer transformTextContainer(PseudoElement element, int depth)
+    private TextContainer transformTextContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars   = resolveContainerBaseParameters(element, depth);
 
@@ -2045,7 +2609,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private HeadingContainer transformHeadingContainer(PseudoElement element, int depth)
+    private HeadingContainer transformHeadingContainer(CompiledElement element, int depth)
     {
         ContainerParameters cpars   = resolveContainerBaseParameters(element, depth);
 
@@ -2083,11 +2647,15 @@ public class JsonMapper
      * @return the transformed input
      * @throws JsonParsingException on any failure, refer to exception text
      */
-    private Input transformInput(PseudoElement element, int depth)
+    private Input transformInput(CompiledElement element, int depth)
     {
-        InputType type = InputType.valueOf(element.getType().toUpperCase());
+        InputType type = element.getInputType();
 
-        LOG.trace(DEFAULT_EMPTY_VAL);
+        if (type == null)
+        {
+            throw new JsonParsingException(element.getUid(), depth, this.count,
+                String.format("input type [%s] is unknown", element.getType()));
+        }
 
         String  uid            = element.getUid() == null ? "random uid" : element.getUid();
 
@@ -2095,12 +2663,12 @@ public class JsonMapper
 
         if (!processElement)
         {
-            LOG.debug("[{}]:[{}]: skip INPUT [{}] due to eval processElement is [false]", uuid, depth, element.getUid());
+            trace(depth, "skip INPUT [{}] due to eval processElement is [false]", element.getUid());
 
             return null;
         }
 
-        LOG.debug("[{}]:[{}]: map INPUT [{}] as [{}]", uuid, depth, element.getUid(), type);
+        trace(depth, "map INPUT [{}] as [{}]", element.getUid(), type);
 
         try
         {
@@ -2138,7 +2706,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Checkbox transformCheckboxInput(PseudoElement element, int depth)
+    private Checkbox transformCheckboxInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars    = resolveInputBaseParameters(element, depth);
@@ -2173,7 +2741,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Currency transformCurrencyInput(PseudoElement element, int depth)
+    private Currency transformCurrencyInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars       = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars       = resolveInputBaseParameters(element, depth);
@@ -2214,7 +2782,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Date transformDateInput(PseudoElement element, int depth)
+    private Date transformDateInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars = resolveInputBaseParameters(element, depth);
@@ -2244,7 +2812,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private File transformFileInput(PseudoElement element, int depth)
+    private File transformFileInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars    = resolveInputBaseParameters(element, depth);
@@ -2276,7 +2844,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Hidden transformHiddenInput(PseudoElement element, int depth)
+    private Hidden transformHiddenInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
 
@@ -2302,7 +2870,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Link transformLinkInput(PseudoElement element, int depth)
+    private Link transformLinkInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars   = resolveContainerBaseParameters(element, depth);
 
@@ -2332,7 +2900,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Number transformNumberInput(PseudoElement element, int depth)
+    private Number transformNumberInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars        = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars        = resolveInputBaseParameters(element, depth);
@@ -2379,7 +2947,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Password transformPasswordInput(PseudoElement element, int depth)
+    private Password transformPasswordInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars        = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars        = resolveInputBaseParameters(element, depth);
@@ -2412,7 +2980,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Radio transformRadioInput(PseudoElement element, int depth)
+    private Radio transformRadioInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars    = resolveInputBaseParameters(element, depth);
@@ -2447,7 +3015,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Select transformSelectInput(PseudoElement element, int depth)
+    private Select transformSelectInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars    = resolveInputBaseParameters(element, depth);
@@ -2484,7 +3052,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Slider transformSliderInput(PseudoElement element, int depth)
+    private Slider transformSliderInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars = resolveInputBaseParameters(element, depth);
@@ -2518,7 +3086,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Switch transformSwitchInput(PseudoElement element, int depth)
+    private Switch transformSwitchInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars   = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars   = resolveInputBaseParameters(element, depth);
@@ -2548,7 +3116,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Tag transformTagInput(PseudoElement element, int depth)
+    private Tag transformTagInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars            = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars            = resolveInputBaseParameters(element, depth);
@@ -2597,7 +3165,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Textarea transformTextareaInput(PseudoElement element, int depth)
+    private Textarea transformTextareaInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars       = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars       = resolveInputBaseParameters(element, depth);
@@ -2633,7 +3201,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Textbox transformTextboxInput(PseudoElement element, int depth)
+    private Textbox transformTextboxInput(CompiledElement element, int depth)
     {
         String value = getParameterValue(element, depth, PARAM_VALUE, String.class, DEFAULT_EMPTY_VAL);
 
@@ -2651,7 +3219,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private Textfield transformTextfieldInput(PseudoElement element, int depth)
+    private Textfield transformTextfieldInput(CompiledElement element, int depth)
     {
         ContainerParameters cpars        = resolveContainerBaseParameters(element, depth);
         InputParameters     ipars        = resolveInputBaseParameters(element, depth);
@@ -2696,7 +3264,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private List<SVGElement> transformSVGElement(PseudoElement element, int depth, List<SVGType> allowedTypes)
+    private List<SVGElement> transformSVGElement(CompiledElement element, int depth, List<SVGType> allowedTypes)
     {
         this.count++;
 
@@ -2708,22 +3276,27 @@ public class JsonMapper
 
         if (!processElement)
         {
-            LOG.debug("[{}]:[{}]: skip svg element [{}] due to parameter [active] is [false] or [uid] is deactivated", uuid,
-                depth, uid);
+            trace(depth, "skip svg element [{}] due to parameter [active] is [false] or [uid] is deactivated", uid);
 
             return resultList;
         }
 
         try
         {
-            SVGType type = SVGType.valueOf(element.getType().toUpperCase());
+            SVGType type = element.getSvgType();
+
+            if (type == null)
+            {
+                throw new JsonParsingException(uid, depth, this.count,
+                    String.format("svg type [%s] is unknown", element.getType()));
+            }
 
             if (!allowedTypes.contains(type))
             {
                 return List.of(notAllowedSVGElement());
             }
 
-            LOG.debug("[{}]:[{}]: map svg element [{}] as [{}]", uuid, depth, uid, type);
+            trace(depth, "map svg element [{}] as [{}]", uid, type);
 
             int                 numberOfRepetitions = 1;
             FlatMappableList<?> targetList          = null;
@@ -2731,27 +3304,26 @@ public class JsonMapper
 
             try
             {
-                String targetListName = getParameterValue(element, depth, PARAM_REPETITION_SOURCE, String.class);
-                targetList = extractFromTokenMapsAsValue(targetListName, FlatMappableList.class);
+                if (hasParameter(element, PARAM_REPETITION_SOURCE))
+                {
+                    String targetListName = getParameterValue(element, depth, PARAM_REPETITION_SOURCE, String.class);
+                    targetList = extractFromTokenMapsAsValue(targetListName, FlatMappableList.class);
 
-                numberOfRepetitions = targetList.size();
+                    if (targetList == null)
+                    {
+                        throw new JsonMapperException(String.format("repetitionSource [%s] not found", targetListName));
+                    }
 
-                LOG.debug("[{}]:[{}]: repeat svg element [{}] times", uuid, depth, numberOfRepetitions);
-            }
-            catch (JsonParsingException ex)
-            {
-                LOG.trace("[{}]:[{}]: repetitionSource not set", uuid, depth);
+                    numberOfRepetitions = targetList.size();
 
-                try
+                    trace(depth, "repeat svg element [{}] times", numberOfRepetitions);
+                }
+                else if (hasParameter(element, PARAM_ELEMENT_SOURCE))
                 {
                     String targetName = getParameterValue(element, depth, PARAM_ELEMENT_SOURCE, String.class);
                     target = extractFromTokenMapsAsValue(targetName, FlatMappable.class);
 
-                    LOG.debug("[{}]:[{}]: source element found", uuid, depth);
-                }
-                catch (JsonParsingException exInner)
-                {
-                    LOG.trace("[{}]:[{}]: elementSource not set", uuid, depth);
+                    trace(depth, "source element found");
                 }
             }
             catch (JsonMapperException ex)
@@ -2763,55 +3335,41 @@ public class JsonMapper
                 return resultList;
             }
 
+            IntFunction<TokenSource> frames = repetitionFrames(targetList, target, depth);
+
             for (int i = 0; i < numberOfRepetitions; i++)
             {
-                TokenMap      tempTokenMap  = null;
-                PseudoElement repeatElement =
+                TokenSource     tempTokenMap  = frames.apply(i);
+                CompiledElement repeatElement =
                     numberOfRepetitions > 1 && element.getUid() != null
-                        ? element
-                            .toBuilder()
-                            .uid(uid + "-" + i)
-                            .build()
+                        ? element.withUid(uid + "-" + i)
                         : element;
 
-                if (targetList != null)
-                {
-                    tempTokenMap = flatMappableDissector.dissect(targetList.get(i), depth, locale);
-
-                    tempTokenMaps.put(tempTokenMap.hashCode(), tempTokenMap);
-                }
-
-                if (target != null)
+                if (tempTokenMap != null)
                 {
-                    tempTokenMap = flatMappableDissector.dissect(target, depth, locale);
+                    tokenScope.push(tempTokenMap);
 
-                    tempTokenMaps.put(tempTokenMap.hashCode(), tempTokenMap);
+                    trace(depth, "with temp token map {}", tempTokenMap);
                 }
 
-                if (LOG.isTraceEnabled() && !tempTokenMaps.isEmpty())
+                try
                 {
-                    LOG.debug("[{}]:[{}]: with following temp token maps", uuid, depth);
+                    SVGElement result = switch (type)
+                    {
+                        case GROUP -> transformSVGGroup(repeatElement, depth);
+                        case LINE -> transformSVGLine(repeatElement, depth);
+                        case PATH -> transformSVGPath(repeatElement, depth);
+                        case TEXT -> transformSVGText(repeatElement, depth);
+                    };
 
-                    tempTokenMaps.values()
-                        .stream()
-                        .map(TokenMap::toString)
-                        .map(String::lines)
-                        .forEach(stream -> stream.forEach(line -> LOG.trace("[{}]: {}", uuid, line)));
+                    resultList.add(result);
                 }
-
-                SVGElement result = switch (type)
+                finally
                 {
-                    case GROUP -> transformSVGGroup(repeatElement, depth);
-                    case LINE -> transformSVGLine(repeatElement, depth);
-                    case PATH -> transformSVGPath(repeatElement, depth);
-                    case TEXT -> transformSVGText(repeatElement, depth);
-                };
-
-                resultList.add(result);
-
-                if (tempTokenMap != null)
-                {
-                    tempTokenMaps.remove(tempTokenMap.hashCode());
+                    if (tempTokenMap != null)
+                    {
+                        tokenScope.pop();
+                    }
                 }
             }
         }
@@ -2850,7 +3408,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGGroup transformSVGGroup(PseudoElement element, int depth)
+    private SVGGroup transformSVGGroup(CompiledElement element, int depth)
     {
         ContainerParameters cpars    = resolveContainerBaseParameters(element, depth);
 
@@ -2880,7 +3438,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGLine transformSVGLine(PseudoElement element, int depth)
+    private SVGLine transformSVGLine(CompiledElement element, int depth)
     {
         ContainerParameters cpars   = resolveContainerBaseParameters(element, depth);
 
@@ -2914,7 +3472,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPath transformSVGPath(PseudoElement element, int depth)
+    private SVGPath transformSVGPath(CompiledElement element, int depth)
     {
         ContainerParameters  cpars    = resolveContainerBaseParameters(element, depth);
 
@@ -2945,9 +3503,17 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCommand transformSVGPathCommand(PseudoElement element, int depth)
+    private SVGPathCommand transformSVGPathCommand(CompiledElement element, int depth)
     {
-        return switch (SVGPathCommandType.valueOf(element.getType().toUpperCase()))
+        SVGPathCommandType type = element.getPathCommandType();
+
+        if (type == null)
+        {
+            throw new JsonParsingException(element.getUid(), depth, this.count,
+                String.format("svg path command [%s] is unknown", element.getType()));
+        }
+
+        return switch (type)
         {
             case A -> transformSVGPathCmdA(element, depth);
             case C -> transformSVGPathCmdC(element, depth);
@@ -2969,7 +3535,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdA transformSVGPathCmdA(PseudoElement element, int depth)
+    private SVGPathCmdA transformSVGPathCmdA(CompiledElement element, int depth)
     {
         Boolean relative          = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  rx                = getParameterValue(element, depth, "rx", Double.class);
@@ -2998,7 +3564,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdC transformSVGPathCmdC(PseudoElement element, int depth)
+    private SVGPathCmdC transformSVGPathCmdC(CompiledElement element, int depth)
     {
         Boolean relative       = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  controlPoint1X = getParameterValue(element, depth, "controlPoint1X", Double.class);
@@ -3027,7 +3593,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdH transformSVGPathCmdH(PseudoElement element, int depth)
+    private SVGPathCmdH transformSVGPathCmdH(CompiledElement element, int depth)
     {
         Boolean relative = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  x        = getParameterValue(element, depth, "x", Double.class);
@@ -3046,7 +3612,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdL transformSVGPathCmdL(PseudoElement element, int depth)
+    private SVGPathCmdL transformSVGPathCmdL(CompiledElement element, int depth)
     {
         Boolean relative = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  x        = getParameterValue(element, depth, "x", Double.class);
@@ -3067,7 +3633,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdM transformSVGPathCmdM(PseudoElement element, int depth)
+    private SVGPathCmdM transformSVGPathCmdM(CompiledElement element, int depth)
     {
         Boolean relative = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  x        = getParameterValue(element, depth, "x", Double.class);
@@ -3088,7 +3654,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdQ transformSVGPathCmdQ(PseudoElement element, int depth)
+    private SVGPathCmdQ transformSVGPathCmdQ(CompiledElement element, int depth)
     {
         Boolean relative      = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  controlPointX = getParameterValue(element, depth, "controlPointX", Double.class);
@@ -3113,7 +3679,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdS transformSVGPathCmdS(PseudoElement element, int depth)
+    private SVGPathCmdS transformSVGPathCmdS(CompiledElement element, int depth)
     {
         Boolean relative      = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  controlPointX = getParameterValue(element, depth, "controlPointX", Double.class);
@@ -3138,7 +3704,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdT transformSVGPathCmdT(PseudoElement element, int depth)
+    private SVGPathCmdT transformSVGPathCmdT(CompiledElement element, int depth)
     {
         Boolean relative  = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  endPointX = getParameterValue(element, depth, "endPointX", Double.class);
@@ -3159,7 +3725,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdV transformSVGPathCmdV(PseudoElement element, int depth)
+    private SVGPathCmdV transformSVGPathCmdV(CompiledElement element, int depth)
     {
         Boolean relative = getParameterValue(element, depth, "relative", Boolean.class, false);
         Double  y        = getParameterValue(element, depth, "y", Double.class);
@@ -3178,7 +3744,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGPathCmdZ transformSVGPathCmdZ(PseudoElement element, int depth)
+    private SVGPathCmdZ transformSVGPathCmdZ(CompiledElement element, int depth)
     {
         Boolean relative = getParameterValue(element, depth, "relative", Boolean.class, false);
 
@@ -3195,7 +3761,7 @@ public class JsonMapper
      * @param depth of the recursive operation
      * @return the transformed object
      */
-    private SVGText transformSVGText(PseudoElement element, int depth)
+    private SVGText transformSVGText(CompiledElement element, int depth)
     {
         ContainerParameters cpars      = resolveContainerBaseParameters(element, depth);
 
@@ -3228,4 +3794,59 @@ public class JsonMapper
             .build();
     }
 
+    /**
+     * Resolves the placeholders of a generated {@link TemplateRenderer} from the state of this mapper.
+     */
+    private final class MapperRenderContext implements RenderContext
+    {
+
+        private final CompiledElement root;
+
+        /** number of {@code template} nodes below the transformed elements */
+        private int                   transformedNodes;
+
+        private MapperRenderContext(CompiledElement root)
+        {
+            this.root = root;
+        }
+
+        @Override
+        public String nextUid()
+        {
+            return RANDOM_ID + "-" + uidStrategy.nextUid();
+        }
+
+        @Override
+        public boolean isActive(String uid)
+        {
+            return checkActiveStateFromTokenMaps(uid);
+        }
+
+        @Override
+        public String value(String key)
+        {
+            return extractFromTokenMapsAsValue(key, String.class);
+        }
+
+        @Override
+        public String text(String key)
+        {
+            return translationProvider.getText(locale, key);
+        }
+
+        @Override
+        public List<Container> transform(int... path)
+        {
+            CompiledElement element = root;
+
+            for (int index : path)
+            {
+                element = element.getChildren().get(index);
+            }
+
+            transformedNodes += element.getNodeCount();
+
+            return JsonMapper.this.transform(element, path.length, CONTENT_CONTAINER_CHILDREN);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+import de.cookindustries.lib.spring.gui.hmi.mapper.exception.JsonMapperException;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappable;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableCursor;
+
+/**
+ * A lazy source of {@link FlatMappable} elements for repetitions and {@code COMPONENT} lists.
+ * <p>
+ * Wraps a {@code Iterable}, {@code Iterator}, {@code Stream}, {@code Spliterator} or {@link FlatMappableCursor}, so the {@link JsonMapper}
+ * can pull elements one by one without materializing them. Closing the source closes the underlying {@code Stream} or
+ * {@code FlatMappableCursor}.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+final class LazySource implements Iterator<FlatMappable>, AutoCloseable
+{
+
+    private final Iterator<?>   iterator;
+    private final AutoCloseable resource;
+
+    private LazySource(Iterator<?> iterator, AutoCloseable resource)
+    {
+        this.iterator = iterator;
+        this.resource = resource;
+    }
+
+    /**
+     * Wrap a token value.
+     * 
+     * @param value to wrap
+     * @return the source, or {@code null} if {@code value} is no supported lazy source
+     */
+    static LazySource of(Object value)
+    {
+        if (value instanceof Stream<?> stream)
+        {
+            return new LazySource(stream.iterator(), stream);
+        }
+
+        if (value instanceof FlatMappableCursor<?> cursor)
+        {
+            return new LazySource(new CursorIterator(cursor), cursor);
+        }
+
+        if (value instanceof Iterable<?> iterable)
+        {
+            return new LazySource(iterable.iterator(), null);
+        }
+
+        if (value instanceof Iterator<?> iter)
+        {
+            return new LazySource(iter, null);
+        }
+
+        if (value instanceof Spliterator<?> spliterator)
+        {
+            return new LazySource(Spliterators.iterator(spliterator), null);
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public FlatMappable next()
+    {
+        Object element = iterator.next();
+
+        if (element == null || element instanceof FlatMappable)
+        {
+            return (FlatMappable) element;
+        }
+
+        throw new JsonMapperException(
+            String.format("element of type [%s] is no [%s]", element.getClass().getSimpleName(), FlatMappable.class.getSimpleName()));
+    }
+
+    @Override
+    public void close()
+    {
+        if (resource == null)
+        {
+            return;
+        }
+
+        try
+        {
+            resource.close();
+        }
+        catch (Exception ex)
+        {
+            throw new JsonMapperException("failed to close lazy source", ex);
+        }
+    }
+
+    /**
+     * Iterates over all pages of a {@link FlatMappableCursor}, holding only the current page.
+     */
+    private static final class CursorIterator implements Iterator<Object>
+    {
+
+        private final FlatMappableCursor<?> cursor;
+
+        private Iterator<?>                 page      = null;
+        private boolean                     exhausted = false;
+
+        CursorIterator(FlatMappableCursor<?> cursor)
+        {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (!exhausted && (page == null || !page.hasNext()))
+            {
+                List<?> next = cursor.nextPage();
+
+                if (next == null || next.isEmpty())
+                {
+                    exhausted = true;
+                    page = null;
+                }
+                else
+                {
+                    page = next.iterator();
+                }
+            }
+
+            return !exhausted;
+        }
+
+        @Override
+        public Object next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            return page.next();
+        }
+    }
+}
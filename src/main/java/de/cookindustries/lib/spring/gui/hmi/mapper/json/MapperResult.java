@@ -27,7 +27,14 @@ public final class MapperResult
     @Singular
     private final List<AbsFunctionCall> functions;
 
+    /** the mapping time in milliseconds, including the dissection of the {@code TokenMap}s and all linked components */
     @NotNull
     private final Long                  time;
 
+    /** the time spent in each phase, {@code null} for intermediate results */
+    private final MappingTimings        timings;
+
+    /** the recorded trace of the mapping run, {@code null} if tracing was not enabled */
+    private final MappingTrace          trace;
+
 }
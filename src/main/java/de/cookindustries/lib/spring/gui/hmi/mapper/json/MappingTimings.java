@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The time spent in the phases of creating a component, in nanoseconds.
+ * <p>
+ * The {@link JsonMapper} measures {@link #dissection} and {@link #transform}. The time spent in linked components is part of the
+ * {@code transform} and is broken down per {@code template} path in {@link #components}, where all instances of the same path are
+ * summed up. {@link #render} and {@link #serialization} are only measured where the result is turned into its final form, e.g. by
+ * {@code GUIFactory.createHtmlSite}, and are {@code 0} otherwise.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Getter
+public final class MappingTimings
+{
+
+    /** time to dissect the objects of the {@code TokenMap}s */
+    private final long                        dissection;
+
+    /** time to transform the {@code template} into {@code Container}s, including linked components */
+    private final long                        transform;
+
+    /** time to render the {@code Container}s, or the whole site holding them, to HTML */
+    private final long                        render;
+
+    /** time to turn the rendered HTML into the response, e.g. into its final {@code String} */
+    private final long                        serialization;
+
+    /** timings of the linked components, by {@code template} path */
+    private final Map<String, MappingTimings> components;
+
+    @Builder(toBuilder = true)
+    private MappingTimings(long dissection, long transform, long render, long serialization, Map<String, MappingTimings> components)
+    {
+        this.dissection = dissection;
+        this.transform = transform;
+        this.render = render;
+        this.serialization = serialization;
+        this.components = components == null ? Map.of() : Map.copyOf(components);
+    }
+
+    /**
+     * Get the time spent in linked components.
+     *
+     * @return the sum of the {@link #getTotal() total} of all {@link #components}
+     */
+    public long getNested()
+    {
+        return components
+            .values()
+            .stream()
+            .mapToLong(MappingTimings::getTotal)
+            .sum();
+    }
+
+    /**
+     * Get the time spent in all phases.
+     *
+     * @return the total time
+     */
+    public long getTotal()
+    {
+        return dissection + transform + render + serialization;
+    }
+
+    /**
+     * Sum up these timings with {@code other}, e.g. for multiple instances of the same component.
+     *
+     * @param other timings to add
+     * @return the summed up timings
+     */
+    public MappingTimings plus(MappingTimings other)
+    {
+        Map<String, MappingTimings> merged = new HashMap<>(components);
+
+        other.components.forEach((path, timings) -> merged.merge(path, timings, MappingTimings::plus));
+
+        return MappingTimings
+            .builder()
+            .dissection(dissection + other.dissection)
+            .transform(transform + other.transform)
+            .render(render + other.render)
+            .serialization(serialization + other.serialization)
+            .components(merged)
+            .build();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format(
+            "dissection=%dus, transform=%dus (nested=%dus), render=%dus, serialization=%dus, components=%s",
+            dissection / 1_000L, transform / 1_000L, getNested() / 1_000L, render / 1_000L, serialization / 1_000L, components);
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * A bounded recorder for the trace events of a single mapping request.
+ * <p>
+ * Pass a trace to the {@link JsonMapper} to record what it does, the recorded trace is attached to the {@link MapperResult}. Once the
+ * {@link #getCapacity() capacity} is reached, the oldest events are overwritten. Events keep their arguments as is and are only
+ * formatted when read, so the arguments must not be mutated. Without a trace the {@link JsonMapper} records nothing at all.
+ * <p>
+ * A trace is thread-safe, so it can be shared by parallel subtrees and linked components of the same request.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class MappingTrace
+{
+
+    /**
+     * The default number of events to keep
+     */
+    public static final int DEFAULT_CAPACITY = 1_024;
+
+    private final Event[]   events;
+
+    private long            recorded;
+
+    /**
+     * Create a trace keeping the last {@link #DEFAULT_CAPACITY} events.
+     */
+    public MappingTrace()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a trace keeping the last {@code capacity} events.
+     *
+     * @param capacity number of events to keep
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public MappingTrace(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("trace capacity must be positive");
+        }
+
+        events = new Event[capacity];
+    }
+
+    /**
+     * Record an event.
+     *
+     * @param mapper id of the recording mapper
+     * @param depth in the element tree
+     * @param message with {@code {}} placeholders for the {@code arguments}
+     * @param arguments of the message
+     */
+    synchronized void record(String mapper, int depth, String message, Object... arguments)
+    {
+        events[(int) (recorded % events.length)] = new Event(System.nanoTime(), mapper, depth, message, arguments);
+        recorded++;
+    }
+
+    /**
+     * Get the maximum number of events kept.
+     *
+     * @return the capacity
+     */
+    public int getCapacity()
+    {
+        return events.length;
+    }
+
+    /**
+     * Get the number of events, that were overwritten because the capacity was exceeded.
+     *
+     * @return the number of dropped events
+     */
+    public synchronized long getDropped()
+    {
+        return Math.max(0, recorded - events.length);
+    }
+
+    /**
+     * Get the kept events.
+     *
+     * @return the events, oldest first
+     */
+    public synchronized List<Event> getEvents()
+    {
+        int         size   = (int) Math.min(recorded, events.length);
+        List<Event> result = new ArrayList<>(size);
+
+        for (long i = recorded - size; i < recorded; i++)
+        {
+            result.add(events[(int) (i % events.length)]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return getEvents()
+            .stream()
+            .map(Event::toString)
+            .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * A recorded event.
+     *
+     * @param time of the event from {@link System#nanoTime()}
+     * @param mapper id of the recording mapper
+     * @param depth in the element tree
+     * @param message with {@code {}} placeholders for the {@code arguments}
+     * @param arguments of the message
+     */
+    public record Event(long time, String mapper, int depth, String message, Object[] arguments)
+    {
+
+        /**
+         * Get the message with all placeholders replaced by their arguments.
+         *
+         * @return the formatted message
+         */
+        public String getText()
+        {
+            Object[] formatted =
+                Arrays
+                    .stream(arguments)
+                    .map(arg -> arg instanceof Class<?> clazz ? clazz.getSimpleName() : arg)
+                    .toArray();
+
+            return MessageFormatter.arrayFormat(message, formatted).getMessage();
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("[%s]:[%d]: %s", mapper, depth, getText());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.List;
+
+import de.cookindustries.lib.spring.gui.hmi.container.Container;
+
+/**
+ * The resolved token layer of a single mapping run, as seen by a generated {@link TemplateRenderer}.
+ * <p>
+ * Every method resolves exactly like the {@link JsonMapper} does for the same placeholder, so a renderer produces the same
+ * {@code Container}s as interpreting the {@code template}.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public interface RenderContext
+{
+
+    /**
+     * Generate the {@code uid} of an element without one.
+     *
+     * @return the next random {@code uid}
+     */
+    String nextUid();
+
+    /**
+     * Check if an element is active.
+     *
+     * @param uid of the element
+     * @return {@code false} if the {@code uid} is deactivated in the token maps, {@code true} otherwise
+     */
+    boolean isActive(String uid);
+
+    /**
+     * Resolve a {@code $$value$} placeholder as {@code String}.
+     *
+     * @param key of the placeholder
+     * @return the value, or {@code null} if it is not set
+     */
+    String value(String key);
+
+    /**
+     * Resolve a {@code $$text$} placeholder.
+     *
+     * @param key of the placeholder
+     * @return the translated text, or {@code null} if there is no translation
+     */
+    String text(String key);
+
+    /**
+     * Transform an element of the {@code template}, that could not be generated, e.g. a repetition or a {@code COMPONENT}, like the
+     * {@link JsonMapper} transforms a child of a {@code CONTENT} container.
+     *
+     * @param path the indices of the children leading from the root to the element
+     * @return the transformed containers
+     */
+    List<Container> transform(int... path);
+}
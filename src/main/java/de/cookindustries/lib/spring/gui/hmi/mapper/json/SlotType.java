@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+/**
+ * Classification of a {@link ValueSlot}, resolved once when a template is compiled.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public enum SlotType {
+
+    /** a plain value, taken as is */
+    LITERAL,
+
+    /** a {@code $$text$} placeholder, resolved by translation */
+    TEXT,
+
+    /** a {@code $$value$} placeholder, resolved from the token maps */
+    VALUE,
+
+    /** a {@code $$class$} placeholder, resolved from the token maps */
+    CLASS,
+
+    /** a {@code $$function$} placeholder, resolved from the token maps */
+    FUNCTION,
+
+    /** starts with {@code $$} but matches no known placeholder, always resolves to nothing */
+    UNKNOWN;
+
+    /**
+     * Whether this slot has to be evaluated per mapping run.
+     *
+     * @return {@code true} if the slot is a placeholder of any kind
+     */
+    public boolean isDynamic()
+    {
+        return this != LITERAL;
+    }
+}
@@ -0,0 +1,414 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * A single binary file holding many pre-parsed {@code template}s, created at build time by the {@link TemplateBundleWriter}.
+ * <p>
+ * A bundle starts with a table of all distinct strings and an index of all {@code template} paths, followed by the encoded
+ * {@link PseudoElement} trees. Opening a bundle only reads the string table and the index, each {@code template} is
+ * {@link #decode(String) decoded} on demand. Bundles on the file system are memory-mapped, bundles inside a jar are read into the
+ * heap once.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TemplateBundle
+{
+
+    private static final int          MAGIC       = 0x43495442; // CITB
+    private static final int          VERSION     = 1;
+
+    private static final byte         TAG_NULL    = 0;
+    private static final byte         TAG_STRING  = 1;
+    private static final byte         TAG_INTEGER = 2;
+    private static final byte         TAG_LONG    = 3;
+    private static final byte         TAG_DOUBLE  = 4;
+    private static final byte         TAG_BOOLEAN = 5;
+    private static final byte         TAG_LIST    = 6;
+    private static final byte         TAG_MAP     = 7;
+
+    private final ByteBuffer          data;
+    private final String[]            strings;
+    private final Map<String, Region> index;
+
+    private TemplateBundle(ByteBuffer data, String[] strings, Map<String, Region> index)
+    {
+        this.data = data;
+        this.strings = strings;
+        this.index = index;
+    }
+
+    /**
+     * Open a bundle.
+     *
+     * @param resource of the bundle
+     * @return the opened bundle
+     * @throws IOException if the bundle could not be read or has an unsupported format
+     */
+    public static TemplateBundle open(Resource resource) throws IOException
+    {
+        ByteBuffer buffer;
+
+        if (resource.isFile())
+        {
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ))
+            {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        else
+        {
+            try (InputStream is = resource.getInputStream())
+            {
+                buffer = ByteBuffer.wrap(is.readAllBytes());
+            }
+        }
+
+        if (buffer.getInt() != MAGIC)
+        {
+            throw new IOException(String.format("[%s] is no template bundle", resource));
+        }
+
+        int version = buffer.getInt();
+
+        if (version != VERSION)
+        {
+            throw new IOException(String.format("unsupported template bundle version [%d] in [%s]", version, resource));
+        }
+
+        String[] strings = new String[buffer.getInt()];
+
+        for (int i = 0; i < strings.length; i++)
+        {
+            byte[] bytes = new byte[buffer.getInt()];
+
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int                 entries = buffer.getInt();
+        Map<String, Region> index   = new HashMap<>(entries * 2);
+
+        for (int i = 0; i < entries; i++)
+        {
+            index.put(strings[buffer.getInt()], new Region(buffer.getInt(), buffer.getInt()));
+        }
+
+        return new TemplateBundle(buffer.slice(), strings, Collections.unmodifiableMap(index));
+    }
+
+    /**
+     * Get the paths of all {@code template}s in this bundle.
+     *
+     * @return the paths
+     */
+    public Set<String> getPaths()
+    {
+        return index.keySet();
+    }
+
+    /**
+     * Decode a {@code template}.
+     *
+     * @param path of the {@code template}
+     * @return the decoded {@code template}
+     * @throws IllegalArgumentException if the bundle has no {@code template} with this {@code path}
+     */
+    public PseudoElement decode(String path)
+    {
+        Region region = index.get(path);
+
+        if (region == null)
+        {
+            throw new IllegalArgumentException(String.format("no template for path [%s] in bundle", path));
+        }
+
+        return decodeElement(data.slice(region.offset(), region.length()));
+    }
+
+    private PseudoElement decodeElement(ByteBuffer buffer)
+    {
+        PseudoElement.PseudoElementBuilder builder = PseudoElement.builder();
+
+        builder.uid(string(buffer.getInt()));
+        builder.type(strings[buffer.getInt()]);
+
+        String[] classes = new String[buffer.getInt()];
+
+        for (int i = 0; i < classes.length; i++)
+        {
+            classes[i] = strings[buffer.getInt()];
+        }
+
+        builder.classes(Arrays.asList(classes));
+
+        for (int i = buffer.getInt(); i > 0; i--)
+        {
+            builder.attribute(strings[buffer.getInt()], string(buffer.getInt()));
+        }
+
+        for (int i = buffer.getInt(); i > 0; i--)
+        {
+            builder.parameter(strings[buffer.getInt()], decodeValue(buffer));
+        }
+
+        for (int i = buffer.getInt(); i > 0; i--)
+        {
+            builder.child(decodeElement(buffer));
+        }
+
+        return builder.build();
+    }
+
+    private Object decodeValue(ByteBuffer buffer)
+    {
+        byte tag = buffer.get();
+
+        return switch (tag)
+        {
+            case TAG_NULL -> null;
+            case TAG_STRING -> strings[buffer.getInt()];
+            case TAG_INTEGER -> buffer.getInt();
+            case TAG_LONG -> buffer.getLong();
+            case TAG_DOUBLE -> buffer.getDouble();
+            case TAG_BOOLEAN -> buffer.get() != 0;
+            case TAG_LIST -> {
+                int          size = buffer.getInt();
+                List<Object> list = new ArrayList<>(size);
+
+                for (int i = 0; i < size; i++)
+                {
+                    list.add(decodeValue(buffer));
+                }
+
+                yield list;
+            }
+            case TAG_MAP -> {
+                int                 size = buffer.getInt();
+                Map<String, Object> map  = new LinkedHashMap<>();
+
+                for (int i = 0; i < size; i++)
+                {
+                    map.put(strings[buffer.getInt()], decodeValue(buffer));
+                }
+
+                yield map;
+            }
+            default -> throw new IllegalStateException(String.format("unknown value tag [%d] in template bundle", tag));
+        };
+    }
+
+    private String string(int id)
+    {
+        return id < 0 ? null : strings[id];
+    }
+
+    /**
+     * Write {@code template}s into a bundle.
+     *
+     * @param templates by path
+     * @param target file to write
+     * @throws IOException if the file could not be written
+     * @throws IllegalArgumentException if a parameter holds a value, that is not supported by the bundle format
+     */
+    public static void write(Map<String, PseudoElement> templates, Path target) throws IOException
+    {
+        Encoder             encoder = new Encoder();
+        Map<String, byte[]> encoded = new TreeMap<>();
+
+        for (Map.Entry<String, PseudoElement> entry : templates.entrySet())
+        {
+            encoder.id(entry.getKey());
+            encoded.put(entry.getKey(), encoder.encode(entry.getValue()));
+        }
+
+        try (OutputStream os = Files.newOutputStream(target);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os)))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(encoder.strings.size());
+
+            for (String string : encoder.strings.keySet())
+            {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(encoded.size());
+
+            int offset = 0;
+
+            for (Map.Entry<String, byte[]> entry : encoded.entrySet())
+            {
+                out.writeInt(encoder.strings.get(entry.getKey()));
+                out.writeInt(offset);
+                out.writeInt(entry.getValue().length);
+
+                offset += entry.getValue().length;
+            }
+
+            for (byte[] bytes : encoded.values())
+            {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Encodes {@link PseudoElement}s and collects their strings into one table.
+     */
+    private static final class Encoder
+    {
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+        private byte[] encode(PseudoElement element) throws IOException
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (DataOutputStream out = new DataOutputStream(bytes))
+            {
+                encodeElement(element, out);
+            }
+
+            return bytes.toByteArray();
+        }
+
+        private void encodeElement(PseudoElement element, DataOutputStream out) throws IOException
+        {
+            out.writeInt(element.getUid() == null ? -1 : id(element.getUid()));
+            out.writeInt(id(element.getType()));
+
+            out.writeInt(element.getClasses().size());
+
+            for (String clazz : element.getClasses())
+            {
+                out.writeInt(id(clazz));
+            }
+
+            out.writeInt(element.getAttributes().size());
+
+            for (Map.Entry<String, String> attribute : element.getAttributes().entrySet())
+            {
+                out.writeInt(id(attribute.getKey()));
+                out.writeInt(attribute.getValue() == null ? -1 : id(attribute.getValue()));
+            }
+
+            out.writeInt(element.getParameters().size());
+
+            for (Map.Entry<String, Object> parameter : element.getParameters().entrySet())
+            {
+                out.writeInt(id(parameter.getKey()));
+                encodeValue(parameter.getValue(), out);
+            }
+
+            out.writeInt(element.getChildren().size());
+
+            for (PseudoElement child : element.getChildren())
+            {
+                encodeElement(child, out);
+            }
+        }
+
+        private void encodeValue(Object value, DataOutputStream out) throws IOException
+        {
+            if (value == null)
+            {
+                out.writeByte(TAG_NULL);
+            }
+            else if (value instanceof String string)
+            {
+                out.writeByte(TAG_STRING);
+                out.writeInt(id(string));
+            }
+            else if (value instanceof Integer integer)
+            {
+                out.writeByte(TAG_INTEGER);
+                out.writeInt(integer);
+            }
+            else if (value instanceof Long number)
+            {
+                out.writeByte(TAG_LONG);
+                out.writeLong(number);
+            }
+            else if (value instanceof Double number)
+            {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble(number);
+            }
+            else if (value instanceof Boolean bool)
+            {
+                out.writeByte(TAG_BOOLEAN);
+                out.writeBoolean(bool);
+            }
+            else if (value instanceof List<?> list)
+            {
+                out.writeByte(TAG_LIST);
+                out.writeInt(list.size());
+
+                for (Object item : list)
+                {
+                    encodeValue(item, out);
+                }
+            }
+            else if (value instanceof Map<?, ?> map)
+            {
+                out.writeByte(TAG_MAP);
+                out.writeInt(map.size());
+
+                for (Map.Entry<?, ?> entry : map.entrySet())
+                {
+                    out.writeInt(id(String.valueOf(entry.getKey())));
+                    encodeValue(entry.getValue(), out);
+                }
+            }
+            else
+            {
+                throw new IllegalArgumentException(String.format("unsupported parameter value [%s] of type [%s]", value,
+                    value.getClass().getSimpleName()));
+            }
+        }
+
+        private int id(String string)
+        {
+            return strings.computeIfAbsent(string, key -> strings.size());
+        }
+    }
+
+    private record Region(int offset, int length)
+    {
+    }
+}
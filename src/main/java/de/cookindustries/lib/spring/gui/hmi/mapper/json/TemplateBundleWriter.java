@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.cookindustries.lib.spring.gui.util.StringAdapter;
+
+/**
+ * Build step to precompile a directory of {@code template}s into a {@link TemplateBundle}.
+ * <p>
+ * Every {@code *.json} file under the directory is parsed and compiled. The build fails if a file can not be parsed or holds values
+ * the bundle can not encode. {@code COMPONENT}s linking to a {@code template} missing in the bundle are reported as warnings, since
+ * they may be provided by another jar. Invoke it from the build of the application, e.g. with the {@code exec-maven-plugin} in the
+ * {@code prepare-package} phase:
+ *
+ * <pre>
+ * {@code
+ * <mainClass>de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateBundleWriter</mainClass>
+ * <arguments>
+ *     <argument>${project.build.outputDirectory}/templates</argument>
+ *     <argument>${project.build.outputDirectory}/templates.bundle</argument>
+ * </arguments>
+ * }
+ * </pre>
+ *
+ * and point {@code cook-industries.resources.template-cache.bundle} to {@code classpath:templates.bundle}.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TemplateBundleWriter
+{
+
+    private static final ObjectReader READER = new ObjectMapper().readerFor(PseudoElement.class);
+
+    private TemplateBundleWriter()
+    {
+        // prevent instantiation
+    }
+
+    /**
+     * Write a bundle.
+     *
+     * @param args the {@code template} directory and the bundle file to write
+     */
+    public static void main(String[] args)
+    {
+        int status = run(args, System.out, System.err);
+
+        if (status != 0)
+        {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Write a bundle.
+     *
+     * @param args the {@code template} directory and the bundle file to write
+     * @param out to report progress on
+     * @param err to report problems on
+     * @return {@code 0} on success, {@code 1} on invalid {@code template}s, {@code 2} on wrong arguments or I/O errors
+     */
+    static int run(String[] args, PrintStream out, PrintStream err)
+    {
+        if (args.length != 2)
+        {
+            err.println("usage: TemplateBundleWriter <template directory> <bundle file>");
+
+            return 2;
+        }
+
+        Path                       directory = Path.of(args[0]);
+        Path                       target    = Path.of(args[1]);
+        Map<String, PseudoElement> templates = new TreeMap<>();
+        List<String>               errors    = new ArrayList<>();
+
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            for (Path file : files.filter(f -> Files.isRegularFile(f) && f.toString().endsWith(".json")).sorted().toList())
+            {
+                String path = StringAdapter.sanitizePath(directory.relativize(file).toString());
+
+                try
+                {
+                    PseudoElement element = READER.readValue(file.toFile());
+
+                    TemplateCompiler.compile(element);
+                    templates.put(path, element);
+                }
+                catch (IOException | RuntimeException ex)
+                {
+                    errors.add(String.format("[%s]: %s", path, ex.getMessage()));
+                }
+            }
+
+            templates.forEach(
+                (path, element) -> {
+                    Set<String> includes = TemplateCompiler.collectIncludes(TemplateCompiler.compile(element));
+
+                    includes
+                        .stream()
+                        .filter(include -> !templates.containsKey(include))
+                        .sorted()
+                        .forEach(include -> err.printf("warning: [%s] links to [%s], which is not in the bundle%n", path, include));
+                });
+
+            if (!errors.isEmpty())
+            {
+                errors.forEach(err::println);
+
+                return 1;
+            }
+
+            TemplateBundle.write(templates, target);
+        }
+        catch (IllegalArgumentException ex)
+        {
+            err.println(ex.getMessage());
+
+            return 1;
+        }
+        catch (IOException ex)
+        {
+            err.println(String.format("error writing template bundle [%s]: %s", target, ex.getMessage()));
+
+            return 2;
+        }
+
+        out.printf("wrote [%d] templates to [%s] (%d bytes)%n", templates.size(), target, target.toFile().length());
+
+        return 0;
+    }
+}
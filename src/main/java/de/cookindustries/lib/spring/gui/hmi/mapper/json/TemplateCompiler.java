@@ -0,0 +1,380 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import de.cookindustries.lib.spring.gui.hmi.container.ContainerType;
+import de.cookindustries.lib.spring.gui.hmi.input.InputType;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.CompiledElement.AttributeSlot;
+import de.cookindustries.lib.spring.gui.hmi.svg.SVGPathCommandType;
+import de.cookindustries.lib.spring.gui.hmi.svg.SVGType;
+import de.cookindustries.lib.spring.gui.hmi.util.TemplateFileCache;
+import de.cookindustries.lib.spring.gui.util.StringAdapter;
+
+/**
+ * Compiles {@link PseudoElement} trees into immutable {@link CompiledElement} plans.
+ * <p>
+ * The compiler does not validate a template. Unknown type names simply resolve to no enum constant and are reported by the
+ * {@link JsonMapper} when the element is actually mapped, same as before.
+ * <p>
+ * Subtrees without any dynamic part are marked as {@link CompiledElement#isConstant() constant} and can be
+ * {@link #compile(PseudoElement, TemplateFileCache) folded} into pre-mapped {@link FoldedSubtree}s.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TemplateCompiler
+{
+
+    private static final String      TYPE_INPUT_VALUE   = "INPUT_VALUE";
+
+    private static final String      PARAM_PATH         = "path";
+
+    private static final Set<String> BINDING_PARAMETERS = Set.of("active", "repetitionSource", "elementSource", "sourceKey");
+
+    private static final Set<String> INLINE_PARAMETERS  = Set.of(PARAM_PATH, "isSourceList");
+
+    private TemplateCompiler()
+    {
+        // prevent instantiation
+    }
+
+    /**
+     * Compile a {@link PseudoElement} and all of its children.
+     *
+     * @param element to compile
+     * @return the compiled plan
+     */
+    public static CompiledElement compile(PseudoElement element)
+    {
+        return withFingerprint(compileShared(element, null), element);
+    }
+
+    private static CompiledElement compileShared(PseudoElement element, TemplateInterner interner)
+    {
+        return interner == null ? compileElement(element, null) : interner.compiled(element, e -> compileElement(e, interner));
+    }
+
+    private static CompiledElement compileElement(PseudoElement element, TemplateInterner interner)
+    {
+        String              upperType        = element.getType().toUpperCase();
+
+        List<ValueSlot>     classes          = new ArrayList<>();
+        boolean             dynamicClasses   = false;
+
+        for (String clazz : element.getClasses())
+        {
+            if (clazz.startsWith(ValueSlot.INDICATOR_CLASS))
+            {
+                classes.add(ValueSlot.placeholder(SlotType.CLASS, clazz, clazz.replace(ValueSlot.INDICATOR_CLASS, "")));
+                dynamicClasses = true;
+            }
+            else if (!clazz.isBlank())
+            {
+                classes.add(ValueSlot.literal(clazz, clazz));
+            }
+        }
+
+        List<AttributeSlot> attributes       = new ArrayList<>();
+        boolean             dynamicAttribute = false;
+
+        for (Map.Entry<String, String> attribute : element.getAttributes().entrySet())
+        {
+            ValueSlot key   = ValueSlot.ofValueOnly(attribute.getKey(), sanitizeUid(attribute.getKey()));
+            ValueSlot value = ValueSlot.ofValueOnly(attribute.getValue(), attribute.getValue().replace("\"", ""));
+
+            dynamicAttribute |= key.getType().isDynamic() || value.getType().isDynamic();
+
+            attributes.add(new AttributeSlot(key, value));
+        }
+
+        Map<String, ValueSlot> parameters = new HashMap<>();
+        boolean                constant   = !dynamicClasses && !dynamicAttribute;
+
+        for (Map.Entry<String, Object> parameter : element.getParameters().entrySet())
+        {
+            ValueSlot slot = ValueSlot.of(parameter.getValue());
+
+            constant &= isConstant(parameter.getKey(), slot);
+
+            parameters.put(parameter.getKey(), slot);
+        }
+
+        List<CompiledElement> children  = new ArrayList<>(element.getChildren().size());
+        int                   nodeCount = 1;
+
+        for (PseudoElement child : element.getChildren())
+        {
+            CompiledElement compiled = compileShared(child, interner);
+
+            children.add(compiled);
+            nodeCount += compiled.getNodeCount();
+            constant &= compiled.isConstant();
+        }
+
+        ValueSlot           uidSlot      =
+            element.getUid() == null ? null : ValueSlot.ofValueOnly(element.getUid(), sanitizeUid(element.getUid()));
+        InternalElementType internalType = resolve(InternalElementType.class, upperType);
+
+        constant &= uidSlot != null && uidSlot.getType() == SlotType.LITERAL && internalType == null;
+
+        return CompiledElement
+            .builder()
+            .uid(element.getUid())
+            .uidSlot(uidSlot)
+            .type(element.getType())
+            .internalType(internalType)
+            .containerType(resolve(ContainerType.class, upperType))
+            .inputType(resolve(InputType.class, upperType))
+            .svgType(resolve(SVGType.class, upperType))
+            .pathCommandType(resolve(SVGPathCommandType.class, upperType))
+            .inputValue(TYPE_INPUT_VALUE.equals(upperType))
+            .classes(List.copyOf(classes))
+            .staticClasses(
+                dynamicClasses
+                    ? null
+                    : classes.isEmpty() ? List.of() : classes.stream().map(ValueSlot::getText).toList())
+            .attributes(List.copyOf(attributes))
+            .staticAttributes(dynamicAttribute ? null : staticAttributes(attributes))
+            .parameters(parameters.isEmpty() ? Map.of() : Collections.unmodifiableMap(parameters))
+            .children(List.copyOf(children))
+            .nodeCount(nodeCount)
+            .constant(constant)
+            .build();
+    }
+
+    /**
+     * Compile a {@link PseudoElement} and all of its children, and fold all maximal {@link CompiledElement#isConstant() constant}
+     * container subtrees into {@link FoldedSubtree}s.
+     *
+     * @param element to compile
+     * @param templateFileCache the cache the {@code template} is loaded by
+     * @return the compiled plan
+     */
+    public static CompiledElement compile(PseudoElement element, TemplateFileCache templateFileCache)
+    {
+        return compile(element, templateFileCache, null);
+    }
+
+    /**
+     * Compile and fold an {@link TemplateInterner#intern(PseudoElement) interned} {@link PseudoElement}, like
+     * {@link #compile(PseudoElement, TemplateFileCache)}, but compile and fold each canonical subtree only once, so its plan is shared by
+     * all {@code template}s it is used in.
+     *
+     * @param element to compile, interned by {@code interner}
+     * @param templateFileCache the cache the {@code template} is loaded by
+     * @param interner the {@code element} was interned with, can be {@code null} to not share any plan
+     * @return the compiled plan
+     */
+    public static CompiledElement compile(PseudoElement element, TemplateFileCache templateFileCache, TemplateInterner interner)
+    {
+        return withFingerprint(fold(compileShared(element, interner), templateFileCache, interner), element);
+    }
+
+    /**
+     * Set the {@link TemplateRenderers#fingerprint(PseudoElement) fingerprint} on the root plan of a {@code template}.
+     *
+     * @param root the plan of {@code template}, which may be shared as a subtree of other {@code template}s
+     * @param template the plan was compiled from
+     * @return a copy of {@code root} with the fingerprint
+     */
+    private static CompiledElement withFingerprint(CompiledElement root, PseudoElement template)
+    {
+        return root.toBuilder().fingerprint(TemplateRenderers.fingerprint(template)).build();
+    }
+
+    /**
+     * Collect the paths of all {@code COMPONENT}s a compiled {@code template} links to with a literal {@code path}.
+     *
+     * @param element to search
+     * @return the sanitized paths of the linked {@code template}s
+     */
+    public static Set<String> collectIncludes(CompiledElement element)
+    {
+        Set<String> includes = new HashSet<>();
+
+        collectIncludes(element, includes);
+
+        return includes;
+    }
+
+    private static void collectIncludes(CompiledElement element, Set<String> includes)
+    {
+        ValueSlot path = element.getParameters().get(PARAM_PATH);
+
+        if (element.getInternalType() == InternalElementType.COMPONENT
+            && path != null
+            && path.getType() == SlotType.LITERAL
+            && path.getRaw() instanceof String raw)
+        {
+            includes.add(StringAdapter.sanitizePath(raw));
+        }
+
+        element.getChildren().forEach(child -> collectIncludes(child, includes));
+    }
+
+    /**
+     * Inline all {@code COMPONENT}s without a source into the plan.
+     * <p>
+     * A {@code COMPONENT} is inlined if it only has a literal {@code path} and no {@code uid}, {@code sourceKey} or {@code active}
+     * parameter. The root of the inlined plan is marked with its {@link CompiledElement#getIncludePath() include path}, so the
+     * {@link JsonMapper} maps it like a linked {@link JsonMapper} would: from depth {@code 0}, restricted to the types allowed in place
+     * of the {@code COMPONENT} and timed as a component. The {@code resolver} returns the already inlined plan of a path, or
+     * {@code null} to keep the {@code COMPONENT}, e.g. for missing {@code template}s or include cycles.
+     *
+     * @param element to inline the {@code COMPONENT}s of
+     * @param resolver of the plans to inline
+     * @return the inlined plan, or {@code element} itself if nothing was inlined
+     */
+    public static CompiledElement inline(CompiledElement element, Function<String, CompiledElement> resolver)
+    {
+        String path = inlinePath(element);
+
+        if (path != null)
+        {
+            CompiledElement linked = resolver.apply(path);
+
+            // a root, which is an inlined component itself, can only be marked with one path
+            return linked == null || linked.getIncludePath() != null ? element : linked.toBuilder().includePath(path).build();
+        }
+
+        List<CompiledElement> children  = new ArrayList<>(element.getChildren().size());
+        boolean               changed   = false;
+        int                   nodeCount = 1;
+
+        for (CompiledElement child : element.getChildren())
+        {
+            CompiledElement inlined = inline(child, resolver);
+
+            children.add(inlined);
+            changed |= inlined != child;
+            nodeCount += inlined.getNodeCount();
+        }
+
+        return changed
+            ? element
+                .toBuilder()
+                .children(List.copyOf(children))
+                .nodeCount(nodeCount)
+                .build()
+            : element;
+    }
+
+    private static String inlinePath(CompiledElement element)
+    {
+        if (element.getInternalType() != InternalElementType.COMPONENT || element.getUid() != null)
+        {
+            return null;
+        }
+
+        ValueSlot path = element.getParameters().get(PARAM_PATH);
+
+        if (path == null
+            || path.getType() != SlotType.LITERAL
+            || !(path.getRaw() instanceof String raw)
+            || !INLINE_PARAMETERS.containsAll(element.getParameters().keySet()))
+        {
+            return null;
+        }
+
+        return StringAdapter.sanitizePath(raw);
+    }
+
+    /**
+     * Sanitize a uid to only have numbers, letters or '-' and '_'.
+     *
+     * @param input to sanitize
+     * @return the sanitized input
+     */
+    static String sanitizeUid(String input)
+    {
+        return StringAdapter.sanitizeUid(input);
+    }
+
+    private static CompiledElement fold(CompiledElement element, TemplateFileCache templateFileCache, TemplateInterner interner)
+    {
+        return interner == null
+            ? foldElement(element, templateFileCache, null)
+            : interner.folded(element, e -> foldElement(e, templateFileCache, interner));
+    }
+
+    private static CompiledElement foldElement(CompiledElement element, TemplateFileCache templateFileCache, TemplateInterner interner)
+    {
+        if (element.isConstant() && element.getContainerType() != null)
+        {
+            FoldedSubtree folded = JsonMapper.fold(element, templateFileCache);
+
+            return folded == null ? element : element.toBuilder().folded(folded).build();
+        }
+
+        List<CompiledElement> children = new ArrayList<>(element.getChildren().size());
+        boolean               changed  = false;
+
+        for (CompiledElement child : element.getChildren())
+        {
+            CompiledElement folded = fold(child, templateFileCache, interner);
+
+            children.add(folded);
+            changed |= folded != child;
+        }
+
+        return changed ? element.toBuilder().children(List.copyOf(children)).build() : element;
+    }
+
+    private static boolean isConstant(String key, ValueSlot slot)
+    {
+        Object raw = slot.getRaw();
+
+        return slot.getType() == SlotType.LITERAL
+            && !BINDING_PARAMETERS.contains(key)
+            && (raw instanceof String || raw instanceof Number || raw instanceof Boolean);
+    }
+
+    private static Map<String, String> staticAttributes(List<AttributeSlot> attributes)
+    {
+        if (attributes.isEmpty())
+        {
+            return Map.of();
+        }
+
+        Map<String, String> resolved = new HashMap<>();
+
+        attributes.forEach(attr -> resolved.put(attr.key().getText(), attr.value().getText()));
+
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    /**
+     * Resolve a enum constant by name without relying on exceptions for unknown names.
+     *
+     * @param <E> the enum type
+     * @param type of the enum
+     * @param name to resolve, already in upper case
+     * @return the constant, or {@code null} if {@code name} is no constant of {@code type}
+     */
+    static <E extends Enum<E>> E resolve(Class<E> type, String name)
+    {
+        for (E constant : type.getEnumConstants())
+        {
+            if (constant.name().equals(name))
+            {
+                return constant;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,357 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Deduplicates the strings and structurally identical subtrees of {@link PseudoElement}s across many {@code template}s.
+ * <p>
+ * {@code template}s repeat the same class names, parameter keys and type names, and often whole subtrees like buttons or input rows.
+ * Every {@link #intern(PseudoElement) interned} tree only holds one instance of each distinct string and each distinct subtree, so
+ * identical subtrees of different {@code template}s are the very same object. This is safe, as {@link PseudoElement}s are immutable.
+ * <p>
+ * The {@link TemplateCompiler} compiles and folds each canonical subtree only once, so the {@link CompiledElement} plans and their
+ * {@link FoldedSubtree}s, that stay in use after the load, are shared as well.
+ * <p>
+ * The interner keeps every distinct subtree it has seen, so it should only live as long as a single load of all {@code template}s. It
+ * is thread-safe, so {@code template}s can be interned while they are loaded in parallel.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TemplateInterner
+{
+
+    private static final int                     ELEMENT_BYTES   = 32;
+    private static final int                     PLAN_BYTES      = 96;
+    private static final int                     SLOT_BYTES      = 48;
+    private static final int                     CONTAINER_BYTES = 64;
+
+    private final Map<String, String>            strings         = new ConcurrentHashMap<>();
+    private final Map<Key, PseudoElement>        elements        = new ConcurrentHashMap<>();
+    private final Map<Identity, CompiledElement> compiled        = new ConcurrentHashMap<>();
+    private final Map<Identity, CompiledElement> folded          = new ConcurrentHashMap<>();
+    private final LongAdder                      sharedStrings   = new LongAdder();
+    private final LongAdder                      sharedTrees     = new LongAdder();
+    private final LongAdder                      sharedPlans     = new LongAdder();
+    private final LongAdder                      savedBytes      = new LongAdder();
+
+    /**
+     * Intern a {@link PseudoElement} and all of its children.
+     *
+     * @param element to intern
+     * @return the canonical instance of a structurally identical tree
+     */
+    public PseudoElement intern(PseudoElement element)
+    {
+        List<PseudoElement> children = new ArrayList<>(element.getChildren().size());
+
+        element.getChildren().forEach(child -> children.add(intern(child)));
+
+        List<String> classes = new ArrayList<>(element.getClasses().size());
+
+        element.getClasses().forEach(clazz -> classes.add(string(clazz)));
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+
+        element.getAttributes().forEach((key, value) -> attributes.put(string(key), string(value)));
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        element.getParameters().forEach((key, value) -> parameters.put(string(key), value(value)));
+
+        Key           key       = new Key(string(element.getUid()), string(element.getType()), classes, attributes, parameters, children);
+        PseudoElement canonical = elements.get(key);
+
+        if (canonical == null)
+        {
+            PseudoElement interned =
+                PseudoElement
+                    .builder()
+                    .uid(key.uid())
+                    .type(key.type())
+                    .classes(classes)
+                    .attributes(attributes)
+                    .parameters(parameters)
+                    .children(children)
+                    .build();
+
+            canonical = elements.putIfAbsent(key, interned);
+
+            if (canonical == null)
+            {
+                return interned;
+            }
+        }
+
+        sharedTrees.increment();
+        savedBytes.add(estimateShallowSize(element));
+
+        return canonical;
+    }
+
+    /**
+     * Get the plan of an interned subtree, compiling it on first use.
+     *
+     * @param element the canonical instance of a subtree
+     * @param compiler to compile {@code element} on first use
+     * @return the plan shared by all uses of {@code element}
+     */
+    CompiledElement compiled(PseudoElement element, Function<PseudoElement, CompiledElement> compiler)
+    {
+        return share(compiled, element, () -> compiler.apply(element));
+    }
+
+    /**
+     * Get the folded plan of a shared plan, folding it on first use.
+     *
+     * @param element a plan returned by {@link #compiled(PseudoElement, Function)}
+     * @param folder to fold {@code element} on first use
+     * @return the folded plan shared by all uses of {@code element}
+     */
+    CompiledElement folded(CompiledElement element, UnaryOperator<CompiledElement> folder)
+    {
+        return share(folded, element, () -> folder.apply(element));
+    }
+
+    /**
+     * Get the statistics of all {@code template}s interned so far.
+     *
+     * @return the statistics
+     */
+    public Stats getStats()
+    {
+        return new Stats(sharedStrings.sum(), sharedTrees.sum(), sharedPlans.sum(), savedBytes.sum());
+    }
+
+    private CompiledElement share(Map<Identity, CompiledElement> plans, Object source, Supplier<CompiledElement> factory)
+    {
+        Identity        key     = new Identity(source);
+        CompiledElement present = plans.get(key);
+
+        if (present == null)
+        {
+            // no computeIfAbsent, the factory recursively shares the children in the same map
+            CompiledElement created = factory.get();
+
+            present = plans.putIfAbsent(key, created);
+
+            if (present == null)
+            {
+                return created;
+            }
+        }
+
+        sharedPlans.increment();
+        savedBytes.add(plans == compiled ? estimatePlanSize(present) : estimateFoldedSize(present));
+
+        return present;
+    }
+
+    private String string(String value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+
+        String canonical = strings.putIfAbsent(value, value);
+
+        if (canonical == null)
+        {
+            return value;
+        }
+
+        if (canonical != value)
+        {
+            sharedStrings.increment();
+            savedBytes.add(estimateSize(value));
+        }
+
+        return canonical;
+    }
+
+    private Object value(Object value)
+    {
+        if (value instanceof String str)
+        {
+            return string(str);
+        }
+
+        if (value instanceof List<?> list)
+        {
+            List<Object> interned = new ArrayList<>(list.size());
+
+            list.forEach(item -> interned.add(value(item)));
+
+            return interned;
+        }
+
+        if (value instanceof Map<?, ?> map)
+        {
+            Map<Object, Object> interned = new LinkedHashMap<>();
+
+            map.forEach((key, item) -> interned.put(value(key), value(item)));
+
+            return interned;
+        }
+
+        return value;
+    }
+
+    /**
+     * Estimate the heap size of a string, with compact strings and compressed object pointers.
+     *
+     * @param value to measure
+     * @return the estimated size in bytes
+     */
+    private static long estimateSize(String value)
+    {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+
+        return 24 + align(16L + (latin1 ? value.length() : 2L * value.length()));
+    }
+
+    /**
+     * Estimate the heap size of a single {@link PseudoElement} and its collections, without its strings and children, with compressed
+     * object pointers. Empty collections are shared singletons and cost nothing.
+     *
+     * @param element to measure
+     * @return the estimated size in bytes
+     */
+    private static long estimateShallowSize(PseudoElement element)
+    {
+        return ELEMENT_BYTES
+            + estimateSize(element.getClasses())
+            + estimateSize(element.getChildren())
+            + estimateSize(element.getAttributes())
+            + estimateSize(element.getParameters());
+    }
+
+    /**
+     * Estimate the heap size of a plan and all of its children, without its strings and {@link FoldedSubtree}s.
+     *
+     * @param element to measure
+     * @return the estimated size in bytes
+     */
+    private static long estimatePlanSize(CompiledElement element)
+    {
+        long size = PLAN_BYTES
+            + estimateSize(element.getClasses())
+            + estimateSize(element.getAttributes())
+            + estimateSize(element.getParameters())
+            + estimateSize(element.getChildren())
+            + SLOT_BYTES * (element.getClasses().size() + 2L * element.getAttributes().size() + element.getParameters().size()
+                + (element.getUidSlot() == null ? 0 : 1));
+
+        for (CompiledElement child : element.getChildren())
+        {
+            size += estimatePlanSize(child);
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimate the heap size of the pre-mapped {@code Container}s of all {@link FoldedSubtree}s in a plan.
+     *
+     * @param element to measure
+     * @return the estimated size in bytes
+     */
+    private static long estimateFoldedSize(CompiledElement element)
+    {
+        if (element.getFolded() != null)
+        {
+            return CONTAINER_BYTES * (long) element.getNodeCount();
+        }
+
+        long size = 0;
+
+        for (CompiledElement child : element.getChildren())
+        {
+            size += estimateFoldedSize(child);
+        }
+
+        return size;
+    }
+
+    private static long estimateSize(List<?> list)
+    {
+        return switch (list.size())
+        {
+            case 0 -> 0;
+            case 1 -> 16;
+            default -> 16 + 24 + align(16L + 4L * list.size());
+        };
+    }
+
+    private static long estimateSize(Map<?, ?> map)
+    {
+        return switch (map.size())
+        {
+            case 0 -> 0;
+            case 1 -> 32;
+            default -> 24 + 56 + align(16L + 4L * Integer.highestOneBit(map.size() * 2)) + 40L * map.size();
+        };
+    }
+
+    private static long align(long bytes)
+    {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * The statistics of an interner.
+     *
+     * @param sharedStrings number of duplicate strings replaced by their canonical instance
+     * @param sharedTrees number of duplicate subtrees replaced by their canonical instance
+     * @param sharedPlans number of compiled or folded plans of duplicate subtrees replaced by their canonical instance
+     * @param savedBytes estimated heap size of all replaced duplicates, trees and plans
+     */
+    public record Stats(long sharedStrings, long sharedTrees, long sharedPlans, long savedBytes)
+    {
+    }
+
+    /**
+     * A key comparing an object by identity, as the canonical subtrees and their plans are already unique.
+     *
+     * @param target to compare
+     */
+    private record Identity(Object target)
+    {
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(target);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof Identity identity && identity.target == target;
+        }
+    }
+
+    /**
+     * The structural identity of a {@link PseudoElement}. The {@code children} are already canonical, so they are compared by identity.
+     */
+    private record Key(String uid, String type, List<String> classes, Map<String, String> attributes, Map<String, Object> parameters,
+        List<PseudoElement> children)
+    {
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.List;
+
+import de.cookindustries.lib.spring.gui.hmi.container.Container;
+import de.cookindustries.lib.spring.gui.hmi.container.ContainerType;
+
+/**
+ * A {@code template} compiled ahead of time into Java code by the {@link TemplateRendererGenerator}.
+ * <p>
+ * The {@link JsonMapper} uses a renderer instead of interpreting the {@code template}, as long as the loaded {@code template} still
+ * has the {@link #getFingerprint() fingerprint} the renderer was generated from. Renderers are found with the {@link TemplateRenderers}
+ * registry.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public interface TemplateRenderer
+{
+
+    /**
+     * Get the path of the rendered {@code template}.
+     *
+     * @return the sanitized path
+     */
+    String getPath();
+
+    /**
+     * Get the {@link TemplateRenderers#fingerprint(PseudoElement) fingerprint} of the {@code template} this renderer was generated from.
+     *
+     * @return the fingerprint
+     */
+    long getFingerprint();
+
+    /**
+     * Get the type of the root container.
+     *
+     * @return the root type
+     */
+    ContainerType getRootType();
+
+    /**
+     * Render the {@code template}.
+     *
+     * @param context to resolve placeholders from
+     * @return the rendered containers
+     */
+    List<Container> render(RenderContext context);
+}
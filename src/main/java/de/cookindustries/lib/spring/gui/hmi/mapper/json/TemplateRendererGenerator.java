@@ -0,0 +1,590 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import de.cookindustries.lib.spring.gui.hmi.container.ContainerType;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.CompiledElement.AttributeSlot;
+import de.cookindustries.lib.spring.gui.util.StringAdapter;
+
+/**
+ * Build step to generate a Java {@link TemplateRenderer} for each {@code template}.
+ * <p>
+ * A generated renderer creates the {@code Container}s of its {@code template} directly: constant parts become literals and every
+ * placeholder becomes a single lookup on the {@link RenderContext}, so no {@link CompiledElement} plan is interpreted at runtime.
+ * Only a subset of elements can be generated:
+ * <ul>
+ * <li>{@code CONTENT}, {@code TEXT} and {@code HEADING} containers</li>
+ * <li>literal {@code uid}s, or none</li>
+ * <li>literal {@code classes} and {@code attributes}</li>
+ * <li>literal, {@code $$value$} or {@code $$text$} values for {@code text} and {@code tooltip}, literal values for {@code inline} and
+ * {@code size}</li>
+ * <li>no {@code active}, {@code repetitionSource}, {@code elementSource} or {@code sourceKey} parameters</li>
+ * </ul>
+ * A child of a generated {@code CONTENT} container outside the subset, e.g. a repetition, a {@code COMPONENT} or a {@code BUTTON}, is
+ * handed back to the {@link JsonMapper} with {@link RenderContext#transform(int...)}, so only the root of a {@code template} has to be
+ * in the subset. Without explicit paths, every {@code template} with a root in the subset is generated and all others are skipped. With
+ * explicit paths, e.g. the hottest {@code template}s of an application, the build fails if the root of one of them is not in the
+ * subset. Invoke it from the build of the
+ * application, e.g. with the {@code exec-maven-plugin} in the {@code generate-sources} phase:
+ *
+ * <pre>
+ * {@code
+ * <mainClass>de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateRendererGenerator</mainClass>
+ * <arguments>
+ *     <argument>${project.basedir}/src/main/resources/templates</argument>
+ *     <argument>${project.build.directory}/generated-sources/renderers</argument>
+ *     <argument>${project.build.directory}/generated-resources/renderers</argument>
+ *     <argument>com.example.renderers</argument>
+ * </arguments>
+ * }
+ * </pre>
+ *
+ * and add both directories to the build. The renderers are registered as {@link java.util.ServiceLoader services}, so the
+ * {@link TemplateRenderers#installed() installed} registry picks them up.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TemplateRendererGenerator
+{
+
+    private static final ObjectReader       READER             = new ObjectMapper().readerFor(PseudoElement.class);
+
+    private static final String             SERVICE_FILE       = "META-INF/services/" + TemplateRenderer.class.getName();
+
+    private static final Set<ContainerType> SUPPORTED_TYPES    = EnumSet.of(ContainerType.CONTENT, ContainerType.TEXT, ContainerType.HEADING);
+
+    private static final Set<String>        BINDING_PARAMETERS = Set.of("active", "repetitionSource", "elementSource", "sourceKey");
+
+    private TemplateRendererGenerator()
+    {
+        // prevent instantiation
+    }
+
+    /**
+     * Generate renderers.
+     *
+     * @param args the {@code template} directory, the source directory, the resource directory, the package and optional
+     *            {@code template} paths
+     */
+    public static void main(String[] args)
+    {
+        int status = run(args, System.out, System.err);
+
+        if (status != 0)
+        {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Generate renderers.
+     *
+     * @param args the {@code template} directory, the source directory, the resource directory, the package and optional
+     *            {@code template} paths
+     * @param out to report progress on
+     * @param err to report problems on
+     * @return {@code 0} on success, {@code 1} on invalid or unsupported {@code template}s, {@code 2} on wrong arguments or I/O errors
+     */
+    static int run(String[] args, PrintStream out, PrintStream err)
+    {
+        if (args.length < 4)
+        {
+            err.println("usage: TemplateRendererGenerator <template directory> <source directory> <resource directory> <package> "
+                + "[template path...]");
+
+            return 2;
+        }
+
+        Path                       directory   = Path.of(args[0]);
+        Path                       sources     = Path.of(args[1]);
+        Path                       resources   = Path.of(args[2]);
+        String                     packageName = args[3];
+        Set<String>                selected    = args.length > 4 ? Set.copyOf(Arrays.asList(args).subList(4, args.length)) : null;
+        Map<String, PseudoElement> templates   = new TreeMap<>();
+        List<String>               errors      = new ArrayList<>();
+        List<String>               generated   = new ArrayList<>();
+
+        try (Stream<Path> files = Files.walk(directory))
+        {
+            for (Path file : files.filter(f -> Files.isRegularFile(f) && f.toString().endsWith(".json")).sorted().toList())
+            {
+                String path = StringAdapter.sanitizePath(directory.relativize(file).toString());
+
+                if (selected == null || selected.contains(path))
+                {
+                    try
+                    {
+                        templates.put(path, READER.readValue(file.toFile()));
+                    }
+                    catch (IOException ex)
+                    {
+                        errors.add(String.format("[%s]: %s", path, ex.getMessage()));
+                    }
+                }
+            }
+
+            if (selected != null)
+            {
+                selected
+                    .stream()
+                    .filter(path -> !templates.containsKey(path))
+                    .sorted()
+                    .forEach(path -> errors.add(String.format("[%s]: no such template", path)));
+            }
+
+            Path packageDirectory = sources.resolve(packageName.replace('.', '/'));
+
+            Files.createDirectories(packageDirectory);
+
+            for (Map.Entry<String, PseudoElement> entry : templates.entrySet())
+            {
+                String className = className(entry.getKey());
+
+                try
+                {
+                    String source = generate(entry.getKey(), entry.getValue(), packageName, className);
+
+                    Files.writeString(packageDirectory.resolve(className + ".java"), source);
+                    generated.add(packageName + "." + className);
+                }
+                catch (IllegalArgumentException ex)
+                {
+                    if (selected == null)
+                    {
+                        out.printf("skip [%s]: %s%n", entry.getKey(), ex.getMessage());
+                    }
+                    else
+                    {
+                        errors.add(String.format("[%s]: %s", entry.getKey(), ex.getMessage()));
+                    }
+                }
+            }
+
+            if (!errors.isEmpty())
+            {
+                errors.forEach(err::println);
+
+                return 1;
+            }
+
+            Path serviceFile = resources.resolve(SERVICE_FILE);
+
+            Files.createDirectories(serviceFile.getParent());
+            Files.write(serviceFile, generated);
+        }
+        catch (IOException ex)
+        {
+            err.println(String.format("error generating template renderers: %s", ex.getMessage()));
+
+            return 2;
+        }
+
+        out.printf("generated [%d] renderers of [%d] templates into [%s]%n", generated.size(), templates.size(), sources);
+
+        return 0;
+    }
+
+    /**
+     * Derive the name of a renderer class from the path of its {@code template}.
+     *
+     * @param path of the {@code template}
+     * @return the simple class name, e.g. {@code PagesMainRenderer} for {@code pages/main.json}
+     */
+    public static String className(String path)
+    {
+        StringBuilder name = new StringBuilder();
+
+        for (String part : path.replaceAll("\\.json$", "").split("[^A-Za-z0-9]+"))
+        {
+            if (!part.isEmpty())
+            {
+                name.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0)))
+        {
+            name.insert(0, "Template");
+        }
+
+        return name.append("Renderer").toString();
+    }
+
+    /**
+     * Generate the source of a renderer.
+     *
+     * @param path of the {@code template}
+     * @param template to generate the renderer for
+     * @param packageName of the renderer class
+     * @param className of the renderer class
+     * @return the Java source
+     * @throws IllegalArgumentException if the root of the {@code template} is not in the supported subset
+     */
+    public static String generate(String path, PseudoElement template, String packageName, String className)
+    {
+        CompiledElement root = TemplateCompiler.compile(template);
+
+        if (!SUPPORTED_TYPES.contains(root.getContainerType()))
+        {
+            throw new IllegalArgumentException(String.format("root type [%s] is not supported", root.getType()));
+        }
+
+        Generator generator = new Generator();
+
+        generator.element(root, new int[0]);
+
+        StringBuilder src = new StringBuilder();
+
+        src.append("package ").append(packageName).append(";\n\n");
+        src.append("import java.util.ArrayList;\n");
+        src.append("import java.util.List;\n");
+        src.append("import java.util.Map;\n");
+        src.append("import java.util.Objects;\n\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.container.Container;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.container.ContainerType;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.container.ContentContainer;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.container.EmptyContainer;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.container.HeadingContainer;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.container.TextContainer;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.mapper.json.RenderContext;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateRenderer;\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateRenderers;\n\n");
+        src.append("/**\n * Generated by {@code TemplateRendererGenerator} from {@code ").append(path).append("}, do not edit.\n */\n");
+        src.append("public final class ").append(className).append(" implements TemplateRenderer\n{\n\n");
+        src.append(generator.constants);
+        src.append("\n    @Override\n    public String getPath()\n    {\n        return ").append(literal(path)).append(";\n    }\n\n");
+        src.append("    @Override\n    public long getFingerprint()\n    {\n        return ")
+            .append(TemplateRenderers.fingerprint(template)).append("L;\n    }\n\n");
+        src.append("    @Override\n    public ContainerType getRootType()\n    {\n        return ContainerType.")
+            .append(root.getContainerType().name()).append(";\n    }\n\n");
+        src.append("    @Override\n    public List<Container> render(RenderContext context)\n    {\n        return List.of(element0(context));\n")
+            .append("    }\n");
+        src.append(generator.methods);
+        src.append("}\n");
+
+        return src.toString();
+    }
+
+    private static String literal(String value)
+    {
+        StringBuilder result = new StringBuilder("\"");
+
+        for (char c : value.toCharArray())
+        {
+            switch (c)
+            {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                case '\t' -> result.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e)
+                    {
+                        result.append(String.format("\\u%04x", (int) c));
+                    }
+                    else
+                    {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+
+        return result.append('"').toString();
+    }
+
+    /**
+     * Emits one method per element and the constants they share.
+     */
+    private static final class Generator
+    {
+
+        private final StringBuilder constants = new StringBuilder();
+        private final StringBuilder methods   = new StringBuilder();
+
+        private int                 elements;
+        private int                 constantCount;
+
+        /**
+         * Emit the statement adding a child of a {@code CONTENT} container, generated if possible or transformed otherwise.
+         *
+         * @param child to add
+         * @param path of the {@code child} from the root
+         * @return the statement
+         */
+        private String child(CompiledElement child, int[] path)
+        {
+            int constantsLength = constants.length();
+            int methodsLength   = methods.length();
+            int elementsBefore  = elements;
+            int constantsBefore = constantCount;
+
+            try
+            {
+                return "contents.add(" + element(child, path) + "(context));";
+            }
+            catch (IllegalArgumentException ex)
+            {
+                // drop everything emitted for the child and leave it to the mapper
+                constants.setLength(constantsLength);
+                methods.setLength(methodsLength);
+                elements = elementsBefore;
+                constantCount = constantsBefore;
+
+                String indices = Arrays.stream(path).mapToObj(String::valueOf).collect(Collectors.joining(", "));
+
+                return "contents.addAll(context.transform(" + indices + "));";
+            }
+        }
+
+        private String element(CompiledElement element, int[] path)
+        {
+            String name = "element" + elements++;
+
+            if (!SUPPORTED_TYPES.contains(element.getContainerType()))
+            {
+                throw new IllegalArgumentException(String.format("type [%s] is not supported", element.getType()));
+            }
+
+            for (String parameter : BINDING_PARAMETERS)
+            {
+                if (element.getParameters().containsKey(parameter))
+                {
+                    throw new IllegalArgumentException(String.format("parameter [%s] is not supported", parameter));
+                }
+            }
+
+            if (element.getUidSlot() != null && element.getUidSlot().getType() != SlotType.LITERAL)
+            {
+                throw new IllegalArgumentException(String.format("dynamic uid [%s] is not supported", element.getUid()));
+            }
+
+            if (element.getStaticClasses() == null || element.getStaticAttributes() == null)
+            {
+                throw new IllegalArgumentException("dynamic classes or attributes are not supported");
+            }
+
+            String        classes    =
+                element.getStaticClasses().isEmpty()
+                    ? "List.of()"
+                    : constant("List<String>", "CLASSES", listOf(element.getStaticClasses()));
+            String        attributes =
+                element.getStaticAttributes().isEmpty()
+                    ? "Map.of()"
+                    : constant("Map<String, String>", "ATTRIBUTES", attributesOf(element));
+            StringBuilder body       = new StringBuilder();
+
+            body.append("\n    private static Container ").append(name).append("(RenderContext context)\n    {\n");
+
+            if (element.getUidSlot() != null)
+            {
+                String uid = literal(element.getUidSlot().getText());
+
+                body.append("        if (!context.isActive(").append(uid).append("))\n        {\n");
+                body.append("            return EmptyContainer.builder().build();\n        }\n\n");
+                body.append("        String uid = ").append(uid).append(";\n");
+            }
+            else
+            {
+                body.append("        String uid = context.nextUid();\n");
+            }
+
+            switch (element.getContainerType())
+            {
+                case CONTENT -> {
+                    List<String> children = new ArrayList<>();
+
+                    for (int i = 0; i < element.getChildren().size(); i++)
+                    {
+                        int[] childPath = Arrays.copyOf(path, path.length + 1);
+
+                        childPath[path.length] = i;
+                        children.add(child(element.getChildren().get(i), childPath));
+                    }
+
+                    body.append("        List<Container> contents = new ArrayList<>(").append(children.size()).append(");\n\n");
+                    children.forEach(child -> body.append("        ").append(child).append("\n"));
+                    body.append("\n        return ContentContainer\n            .builder()\n");
+                    base(body, classes, attributes);
+                    body.append("            .contents(contents)\n");
+                }
+                case TEXT -> {
+                    body.append("\n        return TextContainer\n            .builder()\n");
+                    base(body, classes, attributes);
+                    body.append("            .tooltip(").append(string(element, "tooltip", "")).append(")\n");
+                    body.append("            .text(").append(string(element, "text", null)).append(")\n");
+                    body.append("            .inline(").append(bool(element, "inline")).append(")\n");
+                }
+                case HEADING -> {
+                    int size = integer(element, "size", 1);
+
+                    size = size < 0
+                        ? 1
+                        : size > 6
+                            ? 6
+                            : size;
+
+                    body.append("\n        return HeadingContainer\n            .builder()\n");
+                    base(body, classes, attributes);
+                    body.append("            .tooltip(").append(string(element, "tooltip", "")).append(")\n");
+                    body.append("            .text(").append(string(element, "text", null)).append(")\n");
+                    body.append("            .size(").append(size).append(")\n");
+                }
+                default -> throw new IllegalArgumentException(String.format("type [%s] is not supported", element.getType()));
+            }
+
+            body.append("            .build();\n    }\n");
+            methods.append(body);
+
+            return name;
+        }
+
+        private static void base(StringBuilder body, String classes, String attributes)
+        {
+            body.append("            .uid(uid)\n");
+            body.append("            .classes(").append(classes).append(")\n");
+            body.append("            .dataAttributes(").append(attributes).append(")\n");
+        }
+
+        private String constant(String type, String prefix, String value)
+        {
+            String name = prefix + "_" + constantCount++;
+
+            constants
+                .append("    private static final ")
+                .append(type)
+                .append(' ')
+                .append(name)
+                .append(" = ")
+                .append(value)
+                .append(";\n");
+
+            return name;
+        }
+
+        private static String listOf(List<String> values)
+        {
+            return values
+                .stream()
+                .map(TemplateRendererGenerator::literal)
+                .collect(Collectors.joining(", ", "List.of(", ")"));
+        }
+
+        private static String attributesOf(CompiledElement element)
+        {
+            List<String> keysAndValues = new ArrayList<>();
+
+            for (AttributeSlot attribute : element.getAttributes())
+            {
+                keysAndValues.add(literal(attribute.key().getText()));
+                keysAndValues.add(literal(attribute.value().getText()));
+            }
+
+            return "TemplateRenderers.attributes(" + String.join(", ", keysAndValues) + ")";
+        }
+
+        private static String string(CompiledElement element, String parameter, String fallback)
+        {
+            ValueSlot slot = element.getParameters().get(parameter);
+
+            if (slot == null || slot.getRaw() == null)
+            {
+                if (fallback == null)
+                {
+                    throw new IllegalArgumentException(String.format("parameter [%s] is expected but not set", parameter));
+                }
+
+                return literal(fallback);
+            }
+
+            if (!(slot.getRaw() instanceof String))
+            {
+                throw new IllegalArgumentException(String.format("parameter [%s] is no string", parameter));
+            }
+
+            String lookup = switch (slot.getType())
+            {
+                case LITERAL -> null;
+                case VALUE -> "context.value(" + literal(slot.getKey()) + ")";
+                case TEXT -> "context.text(" + literal(slot.getKey()) + ")";
+                default -> throw new IllegalArgumentException(
+                    String.format("placeholder [%s] of parameter [%s] is not supported", slot.getRaw(), parameter));
+            };
+
+            if (lookup == null)
+            {
+                return literal(slot.getText());
+            }
+
+            return fallback == null ? lookup : "Objects.requireNonNullElse(" + lookup + ", " + literal(fallback) + ")";
+        }
+
+        private static boolean bool(CompiledElement element, String parameter)
+        {
+            ValueSlot slot = element.getParameters().get(parameter);
+
+            if (slot == null || slot.getRaw() == null)
+            {
+                return false;
+            }
+
+            if (slot.getRaw() instanceof Boolean value)
+            {
+                return value;
+            }
+
+            if (slot.getType() == SlotType.LITERAL && slot.getBooleanValue() != null)
+            {
+                return slot.getBooleanValue();
+            }
+
+            throw new IllegalArgumentException(String.format("parameter [%s] must be a literal boolean", parameter));
+        }
+
+        private static int integer(CompiledElement element, String parameter, int fallback)
+        {
+            ValueSlot slot = element.getParameters().get(parameter);
+
+            if (slot == null || slot.getRaw() == null)
+            {
+                return fallback;
+            }
+
+            if (slot.getRaw() instanceof Integer value)
+            {
+                return value;
+            }
+
+            if (slot.getType() == SlotType.LITERAL && slot.getIntegerValue() != null)
+            {
+                return slot.getIntegerValue();
+            }
+
+            throw new IllegalArgumentException(String.format("parameter [%s] must be a literal integer", parameter));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.cookindustries.lib.spring.gui.util.StringAdapter;
+
+/**
+ * A registry of {@link TemplateRenderer}s by {@code template} path.
+ * <p>
+ * A renderer is only returned for a {@code template} with the same {@link #fingerprint(PseudoElement) fingerprint} the renderer was
+ * generated from, so a changed {@code template}, e.g. in the watch directory of the {@code TemplateFileCache}, is interpreted again
+ * until its renderer is generated anew. The fingerprint of each loaded {@code template} is computed once by the
+ * {@link TemplateCompiler} and kept on its {@link CompiledElement#getFingerprint() plan}.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TemplateRenderers
+{
+
+    private static final Logger                 LOG        = LoggerFactory.getLogger(TemplateRenderers.class);
+
+    private static final long                   FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long                   FNV_PRIME  = 0x100000001b3L;
+
+    /** A registry without any renderer */
+    public static final TemplateRenderers       NONE       = new TemplateRenderers(List.of());
+
+    private static volatile TemplateRenderers   installed;
+
+    private final Map<String, TemplateRenderer> renderers;
+
+    /**
+     * Create a registry.
+     *
+     * @param renderers to register
+     * @throws IllegalArgumentException if two renderers render the same path
+     */
+    public TemplateRenderers(Collection<? extends TemplateRenderer> renderers)
+    {
+        Map<String, TemplateRenderer> byPath = new HashMap<>();
+
+        for (TemplateRenderer renderer : renderers)
+        {
+            if (byPath.put(StringAdapter.sanitizePath(renderer.getPath()), renderer) != null)
+            {
+                throw new IllegalArgumentException(String.format("duplicate template renderer for path [%s]", renderer.getPath()));
+            }
+        }
+
+        this.renderers = Collections.unmodifiableMap(byPath);
+    }
+
+    /**
+     * Get the registry of all renderers on the classpath, registered as {@link ServiceLoader service} of {@link TemplateRenderer}.
+     *
+     * @return the registry, loaded on first use
+     */
+    public static TemplateRenderers installed()
+    {
+        TemplateRenderers result = installed;
+
+        if (result == null)
+        {
+            synchronized (TemplateRenderers.class)
+            {
+                result = installed;
+
+                if (result == null)
+                {
+                    List<TemplateRenderer> loaded =
+                        ServiceLoader
+                            .load(TemplateRenderer.class)
+                            .stream()
+                            .map(ServiceLoader.Provider::get)
+                            .toList();
+
+                    if (!loaded.isEmpty())
+                    {
+                        LOG.info("installed [{}] template renderers", loaded.size());
+                    }
+
+                    result = loaded.isEmpty() ? NONE : new TemplateRenderers(loaded);
+                    installed = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the renderer of a {@code template}.
+     *
+     * @param path of the {@code template}
+     * @param fingerprint of the {@code template} as loaded
+     * @return the renderer, or {@code null} if there is none or it was generated from another version of the {@code template}
+     */
+    public TemplateRenderer get(String path, long fingerprint)
+    {
+        if (renderers.isEmpty())
+        {
+            return null;
+        }
+
+        TemplateRenderer renderer = renderers.get(StringAdapter.sanitizePath(path));
+
+        if (renderer == null)
+        {
+            return null;
+        }
+
+        return fingerprint == renderer.getFingerprint() ? renderer : null;
+    }
+
+    /**
+     * Create the attributes of a generated container, in the same order the {@link JsonMapper} creates them.
+     *
+     * @param keysAndValues alternating keys and values
+     * @return the attributes
+     */
+    public static Map<String, String> attributes(String... keysAndValues)
+    {
+        Map<String, String> attributes = new HashMap<>();
+
+        for (int i = 0; i < keysAndValues.length; i += 2)
+        {
+            attributes.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Compute a fingerprint of a {@code template}, that only changes if the {@code template} changes.
+     *
+     * @param template to fingerprint
+     * @return the fingerprint
+     */
+    public static long fingerprint(PseudoElement template)
+    {
+        return hash(FNV_OFFSET, template);
+    }
+
+    private static long hash(long hash, PseudoElement element)
+    {
+        hash = hash(hash, element.getUid());
+        hash = hash(hash, element.getType());
+
+        for (String clazz : element.getClasses())
+        {
+            hash = hash(hash, clazz);
+        }
+
+        for (Map.Entry<String, String> attribute : new TreeMap<>(element.getAttributes()).entrySet())
+        {
+            hash = hash(hash(hash, attribute.getKey()), attribute.getValue());
+        }
+
+        for (Map.Entry<String, Object> parameter : new TreeMap<>(element.getParameters()).entrySet())
+        {
+            Object value = parameter.getValue();
+
+            hash = hash(hash, parameter.getKey());
+            hash = hash(hash, value == null ? null : value.getClass().getSimpleName() + ":" + value);
+        }
+
+        hash = hash(hash, String.valueOf(element.getChildren().size()));
+
+        for (PseudoElement child : element.getChildren())
+        {
+            hash = hash(hash, child);
+        }
+
+        return hash;
+    }
+
+    private static long hash(long hash, String value)
+    {
+        if (value == null)
+        {
+            return (hash ^ 0xff) * FNV_PRIME;
+        }
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+
+        return (hash ^ 0xfe) * FNV_PRIME;
+    }
+}
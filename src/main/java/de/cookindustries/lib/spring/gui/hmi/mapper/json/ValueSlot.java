@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A pre-classified value of a {@link CompiledElement}.
+ * <p>
+ * Placeholder prefixes are checked once at compile time, so the {@link JsonMapper} only needs to look at the {@link SlotType} and the
+ * stripped {@code key} per mapping run. Literal {@code String}s additionally carry their pre-parsed {@code Boolean}, {@code Integer},
+ * {@code Double} and upper case representation.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ValueSlot
+{
+
+    static final String    INDICATOR_START    = "$$";
+    static final String    INDICATOR_VALUE    = "$$value$";
+    static final String    INDICATOR_TEXT     = "$$text$";
+    static final String    INDICATOR_CLASS    = "$$class$";
+    static final String    INDICATOR_FUNCTION = "$$function$";
+
+    /**
+     * Classification of this slot
+     */
+    private final SlotType type;
+
+    /**
+     * The value as read from the template
+     */
+    private final Object   raw;
+
+    /**
+     * The lookup key of a placeholder, or the literal {@code String} to use for {@link SlotType#LITERAL}
+     */
+    private final String   key;
+
+    /**
+     * The upper case representation of a literal {@code String}, used for enum lookups
+     */
+    private final String   upperCase;
+
+    /**
+     * The pre-parsed {@code Boolean} of a literal {@code String}
+     */
+    private final Boolean  booleanValue;
+
+    /**
+     * The pre-parsed {@code Integer} of a literal {@code String}, {@code null} if not parsable
+     */
+    private final Integer  integerValue;
+
+    /**
+     * The pre-parsed {@code Double} of a literal {@code String}, {@code null} if not parsable
+     */
+    private final Double   doubleValue;
+
+    /**
+     * Classify a parameter or class value.
+     *
+     * @param raw value to classify
+     * @return the slot
+     */
+    static ValueSlot of(Object raw)
+    {
+        if (!(raw instanceof String str))
+        {
+            return new ValueSlot(SlotType.LITERAL, raw, null, null, null, null, null);
+        }
+
+        if (str.startsWith(INDICATOR_START))
+        {
+            if (str.startsWith(INDICATOR_TEXT))
+            {
+                return placeholder(SlotType.TEXT, str, str.substring(INDICATOR_TEXT.length()));
+            }
+            if (str.startsWith(INDICATOR_VALUE))
+            {
+                return placeholder(SlotType.VALUE, str, str.substring(INDICATOR_VALUE.length()));
+            }
+            if (str.startsWith(INDICATOR_CLASS))
+            {
+                return placeholder(SlotType.CLASS, str, str.substring(INDICATOR_CLASS.length()));
+            }
+            if (str.startsWith(INDICATOR_FUNCTION))
+            {
+                return placeholder(SlotType.FUNCTION, str, str.substring(INDICATOR_FUNCTION.length()));
+            }
+
+            return new ValueSlot(SlotType.UNKNOWN, str, null, null, null, null, null);
+        }
+
+        return literal(str, str);
+    }
+
+    /**
+     * Classify a value, that only supports the {@code $$value$} placeholder, like {@code uid}s and {@code attribute}s.
+     *
+     * @param raw value to classify
+     * @param literal the {@code String} to use if {@code raw} is not a placeholder
+     * @return the slot
+     */
+    static ValueSlot ofValueOnly(String raw, String literal)
+    {
+        if (raw.startsWith(INDICATOR_VALUE))
+        {
+            return placeholder(SlotType.VALUE, raw, raw.substring(INDICATOR_VALUE.length()));
+        }
+
+        return literal(raw, literal);
+    }
+
+    /**
+     * Get the {@code String} form of this slot.
+     *
+     * @return the literal, or the placeholder key for dynamic slots
+     */
+    public String getText()
+    {
+        return key;
+    }
+
+    /**
+     * Create a placeholder slot.
+     *
+     * @param type of the placeholder
+     * @param raw value as read from the template
+     * @param key to look up
+     * @return the slot
+     */
+    static ValueSlot placeholder(SlotType type, String raw, String key)
+    {
+        return new ValueSlot(type, raw, key, null, null, null, null);
+    }
+
+    /**
+     * Create a literal slot.
+     *
+     * @param raw value as read from the template
+     * @param literal the {@code String} to use
+     * @return the slot
+     */
+    static ValueSlot literal(String raw, String literal)
+    {
+        return new ValueSlot(SlotType.LITERAL, raw, literal, literal.toUpperCase(), Boolean.valueOf(literal.toLowerCase()),
+            parseInteger(literal), parseDouble(literal));
+    }
+
+    private static Integer parseInteger(String value)
+    {
+        int length = value.length();
+
+        if (length == 0 || length > 11)
+        {
+            return null;
+        }
+
+        for (int i = 0; i < length; i++)
+        {
+            char c = value.charAt(i);
+
+            if (!(Character.isDigit(c) || (i == 0 && (c == '-' || c == '+') && length > 1)))
+            {
+                return null;
+            }
+        }
+
+        long parsed = Long.parseLong(value);
+
+        return parsed < Integer.MIN_VALUE || parsed > Integer.MAX_VALUE ? null : (int) parsed;
+    }
+
+    private static Double parseDouble(String value)
+    {
+        if (value.isBlank())
+        {
+            return null;
+        }
+
+        try
+        {
+            return Double.valueOf(value);
+        }
+        catch (NumberFormatException ex)
+        {
+            // compile time only, the mapper reports the failure at runtime
+            return null;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The accessors a {@link FlatMappableDissector} reads from objects of a single class.
+ * <p>
+ * A plan is computed once per class and holds every public, parameterless method, that is not blacklisted, with a {@link MethodHandle}
+ * to call it. Getters ({@code get*}/{@code is*}) are always read, all other methods only if they are named in
+ * {@link FlatMappable#includedMethods()}.
+ * <p>
+ * The components of a record are read like getters, mapped to the name of the component, without naming them in
+ * {@link FlatMappable#includedMethods()}.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+final class AccessorPlan
+{
+
+    private static final List<String>             RAW_BLACKLIST      =
+        List.of(
+            "^notifyAll$",
+            "^notify$",
+            "^clone$",
+            "^hashCode$",
+            "^toString$",
+            "^equals$",
+            "^wait$",
+            "^class$",
+            "classLoader",
+            "^classes$",
+            "^FunctionCalls$");
+
+    private static final List<Pattern>            BLACKLIST_PATTERNS =
+        RAW_BLACKLIST
+            .stream()
+            .map(pat -> Pattern.compile(pat, Pattern.CASE_INSENSITIVE))
+            .toList();
+
+    private static final MethodType               GETTER_TYPE        = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<AccessorPlan> PLANS              =
+        new ClassValue<>()
+        {
+
+            @Override
+            protected AccessorPlan computeValue(Class<?> type)
+            {
+                return new AccessorPlan(type);
+            }
+        };
+
+    private final List<Accessor>                  accessors;
+    private final Map<String, List<Accessor>>     byFieldName;
+    private final boolean                         immutable;
+
+    private AccessorPlan(Class<?> type)
+    {
+        this.immutable = type.isAnnotationPresent(ImmutableFlatMappable.class);
+
+        Map<String, Method> methods = new LinkedHashMap<>();
+
+        for (Method method : type.getMethods())
+        {
+            if (method.getParameterCount() > 0 || method.getReturnType() == void.class)
+            {
+                continue;
+            }
+
+            // a covariant override is returned twice, once as bridge method
+            methods.merge(method.getName(), method, (present, other) -> present.isBridge() ? other : present);
+        }
+
+        // record components are read last, so their value wins over a getter mapped to the same key
+        List<Accessor> components = type.isRecord() ? toComponentAccessors(type, methods) : List.of();
+        List<Accessor> result     = new ArrayList<>();
+
+        for (Method method : methods.values())
+        {
+            Accessor accessor = toAccessor(method);
+
+            if (accessor != null)
+            {
+                result.add(accessor);
+            }
+        }
+
+        result.addAll(components);
+
+        this.accessors = List.copyOf(result);
+        this.byFieldName = new HashMap<>();
+
+        for (Accessor accessor : accessors)
+        {
+            byFieldName.computeIfAbsent(accessor.fieldName(), key -> new ArrayList<>(1)).add(accessor);
+        }
+    }
+
+    /**
+     * Get the plan of a class.
+     *
+     * @param type to get the plan of
+     * @return the plan, computed on first use
+     */
+    static AccessorPlan of(Class<?> type)
+    {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Get the accessors to read.
+     *
+     * @return the accessors, in the order of {@link Class#getMethods()}, followed by the components of a record in declaration order
+     */
+    List<Accessor> getAccessors()
+    {
+        return accessors;
+    }
+
+    /**
+     * Check if the class is marked as {@link ImmutableFlatMappable}.
+     *
+     * @return {@code true} if dissections of its objects may be cached
+     */
+    boolean isImmutable()
+    {
+        return immutable;
+    }
+
+    /**
+     * Get the accessor of a field, that is read last, as its value would win in a full dissection.
+     *
+     * @param fieldName the key of the field
+     * @param includedMethods the methods to include besides getters
+     * @return the accessor, or {@code null} if no read method is mapped to {@code fieldName}
+     */
+    Accessor get(String fieldName, List<String> includedMethods)
+    {
+        List<Accessor> candidates = byFieldName.getOrDefault(fieldName, List.of());
+
+        for (int i = candidates.size() - 1; i >= 0; i--)
+        {
+            if (candidates.get(i).isIncluded(includedMethods))
+            {
+                return candidates.get(i);
+            }
+        }
+
+        return null;
+    }
+
+    private static Accessor toAccessor(Method method)
+    {
+        String rawName   = method.getName();
+        String fieldName = toFieldName(rawName);
+
+        if (fieldName == null)
+        {
+            return null;
+        }
+
+        return new Accessor(fieldName, rawName, method.getReturnType(), !isGetter(rawName), toHandle(method), method);
+    }
+
+    /**
+     * Create the accessors of the components of a record and remove their accessor methods from {@code methods}, so they are not read
+     * twice.
+     *
+     * @param type the record class
+     * @param methods the public, parameterless methods of the record by name
+     * @return the accessors, in declaration order
+     */
+    private static List<Accessor> toComponentAccessors(Class<?> type, Map<String, Method> methods)
+    {
+        List<Accessor> result = new ArrayList<>();
+
+        for (RecordComponent component : type.getRecordComponents())
+        {
+            Method method = methods.remove(component.getAccessor().getName());
+
+            if (method == null || isBlacklisted(component.getName()))
+            {
+                continue;
+            }
+
+            result.add(new Accessor(component.getName(), method.getName(), method.getReturnType(), false, toHandle(method), method));
+        }
+
+        return result;
+    }
+
+    /**
+     * Check if a method is a getter, that is read without being included.
+     *
+     * @param methodName of the method
+     * @return {@code true} if the name starts with {@code get} or {@code is}
+     */
+    static boolean isGetter(String methodName)
+    {
+        return methodName.startsWith("get") || methodName.startsWith("is");
+    }
+
+    /**
+     * Get the key a parameterless method is mapped to.
+     *
+     * @param methodName of the method
+     * @return the key, or {@code null} if the method is never read
+     */
+    static String toFieldName(String methodName)
+    {
+        String stripped;
+
+        if (methodName.startsWith("get"))
+        {
+            stripped = methodName.substring(3);
+        }
+        else if (methodName.startsWith("is"))
+        {
+            stripped = methodName.substring(2);
+        }
+        else
+        {
+            stripped = methodName;
+        }
+
+        if (stripped.isEmpty() || isBlacklisted(stripped))
+        {
+            return null;
+        }
+
+        return Character.toLowerCase(stripped.charAt(0)) + stripped.substring(1);
+    }
+
+    /**
+     * Check if a name is never read.
+     *
+     * @param name the name of a method without {@code get}/{@code is}, or of a record component
+     * @return {@code true} if the name matches the blacklist
+     */
+    static boolean isBlacklisted(String name)
+    {
+        for (Pattern pattern : BLACKLIST_PATTERNS)
+        {
+            if (pattern.matcher(name).matches())
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Create a handle of a method, with the same access rules as reflection from this package.
+     * <p>
+     * A static method ignores the object it is read from, like it does when invoked reflectively.
+     *
+     * @param method to create the handle of
+     * @return the handle of type {@code (Object)Object}, or {@code null} if the method can only be invoked reflectively
+     */
+    private static MethodHandle toHandle(Method method)
+    {
+        try
+        {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+
+            if (Modifier.isStatic(method.getModifiers()))
+            {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+
+            return handle.asType(GETTER_TYPE);
+        }
+        catch (IllegalAccessException | RuntimeException ex)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * A single accessor.
+     *
+     * @param fieldName the key to map the value to
+     * @param methodName the name of the method
+     * @param type the return type of the method
+     * @param named {@code true} if the method is no getter and only read if included
+     * @param handle to call the method, or {@code null} to invoke it reflectively
+     * @param method the method
+     */
+    record Accessor(String fieldName, String methodName, Class<?> type, boolean named, MethodHandle handle, Method method)
+    {
+
+        /**
+         * Check if this accessor is to be read.
+         *
+         * @param includedMethods the methods to include besides getters
+         * @return {@code true} if this is a getter or its method is included
+         */
+        boolean isIncluded(List<String> includedMethods)
+        {
+            return !named || includedMethods.contains(methodName);
+        }
+
+        /**
+         * Read the value of an object.
+         *
+         * @param target to read from
+         * @return the value
+         * @throws ReflectiveOperationException if the method can not be called or throws
+         */
+        Object get(Object target) throws ReflectiveOperationException
+        {
+            if (handle == null)
+            {
+                return method.invoke(target);
+            }
+
+            try
+            {
+                return handle.invokeExact(target);
+            }
+            catch (Throwable ex)
+            {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+}
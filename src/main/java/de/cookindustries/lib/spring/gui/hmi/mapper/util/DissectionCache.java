@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A cache of dissected {@link ImmutableFlatMappable} objects by identity, {@code Locale} and {@code presedence}.
+ * <p>
+ * The objects are only weakly referenced, so an entry is dropped once its object is no longer in use. The cached {@link TokenMap}s must
+ * therefore never reference their object, which is why only eager dissections are cached and a dissection is only kept, if it is
+ * {@code cacheable}, e.g. holds no back-reference to its object.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+final class DissectionCache
+{
+
+    private final ReferenceQueue<Object>              queue   = new ReferenceQueue<>();
+    private final Map<Object, Map<Variant, TokenMap>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Get the dissection of an object, dissecting it on first use.
+     * <p>
+     * A dissection, that is not {@code cacheable}, is returned without being kept, so {@code obj} is dissected again on next use.
+     *
+     * @param obj the dissected object
+     * @param locale used to translate
+     * @param presedence of the {@link TokenMap}
+     * @param dissection to dissect {@code obj} on first use
+     * @param cacheable to check if a dissection may be kept, without referencing {@code obj}
+     * @return the cached dissection, or the new one if it is not {@code cacheable}
+     */
+    TokenMap get(Object obj, Locale locale, int presedence, Supplier<TokenMap> dissection, Predicate<TokenMap> cacheable)
+    {
+        purge();
+
+        Variant                variant  = new Variant(locale, presedence);
+        Map<Variant, TokenMap> variants = entries.get(new Lookup(obj));
+        TokenMap               cached   = variants == null ? null : variants.get(variant);
+
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        TokenMap dissected = dissection.get();
+
+        if (!cacheable.test(dissected))
+        {
+            return dissected;
+        }
+
+        if (variants == null)
+        {
+            variants = new ConcurrentHashMap<>();
+
+            Map<Variant, TokenMap> present = entries.putIfAbsent(new WeakKey(obj, queue), variants);
+
+            if (present != null)
+            {
+                variants = present;
+            }
+        }
+
+        TokenMap present = variants.putIfAbsent(variant, dissected);
+
+        return present == null ? dissected : present;
+    }
+
+    /**
+     * Get the number of cached objects.
+     *
+     * @return the number of objects, that are still in use
+     */
+    int size()
+    {
+        purge();
+
+        return entries.size();
+    }
+
+    private void purge()
+    {
+        Reference<?> cleared;
+
+        while ((cleared = queue.poll()) != null)
+        {
+            entries.remove(cleared);
+        }
+    }
+
+    /**
+     * The key of a cached object, that compares by identity and keeps the hash after the object has been collected.
+     */
+    private static final class WeakKey extends WeakReference<Object>
+    {
+
+        private final int hash;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue)
+        {
+            super(referent, queue);
+
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+
+            Object referent = get();
+
+            return referent != null
+                && (other instanceof WeakKey key && key.get() == referent || other instanceof Lookup lookup && lookup.obj() == referent);
+        }
+    }
+
+    /**
+     * A key to look up a cached object, without creating a reference.
+     *
+     * @param obj to look up
+     */
+    private record Lookup(Object obj)
+    {
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(obj);
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof Lookup lookup && lookup.obj == obj || other instanceof WeakKey key && key.get() == obj;
+        }
+    }
+
+    /**
+     * A dissection of an object.
+     *
+     * @param locale used to translate
+     * @param presedence of the {@link TokenMap}
+     */
+    private record Variant(Locale locale, int presedence)
+    {
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.util.List;
+
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.JsonMapper;
+
+/**
+ * A paging cursor over {@link FlatMappable} objects, e.g. backed by a database cursor.
+ * <p>
+ * A cursor can be used as a {@code repetitionSource} or as the source of a {@code COMPONENT} list. The {@link JsonMapper} pulls one page
+ * at a time, dissects its elements on demand and closes the cursor when all pages are consumed or the mapping fails.
+ * 
+ * @param <T> type of the elements
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public interface FlatMappableCursor<T extends FlatMappable> extends AutoCloseable
+{
+
+    /**
+     * Fetch the next page of elements.
+     * 
+     * @return the next page, or an empty list if the cursor is exhausted
+     */
+    List<T> nextPage();
+
+    /**
+     * Release all resources held by this cursor. Does nothing by default.
+     */
+    @Override
+    default void close()
+    {
+        // nothing to release
+    }
+}
@@ -8,17 +8,23 @@
 package de.cookindustries.lib.spring.gui.hmi.mapper.util;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import de.cookindustries.lib.spring.gui.i18n.AbsTranslationProvider;
@@ -44,36 +50,31 @@ public final class FlatMappableDissector
 
     private static final String          TRANSLATION_INDICATOR         = "$$text$";
 
-    private static final List<String>    RAW_BLACKLIST                 =
-        List.of(
-            "^notifyAll$",
-            "^notify$",
-            "^clone$",
-            "^hashCode$",
-            "^toString$",
-            "^equals$",
-            "^wait$",
-            "^class$",
-            "classLoader",
-            "^classes$",
-            "^FunctionCalls$");
-
-    private static final List<Pattern>   BLACKLIST_PATTERNS            =
-        RAW_BLACKLIST
-            .stream()
-            .map(pat -> Pattern.compile(pat, Pattern.CASE_INSENSITIVE))
-            .toList();
-
     private static FlatMappableDissector holder;
 
     private final AbsTranslationProvider translationProvider;
+    private final FlatMappedDissectors   dissectors;
+    private final DissectionCache        cache                         = new DissectionCache();
 
     /**
-     * Create a {@code FlatMappableDissector}.
+     * Create a {@code FlatMappableDissector}, that uses all {@link FlatMappedDissectors#installed() installed} generated dissectors.
      */
+    @Autowired
     public FlatMappableDissector(AbsTranslationProvider translationProvider)
+    {
+        this(translationProvider, FlatMappedDissectors.installed());
+    }
+
+    /**
+     * Create a {@code FlatMappableDissector}.
+     * 
+     * @param translationProvider to translate values with
+     * @param dissectors generated for {@link FlatMapped} classes, to use instead of reflection
+     */
+    public FlatMappableDissector(AbsTranslationProvider translationProvider, FlatMappedDissectors dissectors)
     {
         this.translationProvider = translationProvider;
+        this.dissectors = dissectors;
     }
 
     @PostConstruct
@@ -89,6 +90,9 @@ public final class FlatMappableDissector
 
     /**
      * Dissect a {@link FlatMappable} object and map it to a {@link TokenMap}.
+     * <p>
+     * The dissection of an {@link ImmutableFlatMappable} object is cached by identity, as long as the object is in use and its dissection
+     * does not reference it.
      * 
      * @param obj to dissect
      * @param presedence to add to the resulting {@code TokenMap}
@@ -102,10 +106,146 @@ public final class FlatMappableDissector
             return null;
         }
 
+        if (AccessorPlan.of(obj.getClass()).isImmutable())
+        {
+            return cache.get(obj, locale, presedence, () -> dissectUncached(obj, presedence, locale),
+                dissection -> !references(dissection, obj));
+        }
+
+        return dissectUncached(obj, presedence, locale);
+    }
+
+    /**
+     * Get the number of {@link ImmutableFlatMappable} objects, whose dissections are cached.
+     * 
+     * @return the number of objects still in use
+     */
+    int getCachedCount()
+    {
+        return cache.size();
+    }
+
+    /**
+     * Check if a dissection references its object, so it must not be cached, as it would keep the object in use forever.
+     * <p>
+     * The nested {@link FlatMappable}s and {@link FlatMappableList}s are added unmodified and may hold a back-reference, e.g. a catalogue
+     * containing products, which reference their catalogue.
+     * 
+     * @param dissection of {@code obj}
+     * @param obj the dissected object
+     * @return {@code true} if {@code obj} is reachable from the dissection or this can not be ruled out, {@code false} otherwise
+     */
+    private static boolean references(TokenMap dissection, Object obj)
+    {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        return references(dissection.getValues(), obj, visited, 0) || references(dissection.getFunctions(), obj, visited, 0);
+    }
+
+    /**
+     * Check if an object is reachable from a value, through its getters, included methods, elements and entries.
+     * 
+     * @param value to search from
+     * @param obj to search for by identity
+     * @param visited values, that are already searched
+     * @param depth of the recursion for termination
+     * @return {@code true} if {@code obj} is reachable or this can not be ruled out, {@code false} otherwise
+     */
+    private static boolean references(Object value, Object obj, Set<Object> visited, int depth)
+    {
+        if (value == null || isSimple(value.getClass()) || !visited.add(value))
+        {
+            return false;
+        }
+
+        if (value == obj || depth > UNHEALTHY_DEPTH)
+        {
+            return true;
+        }
+
+        if (value instanceof Map<?, ?> map)
+        {
+            for (Map.Entry<?, ?> entry : map.entrySet())
+            {
+                if (references(entry.getKey(), obj, visited, depth + 1) || references(entry.getValue(), obj, visited, depth + 1))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        if (value instanceof Collection<?> collection)
+        {
+            for (Object element : collection)
+            {
+                if (references(element, obj, visited, depth + 1))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        if (isLazySource(value))
+        {
+            // can not be searched without consuming it
+            return true;
+        }
+
+        if (value.getClass().isArray())
+        {
+            if (value.getClass().getComponentType().isPrimitive())
+            {
+                return false;
+            }
+
+            for (int i = 0; i < Array.getLength(value); i++)
+            {
+                if (references(Array.get(value, i), obj, visited, depth + 1))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        List<String> includedMethods = value instanceof FlatMappable flatValue ? flatValue.includedMethods() : List.of();
+
+        for (AccessorPlan.Accessor accessor : AccessorPlan.of(value.getClass()).getAccessors())
+        {
+            if (!accessor.isIncluded(includedMethods))
+            {
+                continue;
+            }
+
+            try
+            {
+                if (references(accessor.get(value), obj, visited, depth + 1))
+                {
+                    return true;
+                }
+            }
+            catch (ReflectiveOperationException | RuntimeException ex)
+            {
+                LOG.debug("could not search [{}] for a back-reference", accessor.methodName(), ex);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private TokenMap dissectUncached(FlatMappable obj, int presedence, Locale locale)
+    {
         List<String>        includedMethods = obj.includedMethods();
         Map<String, Object> flatMap         = new LinkedHashMap<>();
 
-        flatten("", obj, includedMethods, flatMap, locale, 0);
+        flatten("", obj, includedMethods, flatMap::put, locale, 0);
 
         return TokenMap
             .builder()
@@ -116,16 +256,77 @@ public final class FlatMappableDissector
             .build();
     }
 
+    /**
+     * Dissect a list of {@link FlatMappable} objects into a {@link FlatMappableTable}.
+     * <p>
+     * Every row of the table holds the same values, a {@link #dissect(FlatMappable, int, Locale) dissection} of its element would hold,
+     * but all rows share a single index of keys instead of a map each.
+     * 
+     * @param objs to dissect, may contain {@code null}
+     * @param locale to use to translate
+     * @return the table
+     */
+    public FlatMappableTable dissectAll(List<? extends FlatMappable> objs, Locale locale)
+    {
+        FlatMappableTable table = new FlatMappableTable(objs.size());
+
+        for (int i = 0; i < objs.size(); i++)
+        {
+            FlatMappable obj = objs.get(i);
+
+            if (obj != null)
+            {
+                int row = i;
+
+                table.setRow(row, obj);
+                flatten("", obj, obj.includedMethods(), (key, value) -> table.set(row, key, value), locale, 0);
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Dissect a {@link FlatMappable} object lazily.
+     * <p>
+     * Instead of walking the whole object graph upfront, the resulting {@link TokenMap} resolves a key like {@code customer.address.city}
+     * on first access, by only reading the fields along its path, and memoizes the value. A key resolves to the same value the
+     * {@link #dissect(FlatMappable, int, Locale) eager dissection} maps it to, as long as {@code obj} is not modified. If a {@code Map} key
+     * contains a dot, the shortest matching key wins.
+     * 
+     * @param obj to dissect
+     * @param presedence to add to the resulting {@code TokenMap}
+     * @param locale to use to translate
+     * @return the {@code TokenMap} resolving its values on demand, or {@code null} if the input was {@code null}
+     */
+    public <T extends FlatMappable> TokenMap dissectLazily(T obj, int presedence, Locale locale)
+    {
+        if (obj == null)
+        {
+            return null;
+        }
+
+        List<String> includedMethods = obj.includedMethods();
+
+        return TokenMap
+            .builder()
+            .presedence(2 * presedence + 10)
+            .lazyValues(new LazyTokenValues(key -> resolveField(obj, includedMethods, key, locale)))
+            .classes(obj.fmClasses())
+            .functions(obj.fmFunctionCalls())
+            .build();
+    }
+
     /**
      * Flatten a given {@link Object}.
      * 
      * @param prefix to insert befor variable names in nested calls
      * @param value to flatten
-     * @param result the result map to fill
+     * @param result to put the flattened values into
      * @param locale to lookup translations with
      * @param depth of the recursive call
      */
-    private void flatten(String prefix, Object obj, List<String> includedMethods, Map<String, Object> result, Locale locale, int depth)
+    private void flatten(String prefix, Object obj, List<String> includedMethods, BiConsumer<String, Object> result, Locale locale, int depth)
     {
         if (obj == null)
         {
@@ -134,71 +335,25 @@ public final class FlatMappableDissector
 
         String   indent  = INDENT.repeat(depth);
 
-        Class<?> current = obj.getClass();
+        Class<?> type    = obj.getClass();
 
-        LOG.trace("{}dissect object, type [{}]", indent, obj.getClass().getSimpleName());
+        LOG.trace("{}dissect object, type [{}]", indent, type.getSimpleName());
 
-        while (current != null && current != Object.class)
-        {
-            for (Method method : current.getMethods())
-            {
-                try
-                {
-                    String   rawName = method.getName();
-                    Class<?> type    = method.getReturnType();
-                    String   stripped;
+        FlatMappedDissector<Object> generated = dissectors.get(type);
 
-                    if (rawName.startsWith("get"))
-                    {
-                        stripped = rawName.substring(3);
-                    }
-                    else if (rawName.startsWith("is"))
-                    {
-                        stripped = rawName.substring(2);
-                    }
-                    else if (includedMethods.contains(rawName))
-                    {
-                        stripped = rawName;
-                    }
-                    else
-                    {
-                        throw new SkipFieldDissectionException();
-                    }
-
-                    if (stripped.length() < 1)
-                    {
-                        throw new SkipFieldDissectionException();
-                    }
-
-                    if (BLACKLIST_PATTERNS
-                        .stream()
-                        .anyMatch(p -> p.matcher(stripped).matches()))
-                    {
-                        LOG.trace("{}ignore [{}] due to blacklisted", indent, stripped);
-
-                        throw new SkipFieldDissectionException();
-                    }
-
-                    String fieldName = Character.toLowerCase(stripped.charAt(0)) + stripped.substring(1);
+        if (generated != null)
+        {
+            generated.dissect(obj, includedMethods, new FieldSink(prefix, indent, result, locale, depth));
 
-                    if (method.getParameterCount() > 0)
-                    {
-                        throw new SkipFieldDissectionException();
-                    }
+            return;
+        }
 
-                    dissectField(obj, method, type, prefix, fieldName, indent, result, locale, depth);
-                }
-                catch (SkipFieldDissectionException ex)
-                {
-                    continue;
-                }
-                catch (Exception ex)
-                {
-                    LOG.error("method eval failed", ex);
-                }
+        for (AccessorPlan.Accessor accessor : AccessorPlan.of(type).getAccessors())
+        {
+            if (accessor.isIncluded(includedMethods))
+            {
+                dissectField(obj, accessor, prefix, indent, result, locale, depth);
             }
-
-            current = current.getSuperclass();
         }
     }
 
@@ -210,11 +365,11 @@ public final class FlatMappableDissector
      * 
      * @param key of the field/method
      * @param imp object to dig into
-     * @param result map to store within
+     * @param result to put the values into
      * @param locale to fetch a translation if necessary
      * @param depth of the recursion
      */
-    private void goDeeper(String key, Object imp, Map<String, Object> result, Locale locale, int depth)
+    private void goDeeper(String key, Object imp, BiConsumer<String, Object> result, Locale locale, int depth)
     {
         String indent = INDENT.repeat(depth);
 
@@ -241,27 +396,34 @@ public final class FlatMappableDissector
      * 
      * @param key to associate
      * @param value to put in the map
-     * @param result map to store within
+     * @param result to put the values into
      * @param locale to fetch a translation if necessary
      * @param indent for logging
      */
-    private void handleSimple(String key, Object value, Map<String, Object> result, Locale locale, int depth)
+    private void handleSimple(String key, Object value, BiConsumer<String, Object> result, Locale locale, int depth)
     {
         String indent = INDENT.repeat(depth);
 
         LOG.trace("{} - field is simple type value [{}]", indent, String.valueOf(value));
 
-        if (value instanceof String text)
-        {
-            if (text.startsWith(TRANSLATION_INDICATOR))
-            {
-                result.put(key, translationProvider.getText(locale, text.substring(TRANSLATION_INDICATOR.length())));
+        result.accept(key, translate(value, locale));
+    }
 
-                return;
-            }
+    /**
+     * Translate a base Java object, if it is a {@code String} starting with {@link #TRANSLATION_INDICATOR}.
+     * 
+     * @param value to translate
+     * @param locale to fetch the translation with
+     * @return the translation, or {@code value} if it is not to be translated
+     */
+    private Object translate(Object value, Locale locale)
+    {
+        if (value instanceof String text && text.startsWith(TRANSLATION_INDICATOR))
+        {
+            return translationProvider.getText(locale, text.substring(TRANSLATION_INDICATOR.length()));
         }
 
-        result.put(key, value);
+        return value;
     }
 
     /**
@@ -281,30 +443,69 @@ public final class FlatMappableDissector
             || Enum.class.isAssignableFrom(type);
     }
 
+    /**
+     * Check if a value is a lazy source of elements, that must not be consumed while dissecting.
+     * 
+     * @param value to check
+     * @return {@code true}, if {@code value} is a {@link FlatMappableCursor}, {@code Stream}, {@code Iterator}, {@code Spliterator} or a
+     *         {@code Iterable}, that is no {@code Collection}, {@code false} otherwise
+     */
+    private static boolean isLazySource(Object value)
+    {
+        return value instanceof FlatMappableCursor
+            || value instanceof Stream
+            || value instanceof Iterator
+            || value instanceof Spliterator
+            || value instanceof Iterable;
+    }
+
     /**
      * Dissect a field.
      * 
      * @param obj the object to which the field belongs
-     * @param method the method (get/is) on the field
-     * @param type expected class type of the field
+     * @param accessor to read the field with
      * @param prefix if applicable
-     * @param fieldName the name of the field
      * @param indent indent for logging
      * @param result to fill
      * @param locale if something is to be translated
      * @param depth of the recursive call for logging and termination
      */
-    private void dissectField(Object obj, Method method, Class<?> type, String prefix, String fieldName, String indent,
-        Map<String, Object> result, Locale locale, int depth)
+    private void dissectField(Object obj, AccessorPlan.Accessor accessor, String prefix, String indent, BiConsumer<String, Object> result,
+        Locale locale, int depth)
     {
         try
         {
-            LOG.trace("{}dissect field [{}] type [{}]", indent, fieldName, type.getSimpleName());
+            String fieldName = accessor.fieldName();
 
-            String key   = prefix.isEmpty() ? fieldName : prefix + "." + fieldName;
+            LOG.trace("{}dissect field [{}] type [{}]", indent, fieldName, accessor.type().getSimpleName());
 
-            Object value = method.invoke(obj);
+            dissectValue(key(prefix, fieldName), accessor.get(obj), indent, result, locale, depth);
+        }
+        catch (Exception ex)
+        {
+            LOG.error("field issection failed", ex);
+        }
+    }
 
+    private static String key(String prefix, String fieldName)
+    {
+        return prefix.isEmpty() ? fieldName : prefix + "." + fieldName;
+    }
+
+    /**
+     * Dissect the value of a field.
+     * 
+     * @param key of the field, with prefix
+     * @param value of the field
+     * @param indent indent for logging
+     * @param result to fill
+     * @param locale if something is to be translated
+     * @param depth of the recursive call for logging and termination
+     */
+    private void dissectValue(String key, Object value, String indent, BiConsumer<String, Object> result, Locale locale, int depth)
+    {
+        try
+        {
             if (value == null)
             {
                 LOG.trace("{} - field is null", indent);
@@ -316,7 +517,7 @@ public final class FlatMappableDissector
                 LOG.trace("{} - field is {}/{}, add unmodified", " ".repeat(depth + 1), FlatMappable.class.getSimpleName(),
                     FlatMappableList.class.getSimpleName());
 
-                result.put(key, value);
+                result.accept(key, value);
             }
             else if (value instanceof Map<?, ?> map)
             {
@@ -330,43 +531,19 @@ public final class FlatMappableDissector
             {
                 LOG.trace("{} - field is List", indent);
 
-                List<FlatMappable> items = new ArrayList<>();
-
-                for (Object element : collection)
-                {
-                    if (element instanceof FlatMappable item)
-                    {
-                        items.add(item);
-                    }
-                }
+                putIfPresent(result, key, toList(collection));
+            }
+            else if (isLazySource(value))
+            {
+                LOG.trace("{} - field is lazy source, add unmodified", indent);
 
-                if (!items.isEmpty())
-                {
-                    result.put(key, new FlatMappableList<>(items));
-                }
+                result.accept(key, value);
             }
             else if (value.getClass().isArray())
             {
                 LOG.trace("{} - field is Array", indent);
 
-                List<FlatMappable> items  = new ArrayList<>();
-
-                int                length = Array.getLength(value);
-
-                for (int i = 0; i < length; i++)
-                {
-                    Object element = Array.get(value, i);
-
-                    if (element instanceof FlatMappable item)
-                    {
-                        items.add(item);
-                    }
-                }
-
-                if (!items.isEmpty())
-                {
-                    result.put(key, new FlatMappableList<>(items));
-                }
+                putIfPresent(result, key, arrayToList(value));
             }
             else
             {
@@ -379,6 +556,60 @@ public final class FlatMappableDissector
         }
     }
 
+    /**
+     * Collect the {@link FlatMappable} elements of a {@code Collection}.
+     * 
+     * @param collection to collect from
+     * @return the elements, or {@code null} if there are none
+     */
+    private static FlatMappableList<FlatMappable> toList(Collection<?> collection)
+    {
+        List<FlatMappable> items = new ArrayList<>();
+
+        for (Object element : collection)
+        {
+            if (element instanceof FlatMappable item)
+            {
+                items.add(item);
+            }
+        }
+
+        return items.isEmpty() ? null : new FlatMappableList<>(items);
+    }
+
+    /**
+     * Collect the {@link FlatMappable} elements of an array.
+     * 
+     * @param array to collect from
+     * @return the elements, or {@code null} if there are none
+     */
+    private static FlatMappableList<FlatMappable> arrayToList(Object array)
+    {
+        List<FlatMappable> items  = new ArrayList<>();
+
+        int                length = Array.getLength(array);
+
+        for (int i = 0; i < length; i++)
+        {
+            Object element = Array.get(array, i);
+
+            if (element instanceof FlatMappable item)
+            {
+                items.add(item);
+            }
+        }
+
+        return items.isEmpty() ? null : new FlatMappableList<>(items);
+    }
+
+    private static void putIfPresent(BiConsumer<String, Object> result, String key, Object value)
+    {
+        if (value != null)
+        {
+            result.accept(key, value);
+        }
+    }
+
     /**
      * Handle a map field.
      * 
@@ -388,7 +619,7 @@ public final class FlatMappableDissector
      * @param locale if something is to be translated
      * @param depth of the recursive call for logging and termination
      */
-    private void handleMap(String fieldKey, Map<?, ?> map, Map<String, Object> result, Locale locale, int depth)
+    private void handleMap(String fieldKey, Map<?, ?> map, BiConsumer<String, Object> result, Locale locale, int depth)
     {
         LOG.trace("{} - field is {}, go deeper", " ".repeat(depth + 1), Map.class.getSimpleName());
 
@@ -415,4 +646,205 @@ public final class FlatMappableDissector
             continue;
         }
     }
+
+    /**
+     * Resolve a key in an object, like it would be mapped by {@link #flatten(String, Object, List, BiConsumer, Locale, int)}.
+     * 
+     * @param obj to resolve in
+     * @param includedMethods the methods to read besides getters
+     * @param key the remaining path, relative to {@code obj}
+     * @param locale if something is to be translated
+     * @return the value, or {@code null} if the key is not set
+     */
+    private Object resolveField(Object obj, List<String> includedMethods, String key, Locale locale)
+    {
+        int                   dot       = key.indexOf('.');
+        String                fieldName = dot < 0 ? key : key.substring(0, dot);
+        AccessorPlan.Accessor accessor  = AccessorPlan.of(obj.getClass()).get(fieldName, includedMethods);
+
+        if (accessor == null)
+        {
+            return null;
+        }
+
+        LOG.trace("resolve field [{}] of [{}]", fieldName, obj.getClass().getSimpleName());
+
+        Object value;
+
+        try
+        {
+            value = accessor.get(obj);
+        }
+        catch (Exception ex)
+        {
+            LOG.error("field issection failed", ex);
+
+            return null;
+        }
+
+        if (value == null)
+        {
+            return null;
+        }
+
+        return dot < 0 ? resolveValue(value, locale) : resolveNested(value, key.substring(dot + 1), locale);
+    }
+
+    /**
+     * Resolve the value of a field, like it would be mapped by {@link #dissectValue(String, Object, String, BiConsumer, Locale, int)}.
+     * 
+     * @param value of the field
+     * @param locale if something is to be translated
+     * @return the value, or {@code null} if only nested keys are mapped
+     */
+    private Object resolveValue(Object value, Locale locale)
+    {
+        if (value instanceof FlatMappable || value instanceof FlatMappableList)
+        {
+            return value;
+        }
+        else if (value instanceof Map)
+        {
+            return null;
+        }
+        else if (isSimple(value.getClass()))
+        {
+            return translate(value, locale);
+        }
+        else if (value instanceof Collection<?> collection)
+        {
+            return toList(collection);
+        }
+        else if (isLazySource(value))
+        {
+            return value;
+        }
+        else if (value.getClass().isArray())
+        {
+            return arrayToList(value);
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolve a nested key of a field.
+     * 
+     * @param value of the field
+     * @param key the remaining path, relative to {@code value}
+     * @param locale if something is to be translated
+     * @return the value, or {@code null} if the key is not set
+     */
+    private Object resolveNested(Object value, String key, Locale locale)
+    {
+        if (value instanceof Map<?, ?> map)
+        {
+            return resolveInMap(map, key, locale);
+        }
+
+        if (value instanceof FlatMappable
+            || value instanceof FlatMappableList
+            || value instanceof Collection
+            || isSimple(value.getClass())
+            || isLazySource(value)
+            || value.getClass().isArray())
+        {
+            return null;
+        }
+
+        return resolveField(value, List.of(), key, locale);
+    }
+
+    /**
+     * Resolve a key in a map field, like it would be mapped by {@link #handleMap(String, Map, BiConsumer, Locale, int)}.
+     * 
+     * @param map the map field
+     * @param key the remaining path, relative to {@code map}
+     * @param locale if something is to be translated
+     * @return the value, or {@code null} if the key is not set
+     */
+    private Object resolveInMap(Map<?, ?> map, String key, Locale locale)
+    {
+        int dot = key.indexOf('.');
+
+        while (true)
+        {
+            String mapKey = dot < 0 ? key : key.substring(0, dot);
+            Object value  = getIfStringKeyed(map, mapKey);
+
+            if (value != null)
+            {
+                if (dot < 0)
+                {
+                    return isSimple(value.getClass()) ? translate(value, locale) : null;
+                }
+
+                if (!isSimple(value.getClass()))
+                {
+                    List<String> includedMethods = value instanceof FlatMappable flatValue ? flatValue.includedMethods() : List.of();
+                    Object       result          = resolveField(value, includedMethods, key.substring(dot + 1), locale);
+
+                    if (result != null)
+                    {
+                        return result;
+                    }
+                }
+            }
+
+            if (dot < 0)
+            {
+                return null;
+            }
+
+            dot = key.indexOf('.', dot + 1);
+        }
+    }
+
+    private static Object getIfStringKeyed(Map<?, ?> map, String key)
+    {
+        try
+        {
+            return map.get(key);
+        }
+        catch (ClassCastException ex)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Passes the values read by a generated {@link FlatMappedDissector} on, to be dissected like reflected values.
+     */
+    private final class FieldSink implements FlatMappedDissector.Sink
+    {
+
+        private final String                     prefix;
+        private final String                     indent;
+        private final BiConsumer<String, Object> result;
+        private final Locale                     locale;
+        private final int                        depth;
+
+        FieldSink(String prefix, String indent, BiConsumer<String, Object> result, Locale locale, int depth)
+        {
+            this.prefix = prefix;
+            this.indent = indent;
+            this.result = result;
+            this.locale = locale;
+            this.depth = depth;
+        }
+
+        @Override
+        public void accept(String fieldName, Object value)
+        {
+            LOG.trace("{}dissect field [{}]", indent, fieldName);
+
+            dissectValue(key(prefix, fieldName), value, indent, result, locale, depth);
+        }
+
+        @Override
+        public void failed(String fieldName, Exception ex)
+        {
+            LOG.error("field issection failed", ex);
+        }
+    }
 }
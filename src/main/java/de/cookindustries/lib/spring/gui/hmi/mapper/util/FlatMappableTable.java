@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.cookindustries.lib.spring.gui.function.AbsFunctionCall;
+
+/**
+ * The dissected values of a list of {@link FlatMappable}s, stored by column.
+ * <p>
+ * All rows share a single index of keys and every key has one array of values, holding the value of each row. A {@link #row(int) row}
+ * is a view on a single index of these arrays, so the rows of a large list do not need a map of their own.
+ * <p>
+ * A table is filled by {@link FlatMappableDissector#dissectAll(List, java.util.Locale)} and not modified afterwards, so it can be read
+ * by mappers running in parallel.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class FlatMappableTable
+{
+
+    private final int                                size;
+    private final Map<String, Integer>               keys      = new HashMap<>();
+    private final List<Object[]>                     columns   = new ArrayList<>();
+    private final List<Map<String, String>>          classes;
+    private final List<Map<String, AbsFunctionCall>> functions;
+
+    /**
+     * Create an empty table.
+     *
+     * @param size the number of rows
+     */
+    FlatMappableTable(int size)
+    {
+        this.size = size;
+        this.classes = new ArrayList<>(size);
+        this.functions = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+        {
+            classes.add(null);
+            functions.add(null);
+        }
+    }
+
+    /**
+     * Mark a row as present, a row of a {@code null} element stays absent.
+     *
+     * @param row index of the row
+     * @param obj the element of the row
+     */
+    void setRow(int row, FlatMappable obj)
+    {
+        classes.set(row, obj.fmClasses());
+        functions.set(row, obj.fmFunctionCalls());
+    }
+
+    /**
+     * Set a value of a row.
+     *
+     * @param row index of the row
+     * @param key of the value
+     * @param value to set
+     */
+    void set(int row, String key, Object value)
+    {
+        Integer column = keys.get(key);
+
+        if (column == null)
+        {
+            column = columns.size();
+            keys.put(key, column);
+            columns.add(new Object[size]);
+        }
+
+        columns.get(column)[row] = value;
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the number of distinct keys of all rows.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount()
+    {
+        return columns.size();
+    }
+
+    /**
+     * Get a view on a row.
+     *
+     * @param row index of the row
+     * @return the view, or {@code null} if the element of the row was {@code null}
+     */
+    public TokenSource row(int row)
+    {
+        return classes.get(row) == null ? null : new Row(row);
+    }
+
+    /**
+     * A view on a single row of the table.
+     */
+    private final class Row implements TokenSource
+    {
+
+        private final int row;
+
+        Row(int row)
+        {
+            this.row = row;
+        }
+
+        @Override
+        public Object getValue(String key)
+        {
+            Integer column = keys.get(key);
+
+            return column == null ? null : columns.get(column)[row];
+        }
+
+        @Override
+        public String getClazz(String key)
+        {
+            return classes.get(row).get(key);
+        }
+
+        @Override
+        public AbsFunctionCall getFunction(String key)
+        {
+            return functions.get(row).get(key);
+        }
+
+        @Override
+        public boolean isUidActive(String uid)
+        {
+            return true;
+        }
+
+        @Override
+        public String toString()
+        {
+            Map<String, Object> values = new HashMap<>();
+
+            keys.forEach(
+                (key, column) -> {
+                    Object value = columns.get(column)[row];
+
+                    if (value != null)
+                    {
+                        values.put(key, value);
+                    }
+                });
+
+            return String.format("row [%d] of [%d] with values %s", row, size, values);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class to get a {@link FlatMappedDissector} generated at compile time by the {@link FlatMappedProcessor}.
+ * <p>
+ * The {@link FlatMappableDissector} reads objects of a marked class with the generated dissector instead of reflection. The generated
+ * dissector is only used for objects of exactly the marked class, subclasses have to be marked themselves.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface FlatMapped
+{
+
+}
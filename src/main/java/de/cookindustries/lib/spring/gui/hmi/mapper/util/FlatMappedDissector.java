@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.util.List;
+
+/**
+ * Reads the fields of a {@link FlatMapped} class without reflection. Implementations are generated by the {@link FlatMappedProcessor}
+ * and found with the {@link FlatMappedDissectors} registry.
+ * <p>
+ * A dissector reads the same fields the {@link FlatMappableDissector} would read by reflection and passes their raw values to a
+ * {@link Sink}, which flattens them like reflected values.
+ *
+ * @param <T> the dissected type
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public interface FlatMappedDissector<T>
+{
+
+    /**
+     * Get the dissected type.
+     *
+     * @return the type
+     */
+    Class<T> getType();
+
+    /**
+     * Read all fields of an object.
+     *
+     * @param obj to read
+     * @param includedMethods the methods to read besides getters
+     * @param sink to pass the values to
+     */
+    void dissect(T obj, List<String> includedMethods, Sink sink);
+
+    /**
+     * Receives the fields read by a {@link FlatMappedDissector}.
+     */
+    interface Sink
+    {
+
+        /**
+         * Accept the value of a field.
+         *
+         * @param fieldName the key of the field
+         * @param value of the field, may be {@code null}
+         */
+        void accept(String fieldName, Object value);
+
+        /**
+         * Accept a failed read of a field.
+         *
+         * @param fieldName the key of the field
+         * @param ex thrown while reading
+         */
+        void failed(String fieldName, Exception ex);
+    }
+}
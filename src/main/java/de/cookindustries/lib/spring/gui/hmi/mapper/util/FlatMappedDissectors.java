@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A registry of {@link FlatMappedDissector}s by dissected type.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class FlatMappedDissectors
+{
+
+    private static final Logger                         LOG  = LoggerFactory.getLogger(FlatMappedDissectors.class);
+
+    /** A registry without any dissector */
+    public static final FlatMappedDissectors            NONE = new FlatMappedDissectors(List.of());
+
+    private static volatile FlatMappedDissectors        installed;
+
+    private final Map<Class<?>, FlatMappedDissector<?>> dissectors;
+
+    /**
+     * Create a registry.
+     *
+     * @param dissectors to register
+     * @throws IllegalArgumentException if two dissectors dissect the same type
+     */
+    public FlatMappedDissectors(Collection<? extends FlatMappedDissector<?>> dissectors)
+    {
+        Map<Class<?>, FlatMappedDissector<?>> byType = new HashMap<>();
+
+        for (FlatMappedDissector<?> dissector : dissectors)
+        {
+            if (byType.put(dissector.getType(), dissector) != null)
+            {
+                throw new IllegalArgumentException(String.format("duplicate dissector for type [%s]", dissector.getType().getName()));
+            }
+        }
+
+        this.dissectors = Collections.unmodifiableMap(byType);
+    }
+
+    /**
+     * Get the registry of all dissectors on the classpath, registered as {@link ServiceLoader service} of {@link FlatMappedDissector}.
+     * Registered dissectors, that can not be loaded, e.g. left over from an incremental build, are ignored.
+     *
+     * @return the registry, loaded on first use
+     */
+    @SuppressWarnings("rawtypes")
+    public static FlatMappedDissectors installed()
+    {
+        FlatMappedDissectors result = installed;
+
+        if (result == null)
+        {
+            synchronized (FlatMappedDissectors.class)
+            {
+                result = installed;
+
+                if (result == null)
+                {
+                    List<FlatMappedDissector<?>> loaded = new ArrayList<>();
+                    Iterator<FlatMappedDissector>  it     = ServiceLoader.load(FlatMappedDissector.class).iterator();
+
+                    while (it.hasNext())
+                    {
+                        try
+                        {
+                            loaded.add(it.next());
+                        }
+                        catch (ServiceConfigurationError ex)
+                        {
+                            LOG.warn("ignore generated dissector, that can not be loaded: {}", ex.getMessage());
+                        }
+                    }
+
+                    if (!loaded.isEmpty())
+                    {
+                        LOG.info("installed [{}] generated dissectors", loaded.size());
+                    }
+
+                    result = loaded.isEmpty() ? NONE : new FlatMappedDissectors(loaded);
+                    installed = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the dissector of a type.
+     *
+     * @param type to get the dissector of
+     * @return the dissector, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public FlatMappedDissector<Object> get(Class<?> type)
+    {
+        return (FlatMappedDissector<Object>) dissectors.get(type);
+    }
+}
@@ -0,0 +1,290 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@link FlatMappedDissector} for every {@link FlatMapped} class and registers them as services of
+ * {@link FlatMappedDissector}.
+ * <p>
+ * The processor is not registered as a service itself, as it would run while compiling this library. Add it to the annotation processors
+ * of a project, e.g. with {@code -processor de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappedProcessor} or in the
+ * {@code annotationProcessors} of the {@code maven-compiler-plugin}, alongside other processors like {@code lombok}.
+ * <p>
+ * A generated dissector reads the same methods the {@link FlatMappableDissector} reads by reflection: every public, parameterless getter
+ * that is not blacklisted, and every other public, parameterless method only if it is named in {@link FlatMappable#includedMethods()}.
+ * The components of a record are always read, mapped to the name of the component, after all other methods.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@SupportedAnnotationTypes("de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMapped")
+public final class FlatMappedProcessor extends AbstractProcessor
+{
+
+    private static final String SUFFIX       = "_FlatMapped";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + FlatMappedDissector.class.getName();
+
+    private final Set<String>   generated    = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FlatMapped.class))
+        {
+            if (!(element instanceof TypeElement type) || !isSupported(type))
+            {
+                processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR,
+                        "@FlatMapped is only supported on non-private, non-generic classes, that are no inner classes", element);
+
+                continue;
+            }
+
+            try
+            {
+                generate(type);
+            }
+            catch (IOException ex)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to generate dissector: " + ex.getMessage(), type);
+            }
+        }
+
+        if (roundEnv.processingOver() && !generated.isEmpty())
+        {
+            writeServiceFile();
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the simple name of the dissector generated for a class.
+     *
+     * @param type the {@link FlatMapped} class
+     * @return the simple name, the names of all enclosing classes and the class joined by {@code _}, with the suffix {@code _FlatMapped}
+     */
+    static String dissectorName(TypeElement type)
+    {
+        StringBuilder name    = new StringBuilder(type.getSimpleName());
+        Element       current = type.getEnclosingElement();
+
+        while (current instanceof TypeElement enclosing)
+        {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            current = enclosing.getEnclosingElement();
+        }
+
+        return name.append(SUFFIX).toString();
+    }
+
+    private static boolean isSupported(TypeElement type)
+    {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD)
+        {
+            return false;
+        }
+
+        if (!type.getTypeParameters().isEmpty())
+        {
+            return false;
+        }
+
+        Element current = type;
+
+        while (current instanceof TypeElement nested)
+        {
+            if (nested.getModifiers().contains(Modifier.PRIVATE)
+                || (nested.getNestingKind() == NestingKind.MEMBER && !nested.getModifiers().contains(Modifier.STATIC)))
+            {
+                return false;
+            }
+
+            current = nested.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException
+    {
+        PackageElement                 pkg         = processingEnv.getElementUtils().getPackageOf(type);
+        String                         packageName = pkg.getQualifiedName().toString();
+        String                         className   = dissectorName(type);
+        String                         typeName    = type.getQualifiedName().toString();
+        Map<String, ExecutableElement> methods     = new LinkedHashMap<>();
+        Map<String, String>            components  = new HashMap<>();
+
+        for (Element member : processingEnv.getElementUtils().getAllMembers(type))
+        {
+            if (member.getKind() == ElementKind.METHOD
+                && member.getModifiers().contains(Modifier.PUBLIC)
+                && member instanceof ExecutableElement method
+                && method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID
+                && AccessorPlan.toFieldName(method.getSimpleName().toString()) != null)
+            {
+                methods.putIfAbsent(method.getSimpleName().toString(), method);
+            }
+        }
+
+        for (RecordComponentElement component : type.getRecordComponents())
+        {
+            String methodName = component.getAccessor().getSimpleName().toString();
+            String fieldName  = component.getSimpleName().toString();
+
+            // move the accessor to the end, like the reflective plan does
+            methods.remove(methodName);
+
+            if (!AccessorPlan.isBlacklisted(fieldName))
+            {
+                methods.put(methodName, component.getAccessor());
+                components.put(methodName, fieldName);
+            }
+        }
+
+        StringBuilder src = new StringBuilder();
+
+        if (!packageName.isEmpty())
+        {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+
+        src.append("import java.util.List;\n\n");
+        src.append("import javax.annotation.processing.Generated;\n\n");
+        src.append("import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappedDissector;\n\n");
+        src.append("/**\n * Generated by {@code FlatMappedProcessor} from {@link ").append(typeName).append("}, do not edit.\n */\n");
+        src.append("@Generated(\"").append(FlatMappedProcessor.class.getName()).append("\")\n");
+        src.append("public final class ").append(className).append(" implements FlatMappedDissector<").append(typeName).append(">\n{\n\n");
+        src.append("    @Override\n    public Class<").append(typeName).append("> getType()\n    {\n");
+        src.append("        return ").append(typeName).append(".class;\n    }\n\n");
+        src.append("    @Override\n    public void dissect(").append(typeName).append(" obj, List<String> includedMethods, Sink sink)\n    {\n");
+
+        boolean first = true;
+
+        for (ExecutableElement method : methods.values())
+        {
+            String  methodName = method.getSimpleName().toString();
+            boolean component  = components.containsKey(methodName);
+            String  fieldName  = component ? components.get(methodName) : AccessorPlan.toFieldName(methodName);
+            boolean named      = !component && !AccessorPlan.isGetter(methodName);
+            String  target     = method.getModifiers().contains(Modifier.STATIC) ? typeName : "obj";
+            String  indent     = "        ";
+
+            if (!first)
+            {
+                src.append("\n");
+            }
+
+            first = false;
+
+            if (named)
+            {
+                src.append(indent).append("if (includedMethods.contains(\"").append(methodName).append("\"))\n");
+                src.append(indent).append("{\n");
+                indent += "    ";
+            }
+
+            src.append(indent).append("try\n");
+            src.append(indent).append("{\n");
+            src.append(indent).append("    sink.accept(\"").append(fieldName).append("\", ").append(target).append(".").append(methodName)
+                .append("());\n");
+            src.append(indent).append("}\n");
+            src.append(indent).append("catch (Exception ex)\n");
+            src.append(indent).append("{\n");
+            src.append(indent).append("    sink.failed(\"").append(fieldName).append("\", ex);\n");
+            src.append(indent).append("}\n");
+
+            if (named)
+            {
+                src.append("        }\n");
+            }
+        }
+
+        src.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter())
+        {
+            writer.write(src.toString());
+        }
+
+        generated.add(qualifiedName);
+    }
+
+    /**
+     * Write the service file, keeping the entries of an earlier, incremental compilation.
+     */
+    private void writeServiceFile()
+    {
+        Set<String> services = new TreeSet<>(generated);
+
+        try
+        {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+
+            try (Reader reader = existing.openReader(true); BufferedReader lines = new BufferedReader(reader))
+            {
+                lines.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(services::add);
+            }
+        }
+        catch (IOException | IllegalArgumentException ex)
+        {
+            // no service file yet
+        }
+
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE).openWriter())
+        {
+            for (String service : services)
+            {
+                writer.write(service);
+                writer.write("\n");
+            }
+        }
+        catch (IOException ex)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+}
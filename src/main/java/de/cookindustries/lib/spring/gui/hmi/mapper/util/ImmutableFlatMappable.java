@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link FlatMappable} class as immutable, so the {@link FlatMappableDissector} may cache its dissections.
+ * <p>
+ * Each instance of a marked class is dissected only once per {@code Locale} and {@code presedence}, as long as the instance is in use,
+ * and shared by all later dissections, e.g. a list of countries passed to every request. The instance, its nested objects and the
+ * translations of its {@code $$text$} values must therefore never change. The marker is not inherited by subclasses.
+ * <p>
+ * The cache holds an instance only weakly, so its nested objects must not reference it back, e.g. a catalogue containing products,
+ * which reference their catalogue. Such a dissection would keep the instance in use forever; it is detected and not cached, so the
+ * instance is dissected on every use. The same applies to a lazy source, like a {@code Stream}, that can not be searched without
+ * consuming it.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ImmutableFlatMappable
+{
+
+}
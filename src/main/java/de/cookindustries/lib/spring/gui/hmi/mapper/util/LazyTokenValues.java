@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The values of a {@link TokenMap}, that are resolved by key on first access and memoized.
+ * <p>
+ * Values {@link #of(Map) backed by a map} are read through to the map on every access instead, without copying or memoizing them.
+ * <p>
+ * This is thread-safe, so a {@code TokenMap} with lazy values can be shared by mappers running in parallel.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+final class LazyTokenValues
+{
+
+    private static final Object            NONE     = new Object();
+
+    private final Function<String, Object> resolver;
+    private final Map<String, Object>      resolved;
+
+    /**
+     * Create lazy values.
+     *
+     * @param resolver to resolve the value of a key, returning {@code null} if the key is not set
+     */
+    LazyTokenValues(Function<String, Object> resolver)
+    {
+        this(resolver, new ConcurrentHashMap<>());
+    }
+
+    private LazyTokenValues(Function<String, Object> resolver, Map<String, Object> resolved)
+    {
+        this.resolver = resolver;
+        this.resolved = resolved;
+    }
+
+    /**
+     * Create values backed by a map.
+     *
+     * @param values the map to read from, which is expected not to change while it is in use
+     * @return the values
+     */
+    static LazyTokenValues of(Map<String, ?> values)
+    {
+        return new LazyTokenValues(values::get, null);
+    }
+
+    /**
+     * Retrieve a value associated to {@code key}, resolving it on first access.
+     *
+     * @param key to lookup
+     * @return the {@code value} associated with {@code key}, or {@code null} if no key is set
+     */
+    Object getValue(String key)
+    {
+        if (resolved == null)
+        {
+            return resolver.apply(key);
+        }
+
+        Object value = resolved.get(key);
+
+        if (value == null)
+        {
+            value = resolver.apply(key);
+
+            if (value == null)
+            {
+                value = NONE;
+            }
+
+            Object present = resolved.putIfAbsent(key, value);
+
+            if (present != null)
+            {
+                value = present;
+            }
+        }
+
+        return value == NONE ? null : value;
+    }
+
+    /**
+     * Get the number of keys resolved so far.
+     *
+     * @return the number of keys, always {@code 0} for values backed by a map
+     */
+    int getResolvedCount()
+    {
+        return resolved == null ? 0 : resolved.size();
+    }
+
+    @Override
+    public String toString()
+    {
+        return resolved == null ? "backed by map" : "resolved: " + resolved.size();
+    }
+}
@@ -1,13 +0,0 @@
-/**
- * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
- * <p>
- * Licensed under the MIT License.
- * <p>
- * See LICENSE file in the project root for full license information.
- */
-package de.cookindustries.lib.spring.gui.hmi.mapper.util;
-
-class SkipFieldDissectionException extends Exception
-{
-
-}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import de.cookindustries.lib.spring.gui.function.AbsFunctionCall;
+
+/**
+ * An immutable index over a ordered list of {@link TokenMap}s.
+ * <p>
+ * All maps are merged once on creation, so resolving a key costs a single hash probe per layer instead of a scan over all maps. If a key is
+ * set in more than one map, the value of the first map in the list wins. A {@code uid} is inactive, if any map deactivates it.
+ * <p>
+ * Values of maps, that resolve them {@link FlatMappableDissector#dissectLazily lazily}, can not be merged.
+ * They are looked up in order of their maps after the merged values, but only as long as no earlier map has set the key.
+ * <p>
+ * A layer can be {@link #extend(List) extended} by a child layer, which shares this layer instead of merging it again. A value of the child
+ * only wins over a value of this layer, if it has a higher {@link TokenMap#getPresedence() presedence}.
+ * 
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TokenLayer implements TokenSource
+{
+
+    /**
+     * A layer without any {@code token}s
+     */
+    public static final TokenLayer                    EMPTY = new TokenLayer(null, Map.of(), List.of(), Map.of(), Map.of(), Set.of());
+
+    private final TokenLayer                          parent;
+    private final Map<String, Token<Object>>          values;
+    private final List<Token<LazyTokenValues>>        lazyValues;
+    private final Map<String, Token<String>>          classes;
+    private final Map<String, Token<AbsFunctionCall>> functions;
+    private final Set<String>                         deactivatedUids;
+
+    private TokenLayer(TokenLayer parent, Map<String, Token<Object>> values, List<Token<LazyTokenValues>> lazyValues,
+        Map<String, Token<String>> classes, Map<String, Token<AbsFunctionCall>> functions, Set<String> deactivatedUids)
+    {
+        this.parent = parent;
+        this.values = values;
+        this.lazyValues = lazyValues;
+        this.classes = classes;
+        this.functions = functions;
+        this.deactivatedUids = deactivatedUids;
+    }
+
+    /**
+     * Create a layer from {@code maps}.
+     * 
+     * @param maps ordered by precedence, the first map wins
+     * @return the merged layer
+     */
+    public static TokenLayer of(List<TokenMap> maps)
+    {
+        return EMPTY.extend(maps);
+    }
+
+    /**
+     * Create a child layer from {@code maps}, that falls back to this layer.
+     * 
+     * @param maps ordered by precedence, the first map wins
+     * @return the child layer, or this layer if {@code maps} is empty
+     */
+    public TokenLayer extend(List<TokenMap> maps)
+    {
+        if (maps.isEmpty())
+        {
+            return this;
+        }
+
+        Map<String, Token<Object>>          mergedValues    = new HashMap<>();
+        List<Token<LazyTokenValues>>        lazy            = new ArrayList<>();
+        Map<String, Token<String>>          mergedClasses   = new HashMap<>();
+        Map<String, Token<AbsFunctionCall>> mergedFunctions = new HashMap<>();
+        Set<String>                         mergedUids      = new HashSet<>();
+
+        for (int i = 0; i < maps.size(); i++)
+        {
+            TokenMap map        = maps.get(i);
+            int      presedence = map.getPresedence();
+            int      order      = i;
+
+            map.getValues().forEach((key, value) -> merge(mergedValues, key, value, presedence, order));
+            map.getClasses().forEach((key, value) -> merge(mergedClasses, key, value, presedence, order));
+            map.getFunctions().forEach((key, value) -> merge(mergedFunctions, key, value, presedence, order));
+            mergedUids.addAll(map.getDeactivateUids());
+
+            if (map.getLazyValues() != null)
+            {
+                lazy.add(new Token<>(map.getLazyValues(), presedence, order));
+            }
+        }
+
+        return new TokenLayer(
+            this == EMPTY ? null : this,
+            Collections.unmodifiableMap(mergedValues),
+            List.copyOf(lazy),
+            Collections.unmodifiableMap(mergedClasses),
+            Collections.unmodifiableMap(mergedFunctions),
+            Collections.unmodifiableSet(mergedUids));
+    }
+
+    @Override
+    public Object getValue(String key)
+    {
+        return unwrap(resolve(key, TokenLayer::ownValue));
+    }
+
+    @Override
+    public String getClazz(String key)
+    {
+        return unwrap(resolve(key, (layer, k) -> layer.classes.get(k)));
+    }
+
+    @Override
+    public AbsFunctionCall getFunction(String key)
+    {
+        return unwrap(resolve(key, (layer, k) -> layer.functions.get(k)));
+    }
+
+    @Override
+    public boolean isUidActive(String uid)
+    {
+        return !deactivatedUids.contains(uid) && (parent == null || parent.isUidActive(uid));
+    }
+
+    private <T> Token<T> resolve(String key, BiFunction<TokenLayer, String, Token<T>> tokens)
+    {
+        Token<T> own = tokens.apply(this, key);
+
+        if (parent == null)
+        {
+            return own;
+        }
+
+        Token<T> inherited = parent.resolve(key, tokens);
+
+        if (own == null)
+        {
+            return inherited;
+        }
+
+        return inherited != null && inherited.presedence() > own.presedence()
+            ? inherited
+            : own;
+    }
+
+    /**
+     * Get the value of this layer, without the parent.
+     * 
+     * @param key to lookup
+     * @return the merged value, or a lazy value of an earlier map, or {@code null} if no map of this layer sets {@code key}
+     */
+    private Token<Object> ownValue(String key)
+    {
+        Token<Object> merged = values.get(key);
+
+        for (Token<LazyTokenValues> lazy : lazyValues)
+        {
+            if (merged != null && merged.order() < lazy.order())
+            {
+                break;
+            }
+
+            Object value = lazy.value().getValue(key);
+
+            if (value != null)
+            {
+                return new Token<>(value, lazy.presedence(), lazy.order());
+            }
+        }
+
+        return merged;
+    }
+
+    private static <T> void merge(Map<String, Token<T>> target, String key, T value, int presedence, int order)
+    {
+        if (value != null)
+        {
+            target.putIfAbsent(key, new Token<>(value, presedence, order));
+        }
+    }
+
+    private static <T> T unwrap(Token<T> token)
+    {
+        return token == null ? null : token.value();
+    }
+
+    /**
+     * A merged value together with the presedence of the map it was taken from.
+     * 
+     * @param <T> type of the value
+     * @param value the value
+     * @param presedence of the source map
+     * @param order of the source map in its layer
+     */
+    private record Token<T>(T value, int presedence, int order)
+    {
+    }
+}
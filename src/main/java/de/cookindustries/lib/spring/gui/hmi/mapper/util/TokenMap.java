@@ -7,6 +7,7 @@
  */
 package de.cookindustries.lib.spring.gui.hmi.mapper.util;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -30,13 +31,32 @@ import lombok.EqualsAndHashCode.CacheStrategy;
  */
 @Builder
 @EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
-public final class TokenMap
+public final class TokenMap implements TokenSource
 {
 
     private static final String                PREFIX     = "> %-";
     private static final String                FILL       = "s : %-";
     private static final String                SUFFIX     = "s : %s";
 
+    /** if a class declares its own {@code equals}, rather than comparing by identity */
+    private static final ClassValue<Boolean>   HAS_EQUALS =
+        new ClassValue<>()
+        {
+
+            @Override
+            protected Boolean computeValue(Class<?> type)
+            {
+                try
+                {
+                    return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+                }
+                catch (NoSuchMethodException ex)
+                {
+                    return false;
+                }
+            }
+        };
+
     @NonNull
     @Default
     private final Integer                      presedence = 0;
@@ -56,6 +76,37 @@ public final class TokenMap
     @Singular("dissect")
     private final List<FlatMappable>           dissect;
 
+    private final LazyTokenValues              lazyValues;
+
+    /**
+     * Create a map backed by {@code values}, without copying them.
+     * <p>
+     * Every lookup reads through to {@code values}, so a large map, e.g. a row fetched from a database, can be used as a scope of a
+     * {@link TokenScope} or a layer of a {@link JsonMapper} directly. The map is expected not to change while it is in use.
+     *
+     * @param values to back the map
+     * @return the map, with a presedence of {@code 0}
+     * @since 3.7.0
+     */
+    public static TokenMap of(@NonNull Map<String, ?> values)
+    {
+        return of(values, 0);
+    }
+
+    /**
+     * Create a map backed by {@code values}, without copying them.
+     *
+     * @param values to back the map
+     * @param presedence of the map
+     * @return the map
+     * @see #of(Map)
+     * @since 3.7.0
+     */
+    public static TokenMap of(@NonNull Map<String, ?> values, int presedence)
+    {
+        return TokenMap.builder().presedence(presedence).lazyValues(LazyTokenValues.of(values)).build();
+    }
+
     /**
      * Get the presedence for this map
      * 
@@ -72,9 +123,17 @@ public final class TokenMap
      * @param key to lookup
      * @return the {@code value} associated with {@code key}, or {@code null} if no key is set
      */
+    @Override
     public Object getValue(String key)
     {
-        return values.get(key);
+        Object value = values.get(key);
+
+        if (value == null && lazyValues != null)
+        {
+            return lazyValues.getValue(key);
+        }
+
+        return value;
     }
 
     /**
@@ -83,6 +142,7 @@ public final class TokenMap
      * @param key to lookup
      * @return the {@code class} associated with {@code key}, or {@code null} if no key is set
      */
+    @Override
     public String getClazz(String key)
     {
         return classes.get(key);
@@ -94,6 +154,7 @@ public final class TokenMap
      * @param key to lookup
      * @return the {@code function} associated with {@code key}, or {@code null} if no key is set
      */
+    @Override
     public AbsFunctionCall getFunction(String key)
     {
         return functions.get(key);
@@ -107,6 +168,7 @@ public final class TokenMap
      * @param uid to look up
      * @return true if {@code id} is not explicitly disabled in this map
      */
+    @Override
     public boolean isUidActive(String uid)
     {
         return !deactivateUids.contains(uid);
@@ -122,6 +184,93 @@ public final class TokenMap
         return dissect;
     }
 
+    /**
+     * Check if this map compares by its content, so an equal map can be used to look up a cached result.
+     * <p>
+     * A map backed by lazy values, e.g. created by {@link #of(Map)}, or holding a value, function or object to dissect, that does not
+     * declare its own {@code equals}, only equals itself.
+     *
+     * @return {@code true} if an equal map may be created from the same content, {@code false} if it compares by identity
+     * @since 3.7.0
+     */
+    public boolean isComparableByContent()
+    {
+        return lazyValues == null
+            && isComparable(values)
+            && isComparable(functions)
+            && isComparable(dissect);
+    }
+
+    private static boolean isComparable(Object value)
+    {
+        if (value == null)
+        {
+            return true;
+        }
+
+        if (value instanceof Collection<?> collection)
+        {
+            return collection.stream().allMatch(TokenMap::isComparable);
+        }
+
+        if (value instanceof Map<?, ?> map)
+        {
+            return isComparable(map.keySet()) && isComparable(map.values());
+        }
+
+        return HAS_EQUALS.get(value.getClass());
+    }
+
+    /**
+     * Get all values.
+     * 
+     * @return the values
+     */
+    Map<String, Object> getValues()
+    {
+        return values;
+    }
+
+    /**
+     * Get the values resolved on first access.
+     * 
+     * @return the lazy values, or {@code null} if all values are known upfront
+     */
+    LazyTokenValues getLazyValues()
+    {
+        return lazyValues;
+    }
+
+    /**
+     * Get all classes.
+     * 
+     * @return the classes
+     */
+    Map<String, String> getClasses()
+    {
+        return classes;
+    }
+
+    /**
+     * Get all functions.
+     * 
+     * @return the functions
+     */
+    Map<String, AbsFunctionCall> getFunctions()
+    {
+        return functions;
+    }
+
+    /**
+     * Get all deactivated {@code uid}s.
+     * 
+     * @return the deactivated {@code uid}s
+     */
+    List<String> getDeactivateUids()
+    {
+        return deactivateUids;
+    }
+
     @Override
     public String toString()
     {
@@ -173,6 +322,7 @@ public final class TokenMap
             .appendnl(presedence)
             .append("# of elements to dissect: ")
             .appendnl(dissect.size())
+            .appendnl(lazyValues != null, () -> "lazy values " + lazyValues)
 
             .appendnl(!values.isEmpty(), "values:")
             .appendnl(!values.isEmpty(), values.entrySet(),
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import de.cookindustries.lib.spring.gui.function.AbsFunctionCall;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.JsonMapper;
+
+/**
+ * The {@code token} scope of a {@link JsonMapper} run.
+ * <p>
+ * A scope consists of a {@link TokenLayer} as base and a stack of temporary frames, that are pushed and popped by repetitions. Frames take
+ * precedence over the base, the innermost frame first.
+ * <p>
+ * A scope is not thread-safe and is meant to be used by a single mapping run only.
+ * 
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class TokenScope implements TokenSource
+{
+
+    private final Deque<TokenSource> frames = new ArrayDeque<>();
+
+    private TokenLayer               base   = TokenLayer.EMPTY;
+
+    /**
+     * Get the base of this scope.
+     * 
+     * @return the base
+     */
+    public TokenLayer getBase()
+    {
+        return base;
+    }
+
+    /**
+     * Set the base of this scope.
+     * 
+     * @param base to set
+     */
+    public void setBase(TokenLayer base)
+    {
+        this.base = base;
+    }
+
+    /**
+     * Push a temporary frame, that takes precedence over all other frames and the base until it is popped.
+     * 
+     * @param frame to push
+     */
+    public void push(TokenSource frame)
+    {
+        frames.push(frame);
+    }
+
+    /**
+     * Remove the innermost frame.
+     * 
+     * @return the removed frame
+     */
+    public TokenSource pop()
+    {
+        return frames.pop();
+    }
+
+    /**
+     * Take over the base and all temporary frames of {@code parent}, keeping their order.
+     * <p>
+     * The base is shared, not copied, so a nested scope can {@link TokenLayer#extend(List) extend} it without merging the parent's
+     * {@code token}s again.
+     * 
+     * @param parent to inherit from
+     */
+    public void inherit(TokenScope parent)
+    {
+        base = parent.base;
+
+        parent.frames.descendingIterator().forEachRemaining(frames::push);
+    }
+
+    /**
+     * Get the temporary frames.
+     * 
+     * @return the frames, innermost first
+     */
+    public List<TokenSource> getFrames()
+    {
+        return List.copyOf(frames);
+    }
+
+    @Override
+    public Object getValue(String key)
+    {
+        for (TokenSource frame : frames)
+        {
+            Object value = frame.getValue(key);
+
+            if (value != null)
+            {
+                return value;
+            }
+        }
+
+        return base.getValue(key);
+    }
+
+    @Override
+    public String getClazz(String key)
+    {
+        for (TokenSource frame : frames)
+        {
+            String clazz = frame.getClazz(key);
+
+            if (clazz != null)
+            {
+                return clazz;
+            }
+        }
+
+        return base.getClazz(key);
+    }
+
+    @Override
+    public AbsFunctionCall getFunction(String key)
+    {
+        for (TokenSource frame : frames)
+        {
+            AbsFunctionCall function = frame.getFunction(key);
+
+            if (function != null)
+            {
+                return function;
+            }
+        }
+
+        return base.getFunction(key);
+    }
+
+    @Override
+    public boolean isUidActive(String uid)
+    {
+        for (TokenSource frame : frames)
+        {
+            if (!frame.isUidActive(uid))
+            {
+                return false;
+            }
+        }
+
+        return base.isUidActive(uid);
+    }
+}
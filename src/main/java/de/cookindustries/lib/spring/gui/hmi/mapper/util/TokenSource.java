@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import de.cookindustries.lib.spring.gui.function.AbsFunctionCall;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.JsonMapper;
+
+/**
+ * A read-only source of {@code token}s used by the {@link JsonMapper} to resolve placeholders.
+ * 
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public interface TokenSource
+{
+
+    /**
+     * Retrieve a value associated to {@code key}
+     * 
+     * @param key to lookup
+     * @return the {@code value} associated with {@code key}, or {@code null} if no key is set
+     */
+    Object getValue(String key);
+
+    /**
+     * Retrieve a class associated to {@code key}
+     * 
+     * @param key to lookup
+     * @return the {@code class} associated with {@code key}, or {@code null} if no key is set
+     */
+    String getClazz(String key);
+
+    /**
+     * Retrieve a function associated to {@code key}
+     * 
+     * @param key to lookup
+     * @return the {@code function} associated with {@code key}, or {@code null} if no key is set
+     */
+    AbsFunctionCall getFunction(String key);
+
+    /**
+     * Checks whether a {@code uid} is active or not.
+     * 
+     * @param uid to look up
+     * @return {@code true} if {@code uid} is not explicitly disabled in this source
+     */
+    boolean isUidActive(String uid);
+}
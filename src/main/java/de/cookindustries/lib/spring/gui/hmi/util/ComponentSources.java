@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Locale;
 
 import de.cookindustries.lib.spring.gui.function.AbsFunctionCall;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.MappingTrace;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
 import lombok.Builder;
 import lombok.Getter;
@@ -46,4 +47,11 @@ public final class ComponentSources
     @Singular
     private final List<AbsFunctionCall> functionCalls;
 
+    /** whether independent subtrees may be mapped in parallel, requires a {@code mappingExecutor} in the {@link GuiFactoryProperties} */
+    @Default
+    private final boolean               parallel = false;
+
+    /** a trace to record the mapping of this component in, bypasses the {@link MapperResultCache}, disabled if {@code null} */
+    private final MappingTrace          trace;
+
 }
@@ -7,10 +7,14 @@
  */
 package de.cookindustries.lib.spring.gui.hmi.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Component;
 
@@ -26,6 +30,7 @@ import de.cookindustries.lib.spring.gui.hmi.input.util.MarkerType;
 import de.cookindustries.lib.spring.gui.hmi.mapper.exception.JsonMapperException;
 import de.cookindustries.lib.spring.gui.hmi.mapper.json.JsonMapper;
 import de.cookindustries.lib.spring.gui.hmi.mapper.json.MapperResult;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.MappingTimings;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableDissector;
 import de.cookindustries.lib.spring.gui.html.CSSLink;
 import de.cookindustries.lib.spring.gui.html.CssClass;
@@ -61,6 +66,11 @@ public final class GUIFactory
     private final AbsTranslationProvider translationProvider;
     private final FlatMappableDissector  flatMappableDissector;
     private final SiteImports            basicImports;
+    private final Executor               mappingExecutor;
+    private final int                    parallelThreshold;
+    private final MapperResultCache      resultCache;
+    private final Supplier<UidStrategy>  uidStrategy;
+    private final MappingListener        mappingListener;
 
     /**
      * Construct a GUIFactory instance
@@ -74,6 +84,16 @@ public final class GUIFactory
         this.templateFileCache = templateFileCache;
         this.translationProvider = translationProvider;
         this.flatMappableDissector = flatMappableDissector;
+        this.mappingExecutor = properties.getMappingExecutor();
+        this.parallelThreshold = properties.getParallelThreshold();
+        this.resultCache = properties.getResultCache();
+        this.uidStrategy = properties.getUidStrategy();
+        this.mappingListener = properties.getMappingListener();
+
+        if (resultCache != null)
+        {
+            templateFileCache.addInvalidationListener(paths -> paths.forEach(resultCache::invalidate));
+        }
 
         List<CSSLink> cssLinks =
             properties
@@ -140,21 +160,72 @@ public final class GUIFactory
 
     /**
      * Read a template and transform into a {@link Container}
+     * <p>
+     * If a {@link MapperResultCache} is configured and enabled for the {@code template}, the result may be served from the cache.
      * 
      * @param compSrc aggregator for settings
      * @return the parsed {@code Container}
      */
     public MapperResult readComponent(ComponentSources compSrc)
     {
-        try
+        Resolved resolved = resolveComponent(compSrc);
+
+        notifyListener(compSrc, resolved.timings());
+
+        return resolved.result();
+    }
+
+    private Resolved resolveComponent(ComponentSources compSrc)
+    {
+        String srcPath = normalizePath(compSrc);
+
+        if (resultCache == null || compSrc.getTrace() != null || !resultCache.isEnabled(srcPath))
         {
-            String srcPath = compSrc.getSourcePath();
+            MapperResult result = mapComponent(srcPath, compSrc);
 
-            if (srcPath.startsWith("/"))
-            {
-                srcPath = srcPath.substring(1);
-            }
+            return new Resolved(result, result.getTimings());
+        }
+
+        String         path     = srcPath;
+        long           revision = templateFileCache.getRevision(path) + translationProvider.getRevision();
+        MapperResult[] mapped   = new MapperResult[1];
+        MapperResult   result   =
+            resultCache.get(path, compSrc.getLocale(), compSrc.getTokenMaps(), revision, () -> mapped[0] = mapComponent(path, compSrc));
+
+        // a cached result was not mapped by this call, so it spent no time in dissection and transform
+        return new Resolved(result, mapped[0] == result ? result.getTimings() : MappingTimings.builder().build());
+    }
+
+    private static String normalizePath(ComponentSources compSrc)
+    {
+        String srcPath = compSrc.getSourcePath();
 
+        return srcPath.startsWith("/") ? srcPath.substring(1) : srcPath;
+    }
+
+    private void notifyListener(ComponentSources compSrc, MappingTimings timings)
+    {
+        if (mappingListener != null)
+        {
+            mappingListener.onMapped(normalizePath(compSrc), compSrc.getLocale(), timings);
+        }
+    }
+
+    /**
+     * Get the statistics of the {@link MapperResultCache}.
+     * 
+     * @return the statistics, or {@code null} if no cache is configured
+     * @since 3.7.0
+     */
+    public MapperResultCache.Stats getResultCacheStats()
+    {
+        return resultCache == null ? null : resultCache.getStats();
+    }
+
+    private MapperResult mapComponent(String srcPath, ComponentSources compSrc)
+    {
+        try
+        {
             JsonMapper mapper =
                 JsonMapper
                     .builder()
@@ -164,6 +235,10 @@ public final class GUIFactory
                     .srcPath(srcPath)
                     .locale(compSrc.getLocale())
                     .tokenMaps(compSrc.getTokenMaps())
+                    .executor(compSrc.isParallel() ? mappingExecutor : null)
+                    .parallelThreshold(parallelThreshold)
+                    .uidStrategy(uidStrategy.get())
+                    .trace(compSrc.getTrace())
                     .build();
 
             return mapper.map();
@@ -196,8 +271,9 @@ public final class GUIFactory
      */
     public String createHtmlSite(String title, SiteImports imports, ComponentSources compSrc)
     {
-        MapperResult          result = readComponent(compSrc);
-        List<AbsFunctionCall> calls  = new ArrayList<>();
+        Resolved              resolved = resolveComponent(compSrc);
+        MapperResult          result   = resolved.result();
+        List<AbsFunctionCall> calls    = new ArrayList<>();
         calls.addAll(result.getFunctions());
         calls.addAll(compSrc.getFunctionCalls());
 
@@ -206,101 +282,130 @@ public final class GUIFactory
                 ? translationProvider.getText(compSrc.getLocale(), title)
                 : title;
 
-        return HtmlSite
-            .builder()
-            .header(new HeadTitle(resolvedTitle))
-            .jsImports(imports.getJsImports())
-            .jsScripts(imports.getJsScripts())
-            .cssLinks(imports.getCssLinks())
-            .cssEntities(imports.getCssEntities())
-            .jsImports(basicImports.getJsImports())
-            .jsScripts(basicImports.getJsScripts())
-            .cssLinks(basicImports.getCssLinks())
-            .cssEntities(basicImports.getCssEntities())
-            .container(
-                TextContainer
-                    .builder()
-                    .uid("ui-properties-url")
-                    .clazz("hidden")
-                    .text(imports.getJsPropertiesUrl())
-                    .build())
-            .container(
-                ContentContainer
-                    .builder()
-                    .uid("modal-container")
-                    .clazz("hidden")
-                    .build())
-            .container(
-                ContentContainer
+        HtmlSite site =
+            HtmlSite
+                .builder()
+                .header(new HeadTitle(resolvedTitle))
+                .jsImports(imports.getJsImports())
+                .jsScripts(imports.getJsScripts())
+                .cssLinks(imports.getCssLinks())
+                .cssEntities(imports.getCssEntities())
+                .jsImports(basicImports.getJsImports())
+                .jsScripts(basicImports.getJsScripts())
+                .cssLinks(basicImports.getCssLinks())
+                .cssEntities(basicImports.getCssEntities())
+                .container(
+                    TextContainer
+                        .builder()
+                        .uid("ui-properties-url")
+                        .clazz("hidden")
+                        .text(imports.getJsPropertiesUrl())
+                        .build())
+                .container(
+                    ContentContainer
+                        .builder()
+                        .uid("modal-container")
+                        .clazz("hidden")
+                        .build())
+                .container(
+                    ContentContainer
+                        .builder()
+                        .uid("global-loader-overlay")
+                        .clazz("d-flex")
+                        .clazz("justify-content-center")
+                        .clazz("align-items-center")
+                        .clazz("vh-100")
+                        .content(
+                            ContentContainer
+                                .builder()
+                                .uid("global-loader")
+                                .clazz("d-flex")
+                                .clazz("flex-column")
+                                .clazz("justify-items-center")
+                                .clazz("align-items-center")
+                                .content(
+                                    ContentContainer
+                                        .builder()
+                                        .uid("_lcsptp") // loader-circle spinner-border text-primary
+                                        .clazz("loader-circle")
+                                        .clazz("spinner-border")
+                                        .clazz("text-primary")
+                                        .build())
+                                .content(
+                                    TextContainer
+                                        .builder()
+                                        .uid("global-loader-text")
+                                        .clazz("loader-text")
+                                        .text("loading...")
+                                        .build())
+                                .content(
+                                    ContentContainer
+                                        .builder()
+                                        .uid("global-loader-bar")
+                                        .clazz("loadbar")
+                                        .build())
+                                .build())
+                        .build())
+                .container(ContentContainer
                     .builder()
-                    .uid("global-loader-overlay")
-                    .clazz("d-flex")
-                    .clazz("justify-content-center")
-                    .clazz("align-items-center")
-                    .clazz("vh-100")
+                    .uid("error-overlay")
+                    .clazz(CssClass.HIDDEN)
                     .content(
                         ContentContainer
                             .builder()
-                            .uid("global-loader")
-                            .clazz("d-flex")
-                            .clazz("flex-column")
-                            .clazz("justify-items-center")
-                            .clazz("align-items-center")
+                            .uid("error-container")
                             .content(
                                 ContentContainer
                                     .builder()
-                                    .uid("_lcsptp") // loader-circle spinner-border text-primary
-                                    .clazz("loader-circle")
-                                    .clazz("spinner-border")
-                                    .clazz("text-primary")
+                                    .uid("error-holder")
                                     .build())
                             .content(
-                                TextContainer
+                                Button
                                     .builder()
-                                    .uid("global-loader-text")
-                                    .clazz("loader-text")
-                                    .text("loading...")
-                                    .build())
-                            .content(
-                                ContentContainer
-                                    .builder()
-                                    .uid("global-loader-bar")
-                                    .clazz("loadbar")
+                                    .uid("_eob") // error-overlay button
+                                    .text("OK")
+                                    .onClick("CILIB.FunctionRegistry.call('dismissErrors');")
                                     .build())
                             .build())
                     .build())
-            .container(ContentContainer
-                .builder()
-                .uid("error-overlay")
-                .clazz(CssClass.HIDDEN)
-                .content(
+                .container(
                     ContentContainer
                         .builder()
-                        .uid("error-container")
-                        .content(
-                            ContentContainer
-                                .builder()
-                                .uid("error-holder")
-                                .build())
-                        .content(
-                            Button
-                                .builder()
-                                .uid("_eob") // error-overlay button
-                                .text("OK")
-                                .onClick("CILIB.FunctionRegistry.call('dismissErrors');")
-                                .build())
+                        .uid("popup-holder")
                         .build())
-                .build())
-            .container(
-                ContentContainer
-                    .builder()
-                    .uid("popup-holder")
-                    .build())
-            .containers(result.getContainers())
-            .functions(calls)
-            .build()
-            .getHtmlRep()
-            .replace("@@time", String.valueOf(result.getTime()));
+                .containers(result.getContainers())
+                .functions(calls)
+                .build();
+
+        StringBuilder stb   = new StringBuilder();
+        long          start = System.nanoTime();
+
+        try
+        {
+            PlaceholderAppendable out = new PlaceholderAppendable(stb, "@@time", String.valueOf(result.getTime()));
+
+            site.writeHtmlRep(out);
+            out.flush();
+        }
+        catch (IOException ex)
+        {
+            // a StringBuilder does not throw
+            throw new UncheckedIOException(ex);
+        }
+
+        long   render = System.nanoTime();
+        String html   = stb.toString();
+
+        notifyListener(
+            compSrc,
+            resolved
+                .timings()
+                .toBuilder()
+                .render(render - start)
+                .serialization(System.nanoTime() - render)
+                .build());
+
+        return html;
     }
 
     /**
@@ -563,4 +668,14 @@ public final class GUIFactory
             .call(new HideGlobalLoader())
             .build();
     }
+
+    /**
+     * A resolved component.
+     *
+     * @param result of the mapping, either mapped or served from the {@link MapperResultCache}
+     * @param timings spent by this call, zero for cached results
+     */
+    private record Resolved(MapperResult result, MappingTimings timings)
+    {
+    }
 }
@@ -8,9 +8,13 @@
 package de.cookindustries.lib.spring.gui.hmi.util;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.JsonMapper;
 import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Builder.Default;
 import lombok.Getter;
 import lombok.Singular;
 
@@ -20,6 +24,23 @@ public class GuiFactoryProperties
 {
 
     @Singular
-    private final List<String> cssPaths;
+    private final List<String>          cssPaths;
+
+    /** executor to map independent subtrees of {@link ComponentSources#isParallel() parallel} components on, disabled if {@code null} */
+    private final Executor              mappingExecutor;
+
+    /** minimum number of elements of independent subtrees to map them in parallel */
+    @Default
+    private final int                   parallelThreshold = JsonMapper.DEFAULT_PARALLEL_THRESHOLD;
+
+    /** cache for the results of selected {@code template}s, disabled if {@code null} */
+    private final MapperResultCache     resultCache;
+
+    /** creates the {@link UidStrategy} of every mapped component, e.g. {@link UidStrategies#deterministic()} for diffable HTML */
+    @Default
+    private final Supplier<UidStrategy> uidStrategy       = UidStrategies::random;
+
+    /** receives the {@code MappingTimings} of every created component, disabled if {@code null} */
+    private final MappingListener       mappingListener;
 
 }
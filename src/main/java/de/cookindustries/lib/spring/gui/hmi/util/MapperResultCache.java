@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.MapperResult;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Singular;
+
+/**
+ * An opt-in cache for {@link MapperResult}s, used by the {@link GUIFactory} in front of {@link GUIFactory#readComponent}.
+ * <p>
+ * Results are keyed by {@code template} path, {@link Locale} and the content of the {@link TokenMap}s. Only the {@code template}s
+ * listed in {@link #templates} are cached, everything else is mapped on every call. Entries are evicted in least recently used order
+ * once {@link #maximumSize} is exceeded and are dropped on access once they are older than {@link #ttl}. An entry is also stale once
+ * the {@code revision} of the {@link TemplateFileCache} or the translations it was created with changed.
+ * <p>
+ * A request is only cached, if all of its {@code TokenMap}s {@link TokenMap#isComparableByContent() compare by content}. A map backed
+ * by lazy values or objects without their own {@code equals} would never match again, but keep its objects in use until evicted.
+ * <p>
+ * Cached results are shared between callers, so neither the result nor the values of the {@code TokenMap}s used as key may be
+ * mutated.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@Builder
+public final class MapperResultCache
+{
+
+    /** maximum number of cached results */
+    @Default
+    private final int                     maximumSize = 1_000;
+
+    /** time after which a cached result is dropped */
+    @Default
+    private final Duration                ttl         = Duration.ofMinutes(10);
+
+    /** {@code template} paths to cache, relative to the template folder */
+    @Singular
+    private final Set<String>             templates;
+
+    /** source of nanoseconds to measure the {@link #ttl} against */
+    @Default
+    private final LongSupplier            ticker      = System::nanoTime;
+
+    private final Map<Key, Entry>         entries     = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder               hits        = new LongAdder();
+    private final LongAdder               misses      = new LongAdder();
+    private final LongAdder               uncacheable = new LongAdder();
+    private final LongAdder               evictions   = new LongAdder();
+
+    /**
+     * Check if results of a {@code template} are cached.
+     *
+     * @param srcPath of the {@code template}
+     * @return {@code true} if results of this {@code template} are cached
+     */
+    public boolean isEnabled(String srcPath)
+    {
+        return templates.contains(srcPath);
+    }
+
+    /**
+     * Get a cached result, or map and cache a new one.
+     * <p>
+     * The {@code loader} runs outside of the lock, so concurrent misses on the same key may map the same result more than once. A request
+     * with a {@code TokenMap}, that does not compare by content, is mapped without being cached.
+     *
+     * @param srcPath of the {@code template}
+     * @param locale to map with
+     * @param tokenMaps to map with
+     * @param revision of the {@code template}s and translations the result is created from, a changed value marks cached results as
+     *            stale
+     * @param loader to map a new result on a miss
+     * @return the cached or the newly mapped result
+     */
+    public MapperResult get(String srcPath, Locale locale, List<TokenMap> tokenMaps, long revision, Supplier<MapperResult> loader)
+    {
+        if (!tokenMaps.stream().allMatch(TokenMap::isComparableByContent))
+        {
+            uncacheable.increment();
+
+            return loader.get();
+        }
+
+        Key  key = new Key(srcPath, locale, tokenMaps);
+        long now = ticker.getAsLong();
+
+        synchronized (entries)
+        {
+            Entry entry = entries.get(key);
+
+            if (entry != null && entry.revision() == revision && now - entry.created() < ttl.toNanos())
+            {
+                hits.increment();
+
+                return entry.result();
+            }
+
+            if (entry != null)
+            {
+                entries.remove(key);
+                evictions.increment();
+            }
+
+            misses.increment();
+        }
+
+        MapperResult result = loader.get();
+
+        synchronized (entries)
+        {
+            entries.put(key, new Entry(result, revision, now));
+
+            Iterator<Entry> iterator = entries.values().iterator();
+
+            while (entries.size() > maximumSize && iterator.hasNext())
+            {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Drop all cached results of a {@code template}.
+     *
+     * @param srcPath of the {@code template}
+     */
+    public void invalidate(String srcPath)
+    {
+        synchronized (entries)
+        {
+            entries.keySet().removeIf(key -> key.srcPath().equals(srcPath));
+        }
+    }
+
+    /**
+     * Drop all cached results.
+     */
+    public void invalidateAll()
+    {
+        synchronized (entries)
+        {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Get a snapshot of the statistics of this cache.
+     *
+     * @return the statistics
+     */
+    public Stats getStats()
+    {
+        synchronized (entries)
+        {
+            return new Stats(hits.sum(), misses.sum(), uncacheable.sum(), evictions.sum(), entries.size());
+        }
+    }
+
+    /**
+     * Statistics of a {@link MapperResultCache}.
+     *
+     * @param hits number of requests answered from the cache
+     * @param misses number of requests that had to be mapped
+     * @param uncacheable number of requests that were mapped without the cache, as a {@code TokenMap} does not compare by content
+     * @param evictions number of results dropped due to size, age or a changed revision
+     * @param size current number of cached results
+     */
+    public record Stats(long hits, long misses, long uncacheable, long evictions, int size)
+    {
+
+        /**
+         * Get the ratio of hits to all requests.
+         *
+         * @return the hit rate, or {@code 0} if nothing was requested yet
+         */
+        public double hitRate()
+        {
+            long requests = hits + misses;
+
+            return requests == 0 ? 0d : (double) hits / requests;
+        }
+    }
+
+    private record Key(String srcPath, Locale locale, List<TokenMap> tokenMaps)
+    {
+    }
+
+    private record Entry(MapperResult result, long revision, long created)
+    {
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import java.util.Locale;
+
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.MappingTimings;
+
+/**
+ * Receives the {@link MappingTimings} of every component created by the {@link GUIFactory}, e.g. to export them as metrics.
+ * <p>
+ * The listener is called on the requesting thread, after the component is complete, so it should return quickly. Results served
+ * from the {@link MapperResultCache} report zero timings for the phases they skipped.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+@FunctionalInterface
+public interface MappingListener
+{
+
+    /**
+     * Called when a component was created.
+     *
+     * @param srcPath of the {@code template}, relative to the template folder
+     * @param locale the component was created in
+     * @param timings of the phases
+     */
+    void onMapped(String srcPath, Locale locale, MappingTimings timings);
+}
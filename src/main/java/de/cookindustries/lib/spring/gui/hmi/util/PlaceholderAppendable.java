@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import java.io.IOException;
+
+/**
+ * An {@link Appendable} that replaces a placeholder while the text is written, so the result does not have to be copied to replace it
+ * afterwards.
+ * <p>
+ * The placeholder may be split across multiple calls to {@code append}, a partial match is held back until it is decided. Call
+ * {@link #flush()} after the last {@code append} to write a partial match left at the end.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+final class PlaceholderAppendable implements Appendable
+{
+
+    private final Appendable out;
+    private final String     placeholder;
+    private final String     replacement;
+
+    /** number of characters of the placeholder matched so far and not yet written */
+    private int              matched = 0;
+
+    /**
+     * Create a replacing {@code Appendable}.
+     *
+     * @param out to write to
+     * @param placeholder to replace, not empty
+     * @param replacement to write instead of the {@code placeholder}
+     */
+    PlaceholderAppendable(Appendable out, String placeholder, String replacement)
+    {
+        this.out = out;
+        this.placeholder = placeholder;
+        this.replacement = replacement;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException
+    {
+        CharSequence text = csq == null ? "null" : csq;
+
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException
+    {
+        CharSequence text = csq == null ? "null" : csq;
+        int          run  = start;
+
+        for (int i = start; i < end; i++)
+        {
+            char c = text.charAt(i);
+
+            if (matched == 0 && c != placeholder.charAt(0))
+            {
+                continue;
+            }
+
+            out.append(text, run, i);
+            run = i + 1;
+            step(c);
+        }
+
+        out.append(text, run, end);
+
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException
+    {
+        if (matched == 0 && c != placeholder.charAt(0))
+        {
+            out.append(c);
+        }
+        else
+        {
+            step(c);
+        }
+
+        return this;
+    }
+
+    /**
+     * Write a partial match of the placeholder, that is left at the end of the text.
+     *
+     * @throws IOException if the underlying {@code Appendable} could not be written to
+     */
+    void flush() throws IOException
+    {
+        out.append(placeholder, 0, matched);
+        matched = 0;
+    }
+
+    /**
+     * Match the next character against the placeholder.
+     *
+     * @param c the next character, that is either matching or preceded by a partial match
+     * @throws IOException if the underlying {@code Appendable} could not be written to
+     */
+    private void step(char c) throws IOException
+    {
+        if (c == placeholder.charAt(matched))
+        {
+            matched++;
+
+            if (matched == placeholder.length())
+            {
+                out.append(replacement);
+                matched = 0;
+            }
+
+            return;
+        }
+
+        // write the held back characters, that can no longer start a match
+        String pending = placeholder.substring(0, matched) + c;
+        int    keep    = pending.length() - 1;
+
+        while (keep > 0 && !placeholder.startsWith(pending.substring(pending.length() - keep)))
+        {
+            keep--;
+        }
+
+        out.append(pending, 0, pending.length() - keep);
+        matched = keep;
+    }
+}
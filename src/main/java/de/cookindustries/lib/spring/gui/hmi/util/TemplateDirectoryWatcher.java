@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches a directory tree for changed {@code template} files on a daemon thread.
+ * <p>
+ * Changes arriving within {@link #DEBOUNCE_MS} of each other are collected into one batch, so saving several files at once
+ * triggers a single reload. Created, modified and deleted files are reported alike, the receiver checks whether a file still exists.
+ * A deleted or moved directory is only reported as a whole, so all loaded {@code template} files below it are reported instead.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+final class TemplateDirectoryWatcher implements AutoCloseable
+{
+
+    private static final Logger             LOG         = LoggerFactory.getLogger(TemplateDirectoryWatcher.class);
+
+    private static final long               DEBOUNCE_MS = 100;
+
+    private static final String             SUFFIX      = ".json";
+
+    private final Path                      directory;
+    private final Consumer<Set<Path>>       onChange;
+    private final Function<Path, Set<Path>> loaded;
+    private final WatchService              watchService;
+
+    /**
+     * Start watching a directory tree.
+     *
+     * @param directory to watch, including all sub directories
+     * @param onChange to receive the batches of changed {@code template} files
+     * @param loaded to look up the loaded {@code template} files below a deleted directory
+     * @throws IOException if the directory could not be watched
+     */
+    TemplateDirectoryWatcher(Path directory, Consumer<Set<Path>> onChange, Function<Path, Set<Path>> loaded) throws IOException
+    {
+        this.directory = directory;
+        this.onChange = onChange;
+        this.loaded = loaded;
+        this.watchService = directory.getFileSystem().newWatchService();
+
+        registerTree(directory);
+
+        Thread thread = new Thread(this::run, "template-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run()
+    {
+        LOG.info("watch templates in [{}]", directory);
+
+        try
+        {
+            while (true)
+            {
+                Set<Path> changed = new HashSet<>();
+                WatchKey  key     = watchService.take();
+
+                do
+                {
+                    collect(key, changed);
+                }
+                while ((key = watchService.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null);
+
+                if (!changed.isEmpty())
+                {
+                    notifyChanged(changed);
+                }
+            }
+        }
+        catch (ClosedWatchServiceException ex)
+        {
+            LOG.info("stopped watching templates in [{}]", directory);
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed)
+    {
+        Path dir = (Path) key.watchable();
+
+        for (WatchEvent<?> event : key.pollEvents())
+        {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+            {
+                LOG.warn("missed template changes in [{}], rescan all templates", directory);
+
+                changed.addAll(listTemplates(directory));
+
+                continue;
+            }
+
+            Path file = dir.resolve((Path) event.context());
+
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file))
+            {
+                registerTree(file);
+                changed.addAll(listTemplates(file));
+            }
+            else if (file.getFileName().toString().endsWith(SUFFIX))
+            {
+                changed.add(file);
+            }
+            else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE)
+            {
+                changed.addAll(loaded.apply(file));
+            }
+        }
+
+        key.reset();
+    }
+
+    private void notifyChanged(Set<Path> changed)
+    {
+        try
+        {
+            onChange.accept(changed);
+        }
+        catch (RuntimeException ex)
+        {
+            LOG.error("error reloading templates " + changed, ex);
+        }
+    }
+
+    private void registerTree(Path root)
+    {
+        try (Stream<Path> dirs = Files.walk(root))
+        {
+            for (Path dir : dirs.filter(Files::isDirectory).toList())
+            {
+                dir.register(
+                    watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+        catch (IOException ex)
+        {
+            LOG.error("error watching directory [" + root + "]", ex);
+        }
+    }
+
+    /**
+     * List all {@code template} files in a directory tree.
+     *
+     * @param root of the tree
+     * @return the files
+     */
+    static Set<Path> listTemplates(Path root)
+    {
+        try (Stream<Path> files = Files.walk(root))
+        {
+            return new HashSet<>(
+                files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .toList());
+        }
+        catch (IOException ex)
+        {
+            LOG.error("error listing templates in [" + root + "]", ex);
+
+            return Set.of();
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        try
+        {
+            watchService.close();
+        }
+        catch (IOException ex)
+        {
+            LOG.error("error closing template watcher", ex);
+        }
+    }
+}
@@ -9,26 +9,75 @@ package de.cookindustries.lib.spring.gui.hmi.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import de.cookindustries.lib.spring.gui.config.properties.CiLibProperties;
+import de.cookindustries.lib.spring.gui.config.properties.CiLibTemplateCacheProperties;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.CompiledElement;
 import de.cookindustries.lib.spring.gui.hmi.mapper.json.PseudoElement;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateBundle;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateCompiler;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateInterner;
 import de.cookindustries.lib.spring.gui.util.StringAdapter;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 /**
  * A global cache for {@code template} files.
- * 
+ * <p>
+ * Every {@code template} is compiled into a {@link CompiledElement} plan when it is loaded, so the mapping itself does not have to
+ * interpret the raw {@link PseudoElement} tree again. Constant subtrees are folded into pre-mapped and pre-rendered containers at the
+ * same time.
+ * <p>
+ * By default all {@code template}s are loaded at startup into an immutable snapshot, that is replaced as a whole on every change, so
+ * readers never lock. In {@link CiLibTemplateCacheProperties#isLazy() lazy} mode only the paths are indexed at startup, each
+ * {@code template} is loaded on first use and at most {@link CiLibTemplateCacheProperties#getMaximumSize() maximumSize}
+ * {@code template}s are kept, evicting the least recently used ones.
+ * <p>
+ * When all {@code template}s are loaded, every {@code COMPONENT} without a source is inlined into the plan of the {@code template}
+ * linking it, so mapping it needs no linked {@code JsonMapper}. Include cycles can not be inlined, they are logged at startup and
+ * reported by {@link #getIncludeCycles()}. Lazy mode does not inline, as it does not know all {@code template}s up front.
+ * <p>
+ * The {@code template}s loaded at startup are {@link TemplateInterner interned}, so equal strings and identical subtrees are shared
+ * across all {@code template}s.
+ * <p>
+ * If a {@link CiLibTemplateCacheProperties#getBundle() bundle} is set, the {@code template}s are decoded from that
+ * {@link TemplateBundle} instead of parsing the json files on the classpath.
+ * <p>
+ * If a {@link CiLibTemplateCacheProperties#getWatchDirectory() watch directory} is set, its {@code template}s override the ones from
+ * the classpath and are reloaded when they change. Every reload notifies the
+ * {@link #addInvalidationListener(Consumer) invalidation listeners} with the changed paths and the paths of all {@code template}s
+ * that link to them.
+ *
  * @since 3.0.0
  * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
  */
@@ -36,10 +85,25 @@ import jakarta.annotation.PostConstruct;
 public class TemplateFileCache
 {
 
-    private static final Logger              LOG = LoggerFactory.getLogger(TemplateFileCache.class);
+    private static final Logger               LOG       = LoggerFactory.getLogger(TemplateFileCache.class);
 
-    private final String                     path;
-    private final Map<String, PseudoElement> templateMap;
+    private static final ObjectReader         READER    = new ObjectMapper().readerFor(PseudoElement.class);
+
+    private final String                      path;
+    private final boolean                     lazy;
+    private final Path                        watchDirectory;
+    private final String                      bundleLocation;
+    private final boolean                     intern;
+    private final LruCache                    templateMap;
+    private final Map<String, TemplateSource> index;
+    private final Map<String, TemplateSource> packaged  = new ConcurrentHashMap<>();
+    private final AtomicLong                  revision;
+    private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+    private final Object                      writeLock = new Object();
+
+    private volatile Snapshot                 snapshot  = new Snapshot(Map.of(), Map.of(), TemplateIncludeGraph.EMPTY, Map.of(), 0);
+    private volatile TemplateInterner.Stats   internStats;
+    private TemplateDirectoryWatcher          watcher;
 
     /**
      * Create a new file cache.
@@ -48,7 +112,17 @@ public class TemplateFileCache
      */
     public TemplateFileCache(CiLibProperties properties)
     {
-        templateMap = new ConcurrentHashMap<>();
+        CiLibTemplateCacheProperties cacheProperties = properties.getResources().getTemplateCache();
+        String                       watchPath       = cacheProperties.getWatchDirectory();
+        String                       bundle          = cacheProperties.getBundle();
+
+        lazy = cacheProperties.isLazy();
+        watchDirectory = watchPath == null || watchPath.isBlank() ? null : Path.of(watchPath).toAbsolutePath().normalize();
+        bundleLocation = bundle == null || bundle.isBlank() ? null : bundle;
+        intern = cacheProperties.isIntern();
+        templateMap = new LruCache(cacheProperties.getMaximumSize());
+        index = new ConcurrentHashMap<>();
+        revision = new AtomicLong();
 
         String rawPath = properties.getResources().getPath().getTemplates();
         path = rawPath.endsWith("/") ? rawPath : rawPath + "/";
@@ -56,15 +130,18 @@ public class TemplateFileCache
 
     /**
      * Init all json files under a set path.
+     * <p>
+     * The files are parsed and compiled in parallel on the common {@link ForkJoinPool}. The load time is reported per jar or directory
+     * the files originate from, summed up over all files of that origin. In lazy mode, the files are only indexed.
      */
     @PostConstruct
     public void init()
     {
         LOG.info("init [{}]", TemplateFileCache.class.getSimpleName());
 
-        ObjectMapper mapper = new ObjectMapper();
-        int          expected;
-        int          cnt    = 0;
+        long start    = System.nanoTime();
+        int  expected;
+        int  cnt      = 0;
 
         try
         {
@@ -72,36 +149,118 @@ public class TemplateFileCache
 
             String                              searchPath = "classpath*:" + path + "**/*.json";
 
-            LOG.debug("load resources under [{}]", searchPath);
+            List<TemplateSource>                sources    = new ArrayList<>();
 
-            Resource[] resources = resolver.getResources(searchPath);
+            if (bundleLocation != null)
+            {
+                LOG.debug("load bundle [{}]", bundleLocation);
 
-            expected = resources.length;
+                TemplateBundle bundle = TemplateBundle.open(new DefaultResourceLoader().getResource(bundleLocation));
 
-            for (Resource resource : resources)
+                bundle
+                    .getPaths()
+                    .stream()
+                    .sorted()
+                    .map(bundlePath -> new TemplateSource(bundleLocation, bundlePath, null, bundle))
+                    .forEach(sources::add);
+            }
+            else
             {
-                LOG.debug("load resource [{}]", resource.getURI());
+                LOG.debug("load resources under [{}]", searchPath);
 
-                try (InputStream is = resource.getInputStream())
-                {
-                    String fullPath     = resource.getURL().getPath();
+                Arrays
+                    .stream(resolver.getResources(searchPath))
+                    .map(this::locate)
+                    .forEach(sources::add);
+            }
 
-                    int    index        = fullPath.indexOf(path);
-                    String relativePath = index >= 0 ? fullPath.substring(index + path.length()) : resource.getFilename();
+            packaged.clear();
+            sources.forEach(source -> packaged.put(source.relativePath(), source));
 
-                    LOG.debug("read template [{}]", relativePath);
+            if (watchDirectory != null)
+            {
+                TemplateDirectoryWatcher
+                    .listTemplates(watchDirectory)
+                    .stream()
+                    .sorted()
+                    .map(this::locate)
+                    .forEach(sources::add);
+            }
 
-                    PseudoElement element = mapper.readValue(is, PseudoElement.class);
+            expected = sources.size();
 
-                    templateMap.put(relativePath, element);
+            if (lazy)
+            {
+                synchronized (writeLock)
+                {
+                    templateMap.clear();
+                    index.clear();
+                    sources.forEach(source -> index.put(source.relativePath(), source));
 
-                    cnt++;
+                    revision.incrementAndGet();
                 }
-                catch (IOException ex)
+
+                LOG.info("init finished with [{}] indexed files in [{}]ms", index.size(), (System.nanoTime() - start) / 1_000_000L);
+
+                startWatcher();
+
+                return;
+            }
+
+            TemplateInterner     interner = intern ? new TemplateInterner() : null;
+            List<LoadedTemplate> loaded   =
+                sources
+                    .parallelStream()
+                    .map(source -> load(source, interner))
+                    .toList();
+
+            Map<String, CompiledElement> compiled = new HashMap<>();
+            Map<String, Set<String>>     includes = new HashMap<>();
+            Map<String, OriginStats>     origins  = new LinkedHashMap<>();
+
+            for (LoadedTemplate template : loaded)
+            {
+                OriginStats stats = origins.computeIfAbsent(template.source().origin(), origin -> new OriginStats());
+
+                stats.files++;
+                stats.nanos += template.nanos();
+
+                if (template.element() != null)
                 {
-                    LOG.error("error reading json from resource: " + resource, ex);
+                    compiled.put(template.source().relativePath(), template.element());
+                    includes.put(template.source().relativePath(), TemplateCompiler.collectIncludes(template.element()));
+
+                    stats.loaded++;
+                    cnt++;
                 }
             }
+
+            TemplateIncludeGraph graph = new TemplateIncludeGraph(includes);
+
+            graph
+                .getCycles()
+                .forEach(cycle -> LOG.error("include cycle between templates {}, they will fail when mapped", cycle));
+
+            synchronized (writeLock)
+            {
+                index.clear();
+                sources.forEach(source -> index.put(source.relativePath(), source));
+
+                snapshot = new Snapshot(Map.copyOf(compiled), link(compiled, graph, compiled.keySet(), Map.of()), graph, Map.of(),
+                    revision.incrementAndGet());
+            }
+
+            origins.forEach(
+                (origin, stats) -> LOG.info("loaded [{}] of [{}] files from [{}] in [{}]ms", stats.loaded, stats.files, origin,
+                    stats.nanos / 1_000_000L));
+
+            if (interner != null)
+            {
+                internStats = interner.getStats();
+
+                LOG.info("interning shared [{}] strings, [{}] subtrees and [{}] plans, saving about [{}]KiB", internStats.sharedStrings(),
+                    internStats.sharedTrees(), internStats.sharedPlans(), internStats.savedBytes() / 1_024L);
+            }
         }
         catch (Exception ex)
         {
@@ -110,21 +269,596 @@ public class TemplateFileCache
             throw new RuntimeException(ex);
         }
 
-        LOG.info("init finished with [{}] files from [{}] expected", cnt, expected);
+        LOG.info("init finished with [{}] files from [{}] expected in [{}]ms", cnt, expected, (System.nanoTime() - start) / 1_000_000L);
+
+        startWatcher();
+    }
+
+    private void startWatcher()
+    {
+        if (watchDirectory == null || watcher != null)
+        {
+            return;
+        }
+
+        try
+        {
+            watcher = new TemplateDirectoryWatcher(watchDirectory, this::reload, this::loadedOverrides);
+        }
+        catch (IOException ex)
+        {
+            LOG.error("error watching template directory [" + watchDirectory + "]", ex);
+        }
+    }
+
+    /**
+     * List the loaded {@code template} files of the watch directory below a directory, e.g. one that was deleted.
+     *
+     * @param directory in the watch directory
+     * @return the files
+     */
+    private Set<Path> loadedOverrides(Path directory)
+    {
+        String origin = watchDirectory.toString();
+
+        return new HashSet<>(
+            index
+                .values()
+                .stream()
+                .filter(source -> origin.equals(source.origin()) && source.resource() instanceof FileSystemResource)
+                .map(source -> ((FileSystemResource) source.resource()).getFile().toPath())
+                .filter(file -> file.startsWith(directory))
+                .toList());
+    }
+
+    /**
+     * Stop watching the {@link CiLibTemplateCacheProperties#getWatchDirectory() watch directory}.
+     *
+     * @since 3.7.0
+     */
+    @PreDestroy
+    public void close()
+    {
+        if (watcher != null)
+        {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Reload changed {@code template} files of the watch directory.
+     * <p>
+     * A new snapshot is built from the current one and published at once. A file that could not be read keeps its previous version.
+     * A deleted file falls back to the classpath or bundle {@code template} it overrode, or is removed if there is none. Only the
+     * changed {@code template}s and the ones linking to them are inlined again.
+     *
+     * @param files that were created, modified or deleted
+     */
+    void reload(Collection<Path> files)
+    {
+        Set<String> changed = new HashSet<>();
+        Set<String> affected;
+
+        synchronized (writeLock)
+        {
+            long rev = revision.incrementAndGet();
+
+            if (lazy)
+            {
+                for (Path file : files)
+                {
+                    String         relativePath = locate(file).relativePath();
+                    TemplateSource source       = locateChanged(file, relativePath);
+
+                    if (source != null)
+                    {
+                        index.put(relativePath, source);
+                    }
+                    else
+                    {
+                        index.remove(relativePath);
+                    }
+
+                    templateMap.remove(relativePath);
+                    changed.add(relativePath);
+                }
+
+                affected = changed;
+            }
+            else
+            {
+                Snapshot                     current   = snapshot;
+                Map<String, CompiledElement> compiled  = new HashMap<>(current.compiled());
+                Map<String, Set<String>>     includes  = new HashMap<>();
+                Map<String, Long>            revisions = new HashMap<>(current.revisions());
+
+                for (Path file : files)
+                {
+                    String         relativePath = locate(file).relativePath();
+                    TemplateSource source       = locateChanged(file, relativePath);
+
+                    changed.add(relativePath);
+
+                    if (source == null)
+                    {
+                        index.remove(relativePath);
+                        compiled.remove(relativePath);
+                        includes.put(relativePath, null);
+
+                        continue;
+                    }
+
+                    CompiledElement element = load(source, null).element();
+
+                    if (element != null)
+                    {
+                        index.put(relativePath, source);
+                        compiled.put(relativePath, element);
+                        includes.put(relativePath, TemplateCompiler.collectIncludes(element));
+                    }
+                }
+
+                TemplateIncludeGraph graph = current.graph().with(includes);
+
+                affected = graph.withDependents(changed);
+                affected.forEach(affectedPath -> revisions.put(affectedPath, rev));
+
+                Map<String, CompiledElement> kept = new HashMap<>(current.templates());
+
+                kept.keySet().removeAll(affected);
+
+                snapshot = new Snapshot(Map.copyOf(compiled), link(compiled, graph, affected, kept), graph, Map.copyOf(revisions),
+                    current.baseRevision());
+            }
+        }
+
+        LOG.info("reloaded templates {}, invalidated {}", changed, affected);
+
+        Set<String> invalidated = Collections.unmodifiableSet(affected);
+
+        listeners.forEach(listener -> listener.accept(invalidated));
+    }
+
+    /**
+     * Inline the {@code COMPONENT}s without a source of some {@code template}s.
+     * <p>
+     * Linked {@code template}s are inlined before the {@code template}s linking them, each one only once. Links to missing
+     * {@code template}s and to {@code template}s in an include cycle are kept as {@code COMPONENT}s.
+     *
+     * @param compiled plans of all {@code template}s
+     * @param graph of the links between the {@code template}s
+     * @param paths of the {@code template}s to inline
+     * @param linked already inlined plans, that are still valid
+     * @return the inlined plans of all {@code template}s
+     */
+    private static Map<String, CompiledElement> link(Map<String, CompiledElement> compiled, TemplateIncludeGraph graph,
+        Set<String> paths, Map<String, CompiledElement> linked)
+    {
+        Map<String, CompiledElement> result = new HashMap<>(linked);
+
+        paths.forEach(linkPath -> link(linkPath, compiled, graph, result));
+
+        return Map.copyOf(result);
+    }
+
+    private static CompiledElement link(String linkPath, Map<String, CompiledElement> compiled, TemplateIncludeGraph graph,
+        Map<String, CompiledElement> result)
+    {
+        CompiledElement linked = result.get(linkPath);
+
+        if (linked != null)
+        {
+            return linked;
+        }
+
+        CompiledElement element = compiled.get(linkPath);
+
+        if (element == null)
+        {
+            return null;
+        }
+
+        linked =
+            TemplateCompiler.inline(element,
+                include -> graph.isCyclic(include) ? null : link(include, compiled, graph, result));
+
+        result.put(linkPath, linked);
+
+        return linked;
+    }
+
+    /**
+     * Resolve the origin and the path relative to the template folder of a {@code template} file.
+     *
+     * @param resource to locate
+     * @return the located source
+     */
+    private TemplateSource locate(Resource resource)
+    {
+        String fullPath;
+
+        try
+        {
+            fullPath = resource.getURL().toString();
+        }
+        catch (IOException ex)
+        {
+            return new TemplateSource(resource.getDescription(), resource.getFilename(), resource, null);
+        }
+
+        int index = fullPath.indexOf(path);
+
+        return index >= 0
+            ? new TemplateSource(fullPath.substring(0, index), fullPath.substring(index + path.length()), resource, null)
+            : new TemplateSource(resource.getDescription(), resource.getFilename(), resource, null);
+    }
+
+    /**
+     * Resolve the path relative to the watch directory of a {@code template} file.
+     *
+     * @param file in the watch directory
+     * @return the located source
+     */
+    private TemplateSource locate(Path file)
+    {
+        String relativePath = StringAdapter.sanitizePath(watchDirectory.relativize(file).toString());
+
+        return new TemplateSource(watchDirectory.toString(), relativePath, new FileSystemResource(file), null);
+    }
+
+    /**
+     * Resolve the source of a changed file of the watch directory.
+     *
+     * @param file in the watch directory
+     * @param relativePath of the file
+     * @return the file, or the classpath or bundle {@code template} it overrode if it was deleted, or {@code null} if there is none
+     */
+    private TemplateSource locateChanged(Path file, String relativePath)
+    {
+        return Files.isRegularFile(file) ? locate(file) : packaged.get(relativePath);
+    }
+
+    /**
+     * Parse or decode, intern and compile a single {@code template}.
+     *
+     * @param source to load
+     * @param interner to intern the {@code template} with, can be {@code null}
+     * @return the loaded template, with a {@code null} element if the file could not be read
+     */
+    private LoadedTemplate load(TemplateSource source, TemplateInterner interner)
+    {
+        long start = System.nanoTime();
+
+        LOG.debug("read template [{}] from [{}]", source.relativePath(), source.origin());
+
+        try
+        {
+            PseudoElement element = intern(read(source), interner);
+
+            return new LoadedTemplate(source, TemplateCompiler.compile(element, this, interner), System.nanoTime() - start);
+        }
+        catch (IOException ex)
+        {
+            LOG.error("error reading json from resource: " + source.resource(), ex);
+
+            return new LoadedTemplate(source, null, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Parse or decode a single {@code template}.
+     *
+     * @param source to read
+     * @return the {@code template}
+     * @throws IOException if the file could not be read
+     */
+    private static PseudoElement read(TemplateSource source) throws IOException
+    {
+        if (source.bundle() != null)
+        {
+            return source.bundle().decode(source.relativePath());
+        }
+
+        try (InputStream is = source.resource().getInputStream())
+        {
+            return READER.readValue(is);
+        }
+    }
+
+    private static PseudoElement intern(PseudoElement element, TemplateInterner interner)
+    {
+        return interner == null ? element : interner.intern(element);
+    }
+
+    /**
+     * Register a listener, that is called with the paths of all {@code template}s invalidated by a reload of the watch directory.
+     * <p>
+     * The listener is called on the watcher thread, after the new {@code template}s are published.
+     *
+     * @param listener to register
+     * @since 3.7.0
+     */
+    public void addInvalidationListener(Consumer<Set<String>> listener)
+    {
+        listeners.add(listener);
+    }
+
+    /**
+     * Get the revision of the loaded {@code template}s, which changes with every (re)load.
+     *
+     * @return the current revision
+     * @since 3.7.0
+     */
+    public long getRevision()
+    {
+        return revision.get();
+    }
+
+    /**
+     * Get the revision of a {@code template}, which changes whenever the {@code template} itself or a {@code template} it links to
+     * is (re)loaded.
+     * <p>
+     * In lazy mode, the links of {@code template}s are not known up front, so this is the same as {@link #getRevision()}.
+     *
+     * @param path of the {@code template}
+     * @return the current revision of the {@code template}
+     * @since 3.7.0
+     */
+    public long getRevision(String path)
+    {
+        if (lazy)
+        {
+            return revision.get();
+        }
+
+        Snapshot current = snapshot;
+
+        return current.revisions().getOrDefault(StringAdapter.sanitizePath(path), current.baseRevision());
+    }
+
+    /**
+     * Get the statistics of interning the {@code template}s loaded at startup.
+     * <p>
+     * {@code template}s reloaded from the watch directory or loaded in lazy mode are not interned.
+     *
+     * @return the statistics, {@code null} if interning is disabled or no {@code template}s were loaded yet
+     * @since 3.7.0
+     */
+    public TemplateInterner.Stats getInternStats()
+    {
+        return internStats;
+    }
+
+    /**
+     * Get the include cycles found when all {@code template}s were loaded.
+     * <p>
+     * In lazy mode, the links of {@code template}s are not known up front, so no cycles are reported.
+     *
+     * @return the paths of the {@code template}s of every cycle
+     * @since 3.7.0
+     */
+    public List<List<String>> getIncludeCycles()
+    {
+        return snapshot.graph().getCycles();
+    }
+
+    /**
+     * Get the number of {@code template}s currently kept in memory.
+     *
+     * @return the number of loaded {@code template}s
+     * @since 3.7.0
+     */
+    public int getLoadedCount()
+    {
+        return lazy ? templateMap.size() : snapshot.templates().size();
     }
 
     /**
      * Get a {@code template} to a specific {@code path};
-     * 
+     * <p>
+     * Only the compiled plans are kept in memory, so the {@code template} is parsed or decoded again on every call.
+     *
      * @param path to lookup
      * @return the {@code template}
      * @throws IllegalArgumentException if no mapping could be found
+     * @throws UncheckedIOException if the {@code template} could not be read
      */
     public PseudoElement getTemplateTo(String path)
     {
-        String                  sanPath  = StringAdapter.sanitizePath(path);
-        Optional<PseudoElement> template = Optional.ofNullable(templateMap.get(sanPath));
+        String         sanPath = StringAdapter.sanitizePath(path);
+        TemplateSource source  = lazy || snapshot.compiled().containsKey(sanPath) ? index.get(sanPath) : null;
+
+        if (source == null)
+        {
+            throw new IllegalArgumentException(String.format("no template for path [%s]", sanPath));
+        }
+
+        try
+        {
+            return read(source);
+        }
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(String.format("error reading template [%s]", sanPath), ex);
+        }
+    }
+
+    /**
+     * Get the compiled mapping plan of a {@code template} to a specific {@code path}.
+     * <p>
+     * In lazy mode, a {@code template} that is not loaded yet is loaded on the calling thread. Concurrent first calls for the same
+     * {@code path} may load it more than once. A {@code template} loaded while a reload runs is returned, but not kept.
+     *
+     * @param path to lookup
+     * @return the compiled {@code template}
+     * @throws IllegalArgumentException if no mapping could be found
+     * @since 3.7.0
+     */
+    public CompiledElement getCompiledTemplateTo(String path)
+    {
+        String          sanPath  = StringAdapter.sanitizePath(path);
+        CompiledElement template = lazy ? getOrLoadLazy(sanPath) : snapshot.templates().get(sanPath);
+
+        if (template == null)
+        {
+            throw new IllegalArgumentException(String.format("no template for path [%s]", sanPath));
+        }
+
+        return template;
+    }
+
+    private CompiledElement getOrLoadLazy(String sanPath)
+    {
+        CompiledElement template = templateMap.get(sanPath);
+
+        if (template != null)
+        {
+            return template;
+        }
+
+        long           loadRevision = revision.get();
+        TemplateSource source       = index.get(sanPath);
+
+        if (source == null)
+        {
+            return null;
+        }
+
+        template = load(source, null).element();
+
+        if (template != null)
+        {
+            synchronized (writeLock)
+            {
+                // a reload since reading the source may have replaced it, so the loaded plan is not kept
+                if (revision.get() == loadRevision)
+                {
+                    templateMap.put(sanPath, template);
+                }
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * An immutable state of all loaded {@code template}s.
+     *
+     * @param compiled plans by path, as loaded
+     * @param templates plans by path, with all {@code COMPONENT}s without a source inlined
+     * @param graph of the links between the {@code template}s
+     * @param revisions of the {@code template}s reloaded since {@code baseRevision}
+     * @param baseRevision of the last full load
+     */
+    private record Snapshot(Map<String, CompiledElement> compiled, Map<String, CompiledElement> templates, TemplateIncludeGraph graph,
+        Map<String, Long> revisions, long baseRevision)
+    {
+    }
+
+    /**
+     * The location of a {@code template}, either a file {@code resource} or an entry of a {@code bundle}.
+     *
+     * @param origin jar, directory or bundle the {@code template} is loaded from
+     * @param relativePath of the {@code template}
+     * @param resource of the file, {@code null} for bundle entries
+     * @param bundle holding the {@code template}, {@code null} for files
+     */
+    private record TemplateSource(String origin, String relativePath, Resource resource, TemplateBundle bundle)
+    {
+    }
+
+    private record LoadedTemplate(TemplateSource source, CompiledElement element, long nanos)
+    {
+    }
+
+    private static final class OriginStats
+    {
+
+        private int  files;
+        private int  loaded;
+        private long nanos;
+    }
+
+    /**
+     * The {@code template}s loaded in lazy mode, evicting the least recently used ones.
+     * <p>
+     * A hit only reads a concurrent map and stamps the entry with the access time, so request threads do not block each other. Writes
+     * are done under the {@code writeLock}. Once the cache is full, the least recently used eighth of the entries is evicted at once,
+     * so the order is only approximate between two evictions.
+     */
+    private static final class LruCache
+    {
+
+        private final int                   maximumSize;
+        private final Map<String, LruEntry> entries = new ConcurrentHashMap<>();
+
+        private LruCache(int maximumSize)
+        {
+            this.maximumSize = maximumSize;
+        }
+
+        private CompiledElement get(String key)
+        {
+            LruEntry entry = entries.get(key);
+
+            if (entry == null)
+            {
+                return null;
+            }
+
+            entry.lastAccess = System.nanoTime();
+
+            return entry.element;
+        }
+
+        private void put(String key, CompiledElement element)
+        {
+            entries.put(key, new LruEntry(element, System.nanoTime()));
+
+            if (entries.size() <= maximumSize)
+            {
+                return;
+            }
+
+            int evict = Math.max(entries.size() - maximumSize, maximumSize / 8);
+
+            entries
+                .entrySet()
+                .stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                .limit(evict)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+        }
+
+        private void remove(String key)
+        {
+            entries.remove(key);
+        }
+
+        private void clear()
+        {
+            entries.clear();
+        }
+
+        private int size()
+        {
+            return entries.size();
+        }
+    }
+
+    private static final class LruEntry
+    {
+
+        private final CompiledElement element;
+        private volatile long         lastAccess;
 
-        return template.orElseThrow(() -> new IllegalArgumentException(String.format("no template for path [%s]", sanPath)));
+        private LruEntry(CompiledElement element, long lastAccess)
+        {
+            this.element = element;
+            this.lastAccess = lastAccess;
+        }
     }
 }
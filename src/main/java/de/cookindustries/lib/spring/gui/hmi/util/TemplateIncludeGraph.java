@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The immutable graph of {@code template}s linking each other with {@code COMPONENT}s.
+ * <p>
+ * The graph knows which {@code template}s depend on a changed one and which {@code template}s link each other in a cycle. Those
+ * cycles can not be inlined and would recurse endlessly when mapped.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+final class TemplateIncludeGraph
+{
+
+    /** An empty graph */
+    static final TemplateIncludeGraph      EMPTY = new TemplateIncludeGraph(Map.of());
+
+    private final Map<String, Set<String>> includes;
+    private final Map<String, Set<String>> includedBy;
+    private final List<List<String>>       cycles;
+    private final Set<String>              cyclic;
+
+    /**
+     * Create a graph.
+     *
+     * @param includes the paths linked by each {@code template}
+     */
+    TemplateIncludeGraph(Map<String, Set<String>> includes)
+    {
+        this.includes = Map.copyOf(includes);
+
+        Map<String, Set<String>> reverse = new HashMap<>();
+
+        includes.forEach(
+            (includer, included) -> included.forEach(path -> reverse.computeIfAbsent(path, key -> new HashSet<>()).add(includer)));
+
+        this.includedBy = reverse;
+        this.cycles = findCycles();
+        this.cyclic = new HashSet<>();
+
+        cycles.forEach(cyclic::addAll);
+    }
+
+    /**
+     * Create a graph with changed links of some {@code template}s.
+     *
+     * @param changed the paths linked by each changed {@code template}, {@code null} for removed {@code template}s
+     * @return the new graph
+     */
+    TemplateIncludeGraph with(Map<String, Set<String>> changed)
+    {
+        Map<String, Set<String>> updated = new HashMap<>(includes);
+
+        changed.forEach(
+            (path, included) -> {
+                if (included == null)
+                {
+                    updated.remove(path);
+                }
+                else
+                {
+                    updated.put(path, included);
+                }
+            });
+
+        return new TemplateIncludeGraph(updated);
+    }
+
+    /**
+     * Get the paths linked by a {@code template}.
+     *
+     * @param path of the {@code template}
+     * @return the linked paths
+     */
+    Set<String> getIncludes(String path)
+    {
+        return includes.getOrDefault(path, Set.of());
+    }
+
+    /**
+     * Get the include cycles.
+     *
+     * @return the paths of every cycle, sorted
+     */
+    List<List<String>> getCycles()
+    {
+        return cycles;
+    }
+
+    /**
+     * Check if a {@code template} is part of an include cycle.
+     *
+     * @param path of the {@code template}
+     * @return {@code true} if the {@code template} links to itself, directly or indirectly
+     */
+    boolean isCyclic(String path)
+    {
+        return cyclic.contains(path);
+    }
+
+    /**
+     * Extend a set of paths by the paths of all {@code template}s, that link to them directly or indirectly.
+     *
+     * @param paths to start from
+     * @return the extended set
+     */
+    Set<String> withDependents(Set<String> paths)
+    {
+        Set<String>   result = new HashSet<>(paths);
+        Deque<String> queue  = new ArrayDeque<>(paths);
+
+        while (!queue.isEmpty())
+        {
+            for (String includer : includedBy.getOrDefault(queue.poll(), Set.of()))
+            {
+                if (result.add(includer))
+                {
+                    queue.add(includer);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Find all strongly connected components with more than one {@code template}, or a {@code template} linking itself, with Tarjan's
+     * algorithm. The search is iterative, so deep include chains can not overflow the stack.
+     *
+     * @return the cycles
+     */
+    private List<List<String>> findCycles()
+    {
+        Map<String, Integer> index   = new HashMap<>();
+        Map<String, Integer> lowLink = new HashMap<>();
+        Deque<String>        stack   = new ArrayDeque<>();
+        Set<String>          onStack = new HashSet<>();
+        List<List<String>>   result  = new ArrayList<>();
+
+        for (String start : new TreeSet<>(includes.keySet()))
+        {
+            if (index.containsKey(start))
+            {
+                continue;
+            }
+
+            Deque<Frame> work = new ArrayDeque<>();
+
+            work.push(new Frame(start, new ArrayList<>(getIncludes(start)).iterator()));
+            index.put(start, index.size());
+            lowLink.put(start, index.get(start));
+            stack.push(start);
+            onStack.add(start);
+
+            while (!work.isEmpty())
+            {
+                Frame frame = work.peek();
+
+                if (frame.next.hasNext())
+                {
+                    String next = frame.next.next();
+
+                    if (!index.containsKey(next))
+                    {
+                        index.put(next, index.size());
+                        lowLink.put(next, index.get(next));
+                        stack.push(next);
+                        onStack.add(next);
+                        work.push(new Frame(next, new ArrayList<>(getIncludes(next)).iterator()));
+                    }
+                    else if (onStack.contains(next))
+                    {
+                        lowLink.put(frame.path, Math.min(lowLink.get(frame.path), index.get(next)));
+                    }
+
+                    continue;
+                }
+
+                work.pop();
+
+                if (!work.isEmpty())
+                {
+                    String parent = work.peek().path;
+
+                    lowLink.put(parent, Math.min(lowLink.get(parent), lowLink.get(frame.path)));
+                }
+
+                if (lowLink.get(frame.path).equals(index.get(frame.path)))
+                {
+                    Set<String> component = new TreeSet<>();
+                    String      member;
+
+                    do
+                    {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                    }
+                    while (!member.equals(frame.path));
+
+                    if (component.size() > 1 || getIncludes(frame.path).contains(frame.path))
+                    {
+                        result.add(List.copyOf(component));
+                    }
+                }
+            }
+        }
+
+        return List.copyOf(result);
+    }
+
+    private record Frame(String path, Iterator<String> next)
+    {
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import de.cookindustries.lib.spring.gui.hmi.UiElement;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.JsonMapper;
+
+/**
+ * Factory for the {@link UidStrategy}s shipped with this library, and the binding of a strategy to the current thread.
+ * <p>
+ * While a {@link JsonMapper} runs, its strategy is bound to the mapping thread, so {@link UiElement}s built without a {@code uid} draw
+ * from the same strategy as the mapper. Outside of a mapping run {@link #random()} is used.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public final class UidStrategies
+{
+
+    private static final String                   DETERMINISTIC_PREFIX = "uid-";
+
+    private static final UidStrategy              RANDOM               =
+        () -> Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+
+    private static final ThreadLocal<UidStrategy> CURRENT              = new ThreadLocal<>();
+
+    private UidStrategies()
+    {
+        // prevent instantiation
+    }
+
+    /**
+     * Get the default strategy, creating 16 random hex digits per {@code uid} from {@link ThreadLocalRandom}.
+     * <p>
+     * The {@code uid}s are not suitable as secrets.
+     *
+     * @return the random strategy
+     */
+    public static UidStrategy random()
+    {
+        return RANDOM;
+    }
+
+    /**
+     * Create a strategy, that numbers the {@code uid}s in the order they are requested, starting with {@code uid-1}.
+     * <p>
+     * A new strategy should be created for every mapping run. The same {@code template} and {@code token}s then always result in the
+     * same {@code uid}s, which makes the rendered HTML cacheable and diffable. The {@code uid}s are only unique within a single result.
+     *
+     * @return a new deterministic strategy
+     */
+    public static UidStrategy deterministic()
+    {
+        return deterministic(DETERMINISTIC_PREFIX);
+    }
+
+    /**
+     * Create a strategy, that numbers the {@code uid}s in the order they are requested, starting with {@code prefix + 1}.
+     *
+     * @param prefix of all {@code uid}s, for example to separate multiple components on the same page
+     * @return a new deterministic strategy
+     * @see #deterministic()
+     */
+    public static UidStrategy deterministic(String prefix)
+    {
+        return new Deterministic(prefix);
+    }
+
+    /**
+     * Get the strategy bound to the current thread.
+     *
+     * @return the bound strategy, or {@link #random()} if none is bound
+     */
+    public static UidStrategy current()
+    {
+        UidStrategy strategy = CURRENT.get();
+
+        return strategy == null ? RANDOM : strategy;
+    }
+
+    /**
+     * Run {@code action} with {@code strategy} bound to the current thread.
+     *
+     * @param <T> the result type
+     * @param strategy to bind
+     * @param action to run
+     * @return the result of {@code action}
+     */
+    public static <T> T callWith(UidStrategy strategy, Supplier<T> action)
+    {
+        UidStrategy previous = CURRENT.get();
+
+        CURRENT.set(strategy);
+
+        try
+        {
+            return action.get();
+        }
+        finally
+        {
+            if (previous == null)
+            {
+                CURRENT.remove();
+            }
+            else
+            {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    private static final class Deterministic implements UidStrategy
+    {
+
+        private final String     prefix;
+        private final AtomicLong counter = new AtomicLong();
+
+        private Deterministic(String prefix)
+        {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public String nextUid()
+        {
+            return prefix + counter.incrementAndGet();
+        }
+
+        @Override
+        public UidStrategy fork(int index)
+        {
+            return new Deterministic(prefix + index + "-");
+        }
+    }
+}
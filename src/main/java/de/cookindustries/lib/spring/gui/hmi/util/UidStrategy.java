@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import de.cookindustries.lib.spring.gui.hmi.UiElement;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.JsonMapper;
+
+/**
+ * Generates the {@code uid}s of {@link UiElement}s that are created without one, and of {@code template} elements without a
+ * {@code uid}.
+ * <p>
+ * Ready-made strategies are available from {@link UidStrategies}.
+ *
+ * @since 3.7.0
+ * @author <a href="mailto:development@cook-industries.de">sebastian koch</a>
+ */
+public interface UidStrategy
+{
+
+    /**
+     * Generate the next {@code uid}.
+     *
+     * @return a {@code uid}, that only contains letters, numbers, '-' and '_'
+     */
+    String nextUid();
+
+    /**
+     * Get the strategy for an independent subtree, that the {@link JsonMapper} maps in parallel.
+     * <p>
+     * Deterministic strategies must not share their state with the fork, otherwise the {@code uid}s depend on the thread scheduling.
+     *
+     * @param index of the subtree, in document order
+     * @return the strategy for the subtree
+     */
+    default UidStrategy fork(int index)
+    {
+        return this;
+    }
+}
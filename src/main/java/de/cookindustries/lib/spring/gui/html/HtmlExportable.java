@@ -7,6 +7,8 @@
  */
 package de.cookindustries.lib.spring.gui.html;
 
+import java.io.IOException;
+
 /**
  * Interface to indicate that an object can be exported as a HTML component
  * 
@@ -22,4 +24,18 @@ public interface HtmlExportable
      * @return a HTML String of this object
      */
     public String getHtmlRep();
+
+    /**
+     * Write the HTML representation of this object to {@code out}
+     * <p>
+     * Large objects should override this, to write their HTML directly instead of creating it as a single {@code String} first.
+     * 
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
+     * @since 3.7.0
+     */
+    public default void writeHtmlRep(Appendable out) throws IOException
+    {
+        out.append(getHtmlRep());
+    }
 }
@@ -7,6 +7,8 @@
  */
 package de.cookindustries.lib.spring.gui.html;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import de.cookindustries.lib.spring.gui.function.AbsFunctionCall;
@@ -49,6 +51,29 @@ public class HtmlSite implements HtmlExportable
     private final List<AbsFunctionCall> functions;
 
     public String getHtmlRep()
+    {
+        StringBuilder stb = new StringBuilder();
+
+        try
+        {
+            writeHtmlRep(stb);
+        }
+        catch (IOException ex)
+        {
+            // a StringBuilder does not throw
+            throw new UncheckedIOException(ex);
+        }
+
+        return stb.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@link #containers} are mapped directly into {@code out}.
+     */
+    @Override
+    public void writeHtmlRep(Appendable out) throws IOException
     {
         StringConcat sc = new StringConcat();
 
@@ -70,8 +95,24 @@ public class HtmlSite implements HtmlExportable
                     .getHtmlRep())
             .appendnl(jsScripts, AbsJsLink::getHtmlRep)
             .appendnl("</head>")
-            .appendnl("<body>")
-            .appendnl(containers, HtmlMapper::map)
+            .appendnl("<body>");
+
+        out.append(sc.toString());
+
+        for (int i = 0; i < containers.size(); i++)
+        {
+            if (i > 0)
+            {
+                out.append("\n");
+            }
+
+            HtmlMapper.map(containers.get(i), out);
+        }
+
+        out.append("\n");
+
+        sc
+            .clear()
             .appendnl("<script>")
             .appendnl("document.addEventListener(\"DOMContentLoaded\", () => setTimeout(__onPageLoad, 100));")
             .appendnl("function __onPageLoad() {")
@@ -81,6 +122,6 @@ public class HtmlSite implements HtmlExportable
             .appendnl("</body>")
             .appendnl("</html>");
 
-        return sc.toString();
+        out.append(sc.toString());
     }
 }
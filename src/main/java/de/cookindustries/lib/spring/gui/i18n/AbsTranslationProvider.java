@@ -10,6 +10,7 @@ package de.cookindustries.lib.spring.gui.i18n;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,10 +27,12 @@ public abstract class AbsTranslationProvider
     private static final Logger                    LOG = LoggerFactory.getLogger(AbsTranslationProvider.class);
 
     private final Map<Locale, Map<String, String>> translations;
+    private final AtomicLong                       revision;
 
     protected AbsTranslationProvider()
     {
         translations = new ConcurrentHashMap<>();
+        revision = new AtomicLong();
     }
 
     /**
@@ -71,6 +74,18 @@ public abstract class AbsTranslationProvider
         }
 
         map.put(key, text);
+        revision.incrementAndGet();
+    }
+
+    /**
+     * Get the revision of the translations, which changes with every added translation.
+     * 
+     * @return the current revision
+     * @since 3.7.0
+     */
+    public final long getRevision()
+    {
+        return revision.get();
     }
 
     /**
@@ -7,8 +7,9 @@
  */
 package de.cookindustries.lib.spring.gui.response;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import de.cookindustries.lib.spring.gui.hmi.container.Container;
 import de.cookindustries.lib.spring.gui.hmi.mapper.html.HtmlMapper;
@@ -63,13 +64,41 @@ public final class ContentResponse extends Response implements HtmlExportable
 
     @Override
     public String getHtmlRep()
+    {
+        StringBuilder stb = new StringBuilder();
+
+        try
+        {
+            writeHtmlRep(stb);
+        }
+        catch (IOException ex)
+        {
+            // a StringBuilder does not throw
+            throw new UncheckedIOException(ex);
+        }
+
+        return stb.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@link #contents} are mapped directly into {@code out}, separated by a new line.
+     */
+    @Override
+    public void writeHtmlRep(Appendable out) throws IOException
     {
         validate();
 
-        return HtmlMapper
-            .map(contents)
-            .stream()
-            .collect(Collectors.joining("\n"));
+        for (int i = 0; i < contents.size(); i++)
+        {
+            if (i > 0)
+            {
+                out.append("\n");
+            }
+
+            HtmlMapper.map(contents.get(i), out);
+        }
     }
 
     private void validate()
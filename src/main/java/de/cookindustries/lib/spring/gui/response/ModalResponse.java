@@ -7,6 +7,8 @@
  */
 package de.cookindustries.lib.spring.gui.response;
 
+import java.io.IOException;
+
 import de.cookindustries.lib.spring.gui.hmi.container.ModalContainer;
 import de.cookindustries.lib.spring.gui.hmi.mapper.html.HtmlMapper;
 import lombok.Getter;
@@ -39,4 +41,16 @@ public final class ModalResponse extends Response
     {
         return HtmlMapper.map(modal);
     }
+
+    /**
+     * Write the HTML of the {@link #modal} to {@code out}, without creating it as a single {@code String} first
+     * 
+     * @param out to write to
+     * @throws IOException if {@code out} could not be written to
+     * @since 3.7.0
+     */
+    public void writeContentHtml(Appendable out) throws IOException
+    {
+        HtmlMapper.map(modal, out);
+    }
 }
@@ -38,6 +38,55 @@ public final class StringAdapter
         return path.replace('\\', '/');
     }
 
+    /**
+     * Sanitize a {@code uid} to only contain letters, numbers, '-' and '_'.
+     * <p>
+     * Whitespace and '.' are replaced by '-', all other characters are removed. The {@code input} itself is returned if it is already
+     * valid.
+     * 
+     * @param input to sanitize
+     * @return the sanitized {@code uid}
+     * @since 3.7.0
+     */
+    public static String sanitizeUid(String input)
+    {
+        int length = input.length();
+        int valid  = 0;
+
+        while (valid < length && isUidChar(input.charAt(valid)))
+        {
+            valid++;
+        }
+
+        if (valid == length)
+        {
+            return input;
+        }
+
+        StringBuilder builder = new StringBuilder(length).append(input, 0, valid);
+
+        for (int i = valid; i < length; i++)
+        {
+            char c = input.charAt(i);
+
+            if (isUidChar(c))
+            {
+                builder.append(c);
+            }
+            else if (c == '.' || c == ' ' || (c >= '\t' && c <= '\r'))
+            {
+                builder.append('-');
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static boolean isUidChar(char c)
+    {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
     /**
      * Prefix a {@link String} with a {@code prefix}.
      * 
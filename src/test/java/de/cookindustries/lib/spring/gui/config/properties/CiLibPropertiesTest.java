@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.config.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+public class CiLibPropertiesTest
+{
+
+    private Set<ConstraintViolation<CiLibProperties>> validate(CiLibProperties properties)
+    {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory())
+        {
+            Validator validator = factory.getValidator();
+
+            return validator.validate(properties);
+        }
+    }
+
+    @Test
+    void test_validate_defaults()
+    {
+        // run
+        Set<ConstraintViolation<CiLibProperties>> violations = validate(new CiLibProperties());
+
+        // verify
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void test_validate_nestedTemplateCache()
+    {
+        // setup
+        CiLibProperties                           properties = new CiLibProperties();
+        properties.getResources().getTemplateCache().setMaximumSize(0);
+
+        // run
+        Set<ConstraintViolation<CiLibProperties>> violations = validate(properties);
+
+        // verify
+        assertEquals(1, violations.size());
+        assertEquals("resources.templateCache.maximumSize", violations.iterator().next().getPropertyPath().toString());
+    }
+}
@@ -9,6 +9,8 @@ package de.cookindustries.lib.spring.gui.hmi.mapper.html;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.IOException;
+
 import org.junit.jupiter.api.Test;
 
 class HtmlElementTest
@@ -66,4 +68,26 @@ class HtmlElementTest
         // verify
         assertEquals(expected, html);
     }
+
+    @Test
+    void test_html_openClose() throws IOException
+    {
+        // setup
+        StringBuilder out     = new StringBuilder();
+        HtmlElement   element = HtmlElement
+            .builder()
+            .tag("div")
+            .clazz(TEST_VAL)
+            .content(TEST_VAL)
+            .build();
+
+        // run
+        element.open(out);
+        out.append("child");
+        element.close(out);
+        element.html(out);
+
+        // verify
+        assertEquals("<div class=\"test\">child</div><div class=\"test\">test</div>", out.toString());
+    }
 }
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.html;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.hmi.container.Button;
+import de.cookindustries.lib.spring.gui.hmi.container.ButtonBarContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.Container;
+import de.cookindustries.lib.spring.gui.hmi.container.ContentContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.FormContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.HiddenContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.LinkContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.SplittedContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.TableContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.TableRowContainer;
+import de.cookindustries.lib.spring.gui.hmi.container.TextContainer;
+import de.cookindustries.lib.spring.gui.hmi.input.Textfield;
+
+class HtmlMapperTest
+{
+
+    private static Container text(String uid)
+    {
+        return TextContainer.builder().uid(uid).text(uid).build();
+    }
+
+    private static ContentContainer.ContentContainerBuilder<?, ?> layout()
+    {
+        return ContentContainer
+            .builder()
+            .uid("root")
+            .clazz("outer")
+            .content(
+                SplittedContainer
+                    .builder()
+                    .uid("split")
+                    .head(text("head"))
+                    .tail(
+                        ButtonBarContainer
+                            .builder()
+                            .uid("bar")
+                            .button(Button.builder().uid("btn").text("ok").onClick("").build())
+                            .build())
+                    .build())
+            .content(
+                HiddenContainer
+                    .builder()
+                    .uid("hidden")
+                    .child(
+                        LinkContainer
+                            .builder()
+                            .uid("link")
+                            .href("/target")
+                            .target("_blank")
+                            .content(text("linked"))
+                            .build())
+                    .build())
+            .content(
+                TableContainer
+                    .builder()
+                    .uid("table")
+                    .name("tbl")
+                    .columnName("column")
+                    .row(
+                        TableRowContainer
+                            .builder()
+                            .uid("row")
+                            .tableName("tbl")
+                            .cell(text("cell-1"))
+                            .cell(text("cell-2"))
+                            .build())
+                    .build());
+    }
+
+    @Test
+    void test_map_appendable() throws IOException
+    {
+        // setup
+        String        expected =
+            "<div id=\"root\" class=\"outer\">"
+                + "<div id=\"split\" class=\"d-flex justify-content-between\"><p id=\"head\" >head</p>"
+                + "<div id=\"bar\"><button id=\"btn\" class=\"btn btn-primary\">ok</button></div></div>"
+                + "<div id=\"hidden\" class=\"hidden\"><a id=\"link\" href=\"/target\" target=\"_blank\" ><p id=\"linked\" >linked</p></a></div>"
+                + "<div id=\"table\"><div class=\"table-head table-tbl\"><div class=\"table-cell\">column</div></div>"
+                + "<div class=\"table-body table-tbl-body\"><div id=\"row\" class=\"table-row table-tbl\">"
+                + "<div class=\"table-cell\"><p id=\"cell-1\" >cell-1</p></div><div class=\"table-cell\"><p id=\"cell-2\" >cell-2</p></div>"
+                + "</div></div></div>"
+                + "</div>";
+        StringBuilder out      = new StringBuilder("prefix:");
+
+        // run
+        HtmlMapper.map(layout().build(), out);
+
+        // verify
+        assertEquals("prefix:" + expected, out.toString());
+    }
+
+    @Test
+    void test_map_appendableSameAsString() throws IOException
+    {
+        // setup
+        Container     container =
+            layout()
+                .content(
+                    FormContainer
+                        .builder()
+                        .uid("form")
+                        .input(Textfield.builder().uid("field").name("field").submitAs("field").build())
+                        .build())
+                .build();
+        StringBuilder out       = new StringBuilder();
+
+        // run
+        HtmlMapper.map(container, out);
+
+        // verify
+        assertEquals(HtmlMapper.map(container), out.toString());
+    }
+}
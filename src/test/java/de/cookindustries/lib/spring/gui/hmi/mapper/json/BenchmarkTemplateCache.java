@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import de.cookindustries.lib.spring.gui.config.properties.CiLibProperties;
+import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesPathProperties;
+import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesProperties;
+import de.cookindustries.lib.spring.gui.hmi.util.TemplateFileCache;
+
+/**
+ * A {@link TemplateFileCache} for benchmarks, serving generated templates instead of loading them from the classpath.
+ */
+class BenchmarkTemplateCache extends TemplateFileCache
+{
+
+    private final Map<String, CompiledElement> templates = new HashMap<>();
+
+    BenchmarkTemplateCache()
+    {
+        super(properties());
+    }
+
+    BenchmarkTemplateCache with(String path, PseudoElement template)
+    {
+        templates.put(path, TemplateCompiler.compile(template, this));
+
+        return this;
+    }
+
+    private static CiLibProperties properties()
+    {
+        CiLibResourcesPathProperties resPath = new CiLibResourcesPathProperties();
+        resPath.setTemplates("benchmark");
+
+        CiLibResourcesProperties res = new CiLibResourcesProperties();
+        res.setPath(resPath);
+
+        CiLibProperties properties = new CiLibProperties();
+        properties.setResources(res);
+
+        return properties;
+    }
+
+    @Override
+    public CompiledElement getCompiledTemplateTo(String path)
+    {
+        CompiledElement template = templates.get(path);
+
+        if (template == null)
+        {
+            throw new IllegalArgumentException(String.format("no benchmark template for [%s]", path));
+        }
+
+        return template;
+    }
+}
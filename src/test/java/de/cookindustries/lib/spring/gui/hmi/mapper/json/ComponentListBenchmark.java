@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappable;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableDissector;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableList;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
+import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
+
+/**
+ * Scaling benchmark for {@code COMPONENT} lists ({@code isSourceList}) mapped by the {@link JsonMapper}.
+ * <p>
+ * The page view model grows with the number of rows, like a page that also shows a summary of all rows. It has to be dissected once per
+ * mapping run, each list element only maps a small row component, so the cost per row should stay constant with a growing number of rows.
+ * <p>
+ * This is no unit test and is not picked up by surefire. Run it manually from the test classpath with optional arguments
+ * {@code [warmup seconds] [measure seconds]}. Make sure the log level of {@link JsonMapper} is at least {@code INFO}.
+ */
+public class ComponentListBenchmark
+{
+
+    private static final String PAGE_PATH     = "benchmark/page.json";
+    private static final String ROW_PATH      = "benchmark/row.json";
+
+    private static final int    LABELS        = 200;
+    private static final int[]  ROW_COUNTS    = {100, 200, 400, 800};
+
+    public static void main(String[] args)
+    {
+        long                   warmup    = args.length > 0 ? Long.parseLong(args[0]) : 3;
+        long                   measure   = args.length > 1 ? Long.parseLong(args[1]) : 5;
+
+        BenchmarkTemplateCache cache     =
+            new BenchmarkTemplateCache()
+                .with(PAGE_PATH, pageTemplate())
+                .with(ROW_PATH, rowTemplate());
+        FlatMappableDissector  dissector = new FlatMappableDissector(new StaticTranslationProvider());
+
+        for (int rows : ROW_COUNTS)
+        {
+            TokenMap tokenMap = TokenMap.builder().dissect(new Page(rows)).build();
+
+            run(cache, dissector, tokenMap, warmup);
+
+            long   ops      = run(cache, dissector, tokenMap, measure);
+            double usPerOp  = measure * 1_000_000d / ops;
+
+            System.out.printf("rows: %4d  %10.1f us/op  %6.2f us/row%n", rows, usPerOp, usPerOp / rows);
+        }
+    }
+
+    private static long run(BenchmarkTemplateCache cache, FlatMappableDissector dissector, TokenMap tokenMap, long seconds)
+    {
+        long end  = System.nanoTime() + seconds * 1_000_000_000L;
+        long ops  = 0;
+        long sink = 0;
+
+        while (System.nanoTime() < end)
+        {
+            MapperResult result =
+                JsonMapper
+                    .builder()
+                    .srcPath(PAGE_PATH)
+                    .locale(Locale.ENGLISH)
+                    .templateFileCache(cache)
+                    .flatMappableDissector(dissector)
+                    .tokenMap(tokenMap)
+                    .build()
+                    .map();
+
+            sink += result.getContainers().size();
+            ops++;
+        }
+
+        if (sink == 0)
+        {
+            throw new IllegalStateException("no result");
+        }
+
+        return ops;
+    }
+
+    private static PseudoElement pageTemplate()
+    {
+        return PseudoElement
+            .builder()
+            .type("content")
+            .uid("page")
+            .child(
+                PseudoElement
+                    .builder()
+                    .type("heading")
+                    .parameter("text", "$$value$title")
+                    .parameter("size", 1)
+                    .build())
+            .child(
+                PseudoElement
+                    .builder()
+                    .type("component")
+                    .parameter("path", ROW_PATH)
+                    .parameter("isSourceList", true)
+                    .parameter("sourceKey", "rows")
+                    .build())
+            .build();
+    }
+
+    private static PseudoElement rowTemplate()
+    {
+        return PseudoElement
+            .builder()
+            .type("content")
+            .child(
+                PseudoElement
+                    .builder()
+                    .type("text")
+                    .parameter("text", "$$value$name")
+                    .build())
+            .child(
+                PseudoElement
+                    .builder()
+                    .type("text")
+                    .parameter("text", "$$value$labels.label0")
+                    .build())
+            .build();
+    }
+
+    /**
+     * The page view model with a list of rows and a set of labels.
+     */
+    public static final class Page implements FlatMappable
+    {
+
+        private final FlatMappableList<Row> rows;
+        private final Map<String, String>   summary = new LinkedHashMap<>();
+        private final Map<String, String>   labels = new LinkedHashMap<>();
+
+        Page(int rowCount)
+        {
+            List<Row> list = new ArrayList<>(rowCount);
+
+            for (int i = 0; i < rowCount; i++)
+            {
+                list.add(new Row("row " + i));
+            }
+
+            for (int i = 0; i < LABELS; i++)
+            {
+                labels.put("label" + i, "label text " + i);
+            }
+
+            for (int i = 0; i < rowCount; i++)
+            {
+                summary.put("row" + i, list.get(i).getName());
+            }
+
+            this.rows = new FlatMappableList<>(list);
+        }
+
+        public String getTitle()
+        {
+            return "benchmark";
+        }
+
+        public FlatMappableList<Row> getRows()
+        {
+            return rows;
+        }
+
+        public Map<String, String> getSummary()
+        {
+            return summary;
+        }
+
+        public Map<String, String> getLabels()
+        {
+            return labels;
+        }
+    }
+
+    /**
+     * A single row of the {@link Page}.
+     */
+    public static final class Row implements FlatMappable
+    {
+
+        private final String name;
+
+        Row(String name)
+        {
+            this.name = name;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableDissector;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
+import de.cookindustries.lib.spring.gui.hmi.util.TemplateFileCache;
+import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
+
+/**
+ * Throughput benchmark for the {@link JsonMapper} on a generated template with 1,000 nodes.
+ * <p>
+ * This is no unit test and is not picked up by surefire. Run it manually from the test classpath, e.g. from the IDE, with optional
+ * arguments {@code [warmup seconds] [measure seconds] [threads]}. With {@code threads > 0} the sections are mapped in parallel on a
+ * {@link ForkJoinPool} of that size. Make sure the log level of {@link JsonMapper} is at least {@code INFO}, otherwise the
+ * benchmark measures the logging.
+ */
+public class JsonMapperBenchmark
+{
+
+    private static final String BENCHMARK_PATH = "benchmark/generated.json";
+
+    private static final int    SECTIONS       = 25;
+    private static final int    NODES_PER_SEC  = 32;
+
+    public static void main(String[] args)
+    {
+        long                  warmup    = args.length > 0 ? Long.parseLong(args[0]) : 5;
+        long                  measure   = args.length > 1 ? Long.parseLong(args[1]) : 10;
+        int                   threads   = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        Executor              executor  = threads > 0 ? new ForkJoinPool(threads) : null;
+
+        PseudoElement         template  = generateTemplate();
+        TemplateFileCache     cache     = new BenchmarkTemplateCache().with(BENCHMARK_PATH, template);
+        FlatMappableDissector dissector = new FlatMappableDissector(new StaticTranslationProvider());
+        TokenMap              tokenMap  =
+            TokenMap
+                .builder()
+                .value("title", "benchmark")
+                .clazz("highlight", "hl")
+                .build();
+
+        System.out.printf("template nodes: %d%n", countNodes(template));
+
+        run(cache, dissector, tokenMap, executor, warmup);
+
+        long ops   = run(cache, dissector, tokenMap, executor, measure);
+        long nanos = measure * 1_000_000_000L;
+
+        System.out.printf("throughput: %.1f ops/s, %.1f us/op%n", ops * 1_000_000_000d / nanos, nanos / 1_000d / ops);
+    }
+
+    private static long run(TemplateFileCache cache, FlatMappableDissector dissector, TokenMap tokenMap, Executor executor, long seconds)
+    {
+        long end  = System.nanoTime() + seconds * 1_000_000_000L;
+        long ops  = 0;
+        long sink = 0;
+
+        while (System.nanoTime() < end)
+        {
+            MapperResult result =
+                JsonMapper
+                    .builder()
+                    .srcPath(BENCHMARK_PATH)
+                    .locale(Locale.ENGLISH)
+                    .templateFileCache(cache)
+                    .flatMappableDissector(dissector)
+                    .tokenMap(tokenMap)
+                    .executor(executor)
+                    .build()
+                    .map();
+
+            sink += result.getContainers().size();
+            ops++;
+        }
+
+        if (sink == 0)
+        {
+            throw new IllegalStateException("no result");
+        }
+
+        return ops;
+    }
+
+    private static PseudoElement generateTemplate()
+    {
+        PseudoElement.PseudoElementBuilder root = PseudoElement.builder().type("content").uid("root");
+
+        for (int s = 0; s < SECTIONS; s++)
+        {
+            PseudoElement.PseudoElementBuilder section =
+                PseudoElement
+                    .builder()
+                    .type("content")
+                    .uid("section-" + s);
+
+            for (int n = 0; n < NODES_PER_SEC; n++)
+            {
+                section.child(
+                    switch (n % 4)
+                    {
+                        case 0 -> PseudoElement
+                            .builder()
+                            .type("heading")
+                            .parameter("text", "$$value$title")
+                            .parameter("size", 2)
+                            .build();
+                        case 1 -> PseudoElement
+                            .builder()
+                            .type("text")
+                            .uid("text-" + s + "-" + n)
+                            .parameter("text", "static text")
+                            .attribute("key", "value")
+                            .build();
+                        case 2 -> PseudoElement
+                            .builder()
+                            .type("image")
+                            .classes(List.of("image", "$$class$highlight"))
+                            .parameter("src", "/image/test.png")
+                            .build();
+                        default -> PseudoElement
+                            .builder()
+                            .type("link")
+                            .parameter("href", "/target")
+                            .child(
+                                PseudoElement
+                                    .builder()
+                                    .type("text")
+                                    .parameter("text", "link")
+                                    .build())
+                            .build();
+                    });
+            }
+
+            root.child(section.build());
+        }
+
+        return root.build();
+    }
+
+    private static int countNodes(PseudoElement element)
+    {
+        return 1 + element.getChildren().stream().mapToInt(JsonMapperBenchmark::countNodes).sum();
+    }
+}
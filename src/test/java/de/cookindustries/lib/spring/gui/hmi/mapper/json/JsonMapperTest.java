@@ -10,9 +10,18 @@ package de.cookindustries.lib.spring.gui.hmi.mapper.json;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,10 +29,12 @@ import org.junit.jupiter.api.Test;
 import de.cookindustries.lib.spring.gui.config.properties.CiLibProperties;
 import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesPathProperties;
 import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesProperties;
+import de.cookindustries.lib.spring.gui.function.CloseModal;
 import de.cookindustries.lib.spring.gui.hmi.container.AudioContainer;
 import de.cookindustries.lib.spring.gui.hmi.container.Button;
 import de.cookindustries.lib.spring.gui.hmi.container.ButtonClass;
 import de.cookindustries.lib.spring.gui.hmi.container.Container;
+import de.cookindustries.lib.spring.gui.hmi.container.ContainerType;
 import de.cookindustries.lib.spring.gui.hmi.container.ContentContainer;
 import de.cookindustries.lib.spring.gui.hmi.container.FormContainer;
 import de.cookindustries.lib.spring.gui.hmi.container.HiddenContainer;
@@ -50,9 +61,13 @@ import de.cookindustries.lib.spring.gui.hmi.input.Textfield;
 import de.cookindustries.lib.spring.gui.hmi.input.util.InputValue;
 import de.cookindustries.lib.spring.gui.hmi.input.util.InputValueList;
 import de.cookindustries.lib.spring.gui.hmi.mapper.html.HtmlMapper;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappable;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableCursor;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableDissector;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableList;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
 import de.cookindustries.lib.spring.gui.hmi.util.TemplateFileCache;
+import de.cookindustries.lib.spring.gui.hmi.util.UidStrategies;
 import de.cookindustries.lib.spring.gui.i18n.AbsTranslationProvider;
 import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
 
@@ -91,6 +106,20 @@ public class JsonMapperTest
         assertTrue(text.getText().startsWith("the creation of this element failed."));
     }
 
+    private MapperResult mapWithTokenMap(String srcPath, TokenMap tokenMap)
+    {
+        return JsonMapper
+            .builder()
+            .srcPath(srcPath)
+            .locale(Locale.ENGLISH)
+            .templateFileCache(templateFileCache)
+            .translationProvider(translationProvider)
+            .flatMappableDissector(flatMappableDissector)
+            .tokenMap(tokenMap)
+            .build()
+            .map();
+    }
+
     private boolean checkDivTags(String html)
     {
         return checkTags("div", html);
@@ -131,6 +160,381 @@ public class JsonMapperTest
         assertNotNull(result);
     }
 
+    @Test
+    void test_map_withComponent_timings()
+    {
+        // setup
+        JsonMapper     mapper  =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/nested-components.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .build();
+
+        // run
+        MapperResult   result  = mapper.map();
+
+        // verify
+        MappingTimings timings = result.getTimings();
+        MappingTimings nested  = timings.getComponents().get("json-mapper/generated-uids.json");
+
+        assertEquals(1, result.getContainers().size());
+        assertEquals(1, timings.getComponents().size());
+        assertNotNull(nested);
+        assertTrue(timings.getTransform() >= timings.getNested());
+        assertEquals(nested.getTotal(), timings.getNested());
+        assertEquals(0L, timings.getRender());
+        assertEquals(timings.getTotal() / 1_000_000L, result.getTime());
+    }
+
+    @Test
+    void test_map_withComponent_missingTemplate()
+    {
+        // setup
+        JsonMapper   mapper =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/root-component.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .build();
+
+        // run
+        MapperResult result = mapper.map();
+
+        // verify
+        assertEquals(1, result.getContainers().size());
+        checkAgainstErrorContainer(result.getContainers().get(0));
+    }
+
+    @Test
+    void test_map_withComponent_includeCycle() throws IOException
+    {
+        // setup
+        Path                         directory  = Files.createTempDirectory("templates");
+        Files.writeString(directory.resolve("a.json"), "{\"type\": \"COMPONENT\", \"parameters\": {\"path\": \"b.json\"}}");
+        Files.writeString(directory.resolve("b.json"), "{\"type\": \"COMPONENT\", \"parameters\": {\"path\": \"a.json\"}}");
+
+        CiLibResourcesPathProperties resPath    = new CiLibResourcesPathProperties();
+        resPath.setTemplates("json-test-files");
+
+        CiLibResourcesProperties     res        = new CiLibResourcesProperties();
+        res.setPath(resPath);
+        res.getTemplateCache().setWatchDirectory(directory.toString());
+
+        CiLibProperties              properties = new CiLibProperties();
+        properties.setResources(res);
+
+        TemplateFileCache            cache      = new TemplateFileCache(properties);
+        cache.init();
+        cache.close();
+
+        JsonMapper                   mapper     =
+            JsonMapper
+                .builder()
+                .srcPath("a.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(cache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .build();
+
+        // run
+        MapperResult                 result     = mapper.map();
+
+        // verify
+        assertEquals(1, result.getContainers().size());
+        checkAgainstErrorContainer(result.getContainers().get(0));
+    }
+
+    @Test
+    void test_map_withComponent_inlined()
+    {
+        // setup
+        CiLibResourcesPathProperties resPath    = new CiLibResourcesPathProperties();
+        resPath.setTemplates("json-test-files");
+
+        CiLibResourcesProperties     res        = new CiLibResourcesProperties();
+        res.setPath(resPath);
+        res.getTemplateCache().setLazy(true);
+
+        CiLibProperties              properties = new CiLibProperties();
+        properties.setResources(res);
+
+        TemplateFileCache            lazyCache  = new TemplateFileCache(properties);
+        lazyCache.init();
+
+        TokenMap                     tokenMap   =
+            TokenMap
+                .builder()
+                .value("groups", new FlatMappableList<>(List.of(new Row("group a"), new Row("group b"))))
+                .value("rows", new FlatMappableList<>(List.of(new Row("row a"), new Row("row b"))))
+                .build();
+
+        // run
+        MapperResult                 inlined    = mapWithTokenMap("json-mapper/inlined-groups.json", tokenMap);
+        MapperResult                 linked     =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/inlined-groups.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(lazyCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .tokenMap(tokenMap)
+                .build()
+                .map();
+
+        // verify
+        String                       html       = HtmlMapper.map(inlined.getContainers().get(0));
+
+        assertEquals(HtmlMapper.map(linked.getContainers().get(0)), html);
+        assertTrue(html.contains("row a"));
+        assertEquals(linked.getTimings().getComponents().keySet(), inlined.getTimings().getComponents().keySet());
+        assertNotNull(inlined.getTimings().getComponents().get("json-mapper/inlined-rows.json"));
+    }
+
+    @Test
+    void test_map_parallel()
+    {
+        // setup
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        TokenMap        tokenMap =
+            TokenMap
+                .builder()
+                .value("title", "title")
+                .value("rows", new FlatMappableList<>(List.of(new Row("a"), new Row("b"), new Row("c"))))
+                .build();
+
+        JsonMapper      mapper   =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/parallel-content.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .tokenMap(tokenMap)
+                .executor(executor)
+                .parallelThreshold(1)
+                .build();
+
+        JsonMapper      expected =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/parallel-content.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .tokenMap(tokenMap)
+                .build();
+
+        // run
+        MapperResult    result   = mapper.map();
+
+        executor.shutdown();
+
+        // verify
+        String html = HtmlMapper.map(result.getContainers().get(0));
+
+        assertEquals(HtmlMapper.map(expected.map().getContainers().get(0)), html);
+        assertTrue(html.indexOf(">a<") < html.indexOf(">b<"));
+        assertTrue(html.indexOf(">b<") < html.indexOf(">c<"));
+    }
+
+    @Test
+    void test_map_foldedSubtree()
+    {
+        // setup
+        TokenMap     tokenMap    =
+            TokenMap
+                .builder()
+                .value("title", "title")
+                .value("rows", new FlatMappableList<>(List.of(new Row("a"))))
+                .build();
+        TokenMap     deactivated =
+            TokenMap
+                .builder()
+                .value("title", "title")
+                .value("rows", new FlatMappableList<>(List.of(new Row("a"))))
+                .deactivateUid("footer")
+                .build();
+
+        // run
+        MapperResult first       = mapWithTokenMap("json-mapper/parallel-content.json", tokenMap);
+        MapperResult second      = mapWithTokenMap("json-mapper/parallel-content.json", tokenMap);
+        MapperResult third       = mapWithTokenMap("json-mapper/parallel-content.json", deactivated);
+
+        // verify
+        Container    footer      = ((ContentContainer) first.getContainers().get(0)).getContents().get(2);
+
+        assertTrue(templateFileCache.getCompiledTemplateTo("json-mapper/parallel-content.json").getChildren().get(2).isConstant());
+        assertSame(footer, ((ContentContainer) second.getContainers().get(0)).getContents().get(2));
+        assertEquals("<p id=\"footer\" >footer</p>", HtmlMapper.map(footer));
+        assertEquals(ContainerType.EMPTY, ((ContentContainer) third.getContainers().get(0)).getContents().get(2).getType());
+    }
+
+    @Test
+    void test_map_deterministicUids()
+    {
+        // setup
+        JsonMapper.JsonMapperBuilder builder =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/generated-uids.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector);
+
+        // run
+        String                       first  =
+            HtmlMapper.map(builder.uidStrategy(UidStrategies.deterministic()).build().map().getContainers().get(0));
+        String                       second =
+            HtmlMapper.map(builder.uidStrategy(UidStrategies.deterministic()).build().map().getContainers().get(0));
+
+        // verify
+        assertEquals(first, second);
+        assertTrue(first.contains("id=\"randomid-uid-1\""));
+        assertTrue(first.contains("id=\"randomid-uid-2\""));
+    }
+
+    @Test
+    void test_map_trace()
+    {
+        // setup
+        MappingTrace                 trace   = new MappingTrace();
+        JsonMapper.JsonMapperBuilder builder =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/generated-uids.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector);
+
+        // run
+        MapperResult traced   = builder.trace(trace).build().map();
+        MapperResult untraced = builder.trace(null).build().map();
+
+        // verify
+        assertSame(trace, traced.getTrace());
+        assertTrue(trace.getEvents().size() > 1);
+        assertTrue(trace.getEvents().get(0).getText().startsWith("map content in [en]"));
+        assertNull(untraced.getTrace());
+    }
+
+    @Test
+    void test_map_repetition_lazySource()
+    {
+        // setup
+        List<Row>    rows      = List.of(new Row("a"), new Row("b"), new Row("c"));
+        TokenMap     listMap   =
+            TokenMap
+                .builder()
+                .value("title", "title")
+                .value("rows", new FlatMappableList<>(rows))
+                .build();
+        TokenMap     streamMap =
+            TokenMap
+                .builder()
+                .value("title", "title")
+                .value("rows", rows.stream())
+                .build();
+
+        // run
+        MapperResult expected  = mapWithTokenMap("json-mapper/parallel-content.json", listMap);
+        MapperResult result    = mapWithTokenMap("json-mapper/parallel-content.json", streamMap);
+
+        // verify
+        assertEquals(HtmlMapper.map(expected.getContainers().get(0)), HtmlMapper.map(result.getContainers().get(0)));
+    }
+
+    @Test
+    void test_map_repetition_lazyDissection()
+    {
+        // setup
+        List<Row>    rows     = List.of(new Row("a"), new Row("b"), new Row("c"));
+        TokenMap     tokenMap =
+            TokenMap
+                .builder()
+                .value("title", "title")
+                .value("rows", new FlatMappableList<>(rows))
+                .build();
+
+        // run
+        MapperResult expected = mapWithTokenMap("json-mapper/parallel-content.json", tokenMap);
+        MapperResult result   =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/parallel-content.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .tokenMap(tokenMap)
+                .lazyDissection(true)
+                .build()
+                .map();
+
+        // verify
+        assertEquals(HtmlMapper.map(expected.getContainers().get(0)), HtmlMapper.map(result.getContainers().get(0)));
+    }
+
+    @Test
+    void test_map_repetition_cursor()
+    {
+        // setup
+        List<Row>               rows     = List.of(new Row("a"), new Row("b"), new Row("c"));
+        AtomicBoolean           closed   = new AtomicBoolean(false);
+        FlatMappableCursor<Row> cursor   =
+            new FlatMappableCursor<>()
+            {
+
+                private int offset = 0;
+
+                @Override
+                public List<Row> nextPage()
+                {
+                    List<Row> page = rows.subList(offset, Math.min(offset + 2, rows.size()));
+
+                    offset += page.size();
+
+                    return page;
+                }
+
+                @Override
+                public void close()
+                {
+                    closed.set(true);
+                }
+            };
+        TokenMap                tokenMap =
+            TokenMap
+                .builder()
+                .value("title", "title")
+                .value("rows", cursor)
+                .build();
+
+        // run
+        MapperResult            result   = mapWithTokenMap("json-mapper/parallel-content.json", tokenMap);
+
+        // verify
+        String html = HtmlMapper.map(result.getContainers().get(0));
+
+        assertTrue(html.contains("id=\"row-0\""));
+        assertTrue(html.contains("id=\"row-2\""));
+        assertTrue(html.indexOf(">a<") < html.indexOf(">b<"));
+        assertTrue(html.indexOf(">b<") < html.indexOf(">c<"));
+        assertTrue(closed.get());
+    }
+
     @Test
     void test_map_resolveUid()
     {
@@ -360,6 +764,38 @@ public class JsonMapperTest
         assertTrue(checkDivTags(html));
     }
 
+    @Test
+    void test_map_Button_functionPlaceholder()
+    {
+        // setup
+        TokenMap     tokenMap  =
+            TokenMap
+                .builder()
+                .function("click", new CloseModal())
+                .build();
+
+        JsonMapper   mapper    =
+            JsonMapper
+                .builder()
+                .srcPath("json-mapper/container/button-function-container.json")
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(translationProvider)
+                .flatMappableDissector(flatMappableDissector)
+                .tokenMap(tokenMap)
+                .build();
+
+        // run
+        MapperResult result    = mapper.map();
+
+        // verify
+        Container    container = result.getContainers().get(0);
+        assertEquals(Button.class, container.getClass());
+
+        Button button = (Button) container;
+        assertEquals(new CloseModal().parseAsJS(), button.getOnClick());
+    }
+
     // @Test
     void test_map_ButtonBarContainer()
     {
@@ -1117,4 +1553,20 @@ public class JsonMapperTest
         String html = HtmlMapper.map(container);
         assertTrue(checkDivTags(html));
     }
+
+    public static final class Row implements FlatMappable
+    {
+
+        private final String name;
+
+        Row(String name)
+        {
+            this.name = name;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+    }
 }
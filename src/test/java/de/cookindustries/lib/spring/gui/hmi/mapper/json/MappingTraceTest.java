@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MappingTraceTest
+{
+
+    @Test
+    void test_record()
+    {
+        // setup
+        MappingTrace trace = new MappingTrace(4);
+
+        // run
+        trace.record("m1", 2, "transform [{}] as [{}]", "text", String.class);
+
+        // verify
+        List<MappingTrace.Event> events = trace.getEvents();
+
+        assertEquals(1, events.size());
+        assertEquals("transform [text] as [String]", events.get(0).getText());
+        assertEquals("[m1]:[2]: transform [text] as [String]", events.get(0).toString());
+        assertEquals(0L, trace.getDropped());
+    }
+
+    @Test
+    void test_record_overflow()
+    {
+        // setup
+        MappingTrace trace = new MappingTrace(2);
+
+        // run
+        trace.record("m1", 0, "first");
+        trace.record("m1", 0, "second");
+        trace.record("m1", 0, "third");
+
+        // verify
+        List<MappingTrace.Event> events = trace.getEvents();
+
+        assertEquals(2, events.size());
+        assertEquals("second", events.get(0).getText());
+        assertEquals("third", events.get(1).getText());
+        assertEquals(1L, trace.getDropped());
+    }
+
+    @Test
+    void test_constructor_invalidCapacity()
+    {
+        // run & verify
+        assertThrows(IllegalArgumentException.class, () -> new MappingTrace(0));
+    }
+}
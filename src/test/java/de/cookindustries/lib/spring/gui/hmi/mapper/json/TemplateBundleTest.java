@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+class TemplateBundleTest
+{
+
+    @Test
+    void test_write_open()
+    {
+        // setup
+        PseudoElement  template =
+            PseudoElement
+                .builder()
+                .type("CONTENT")
+                .uid("root")
+                .classes(List.of("a", "$$class$b"))
+                .attribute("key", "value")
+                .parameter("text", "$$text$title")
+                .parameter("size", 2)
+                .parameter("big", 3_000_000_000L)
+                .parameter("ratio", 0.5d)
+                .parameter("active", true)
+                .parameter("list", List.of("x", 1))
+                .parameter("map", Map.of("k", "v"))
+                .child(
+                    PseudoElement
+                        .builder()
+                        .type("TEXT")
+                        .build())
+                .build();
+
+        // run
+        TemplateBundle bundle   = writeAndOpen(Map.of("page.json", template));
+        PseudoElement  decoded  = bundle.decode("page.json");
+
+        // verify
+        assertEquals(Set.of("page.json"), bundle.getPaths());
+        assertEquals("root", decoded.getUid());
+        assertEquals("CONTENT", decoded.getType());
+        assertEquals(template.getClasses(), decoded.getClasses());
+        assertEquals(template.getAttributes(), decoded.getAttributes());
+        assertEquals(template.getParameters(), decoded.getParameters());
+        assertEquals(1, decoded.getChildren().size());
+        assertNull(decoded.getChildren().get(0).getUid());
+    }
+
+    @Test
+    void test_decode_unknown()
+    {
+        // setup
+        TemplateBundle bundle = writeAndOpen(Map.of());
+
+        // run & verify
+        assertThrows(IllegalArgumentException.class, () -> bundle.decode("unknown.json"));
+    }
+
+    @Test
+    void test_open_noBundle()
+    {
+        // setup
+        ByteArrayResource resource = new ByteArrayResource(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+        // run & verify
+        assertThrows(IOException.class, () -> TemplateBundle.open(resource));
+    }
+
+    @Test
+    void test_writer_run() throws IOException
+    {
+        // setup
+        Path                  directory = Files.createTempDirectory("templates");
+        Path                  target    = directory.resolve("templates.bundle");
+        ByteArrayOutputStream out       = new ByteArrayOutputStream();
+        Files.createDirectories(directory.resolve("sub"));
+        Files.writeString(directory.resolve("page.json"), "{\"type\": \"COMPONENT\", \"parameters\": {\"path\": \"missing.json\"}}");
+        Files.writeString(directory.resolve("sub/part.json"), "{\"type\": \"TEXT\"}");
+
+        // run
+        int                   status    =
+            TemplateBundleWriter.run(new String[] { directory.toString(), target.toString() }, new PrintStream(out), new PrintStream(out));
+
+        // verify
+        assertEquals(0, status);
+        assertEquals(Set.of("page.json", "sub/part.json"), TemplateBundle.open(new FileSystemResource(target)).getPaths());
+        assertTrue(out.toString().contains("[page.json] links to [missing.json]"));
+    }
+
+    @Test
+    void test_writer_run_invalid() throws IOException
+    {
+        // setup
+        Path                  directory = Files.createTempDirectory("templates");
+        Path                  target    = directory.resolve("templates.bundle");
+        ByteArrayOutputStream out       = new ByteArrayOutputStream();
+        Files.writeString(directory.resolve("broken.json"), "{\"type\": ");
+
+        // run
+        int                   status    =
+            TemplateBundleWriter.run(new String[] { directory.toString(), target.toString() }, new PrintStream(out), new PrintStream(out));
+
+        // verify
+        assertEquals(1, status);
+        assertTrue(out.toString().contains("[broken.json]"));
+        assertTrue(Arrays.stream(directory.toFile().list()).noneMatch("templates.bundle"::equals));
+    }
+
+    private static TemplateBundle writeAndOpen(Map<String, PseudoElement> templates)
+    {
+        try
+        {
+            Path file = Files.createTempFile("templates", ".bundle");
+
+            TemplateBundle.write(templates, file);
+
+            return TemplateBundle.open(new FileSystemResource(file));
+        }
+        catch (IOException ex)
+        {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.hmi.container.ContainerType;
+import de.cookindustries.lib.spring.gui.hmi.input.InputType;
+
+class TemplateCompilerTest
+{
+
+    @Test
+    void test_compile_resolvesTypes()
+    {
+        // setup
+        PseudoElement element =
+            PseudoElement
+                .builder()
+                .type("content")
+                .child(
+                    PseudoElement
+                        .builder()
+                        .type("textfield")
+                        .build())
+                .child(
+                    PseudoElement
+                        .builder()
+                        .type("unknown")
+                        .build())
+                .build();
+
+        // run
+        CompiledElement compiled = TemplateCompiler.compile(element);
+
+        // verify
+        assertEquals(TemplateRenderers.fingerprint(element), compiled.getFingerprint());
+        assertEquals(0L, compiled.getChildren().get(0).getFingerprint());
+        assertEquals(ContainerType.CONTENT, compiled.getContainerType());
+        assertNull(compiled.getInputType());
+        assertEquals(2, compiled.getChildren().size());
+        assertEquals(InputType.TEXTFIELD, compiled.getChildren().get(0).getInputType());
+        assertNull(compiled.getChildren().get(1).getContainerType());
+        assertNull(compiled.getChildren().get(1).getInputType());
+    }
+
+    @Test
+    void test_compile_classifiesParameters()
+    {
+        // setup
+        PseudoElement element =
+            PseudoElement
+                .builder()
+                .type("text")
+                .parameter("text", "$$text$key")
+                .parameter("tooltip", "$$value$tip")
+                .parameter("size", "12")
+                .parameter("inline", true)
+                .parameter("other", "$$unknown")
+                .build();
+
+        // run
+        Map<String, ValueSlot> parameters = TemplateCompiler.compile(element).getParameters();
+
+        // verify
+        assertEquals(SlotType.TEXT, parameters.get("text").getType());
+        assertEquals("key", parameters.get("text").getKey());
+        assertEquals(SlotType.VALUE, parameters.get("tooltip").getType());
+        assertEquals("tip", parameters.get("tooltip").getKey());
+        assertEquals(SlotType.LITERAL, parameters.get("size").getType());
+        assertEquals(12, parameters.get("size").getIntegerValue());
+        assertEquals(12d, parameters.get("size").getDoubleValue());
+        assertEquals(SlotType.LITERAL, parameters.get("inline").getType());
+        assertEquals(Boolean.TRUE, parameters.get("inline").getRaw());
+        assertEquals(SlotType.UNKNOWN, parameters.get("other").getType());
+    }
+
+    @Test
+    void test_compile_staticClassesAndAttributes()
+    {
+        // setup
+        PseudoElement element =
+            PseudoElement
+                .builder()
+                .uid("my uid.1")
+                .type("text")
+                .classes(List.of("a", " ", "b"))
+                .attribute("data key", "\"value\"")
+                .build();
+
+        // run
+        CompiledElement compiled = TemplateCompiler.compile(element);
+
+        // verify
+        assertEquals(SlotType.LITERAL, compiled.getUidSlot().getType());
+        assertEquals("my-uid-1", compiled.getUidSlot().getText());
+        assertEquals(List.of("a", "b"), compiled.getStaticClasses());
+        assertEquals(Map.of("data-key", "value"), compiled.getStaticAttributes());
+    }
+
+    @Test
+    void test_compile_dynamicClassesAndAttributes()
+    {
+        // setup
+        PseudoElement element =
+            PseudoElement
+                .builder()
+                .uid("$$value$uid")
+                .type("text")
+                .classes(List.of("a", "$$class$b"))
+                .attribute("key", "$$value$val")
+                .build();
+
+        // run
+        CompiledElement compiled = TemplateCompiler.compile(element);
+
+        // verify
+        assertEquals(SlotType.VALUE, compiled.getUidSlot().getType());
+        assertEquals("uid", compiled.getUidSlot().getKey());
+        assertNull(compiled.getStaticClasses());
+        assertNull(compiled.getStaticAttributes());
+        assertEquals(SlotType.CLASS, compiled.getClasses().get(1).getType());
+        assertEquals("b", compiled.getClasses().get(1).getKey());
+        assertTrue(compiled.getAttributes().get(0).value().getType().isDynamic());
+        assertFalse(compiled.getAttributes().get(0).key().getType().isDynamic());
+    }
+
+    @Test
+    void test_compile_constant()
+    {
+        // setup
+        PseudoElement element =
+            PseudoElement
+                .builder()
+                .uid("root")
+                .type("content")
+                .child(
+                    PseudoElement
+                        .builder()
+                        .uid("static")
+                        .type("text")
+                        .parameter("text", "static")
+                        .build())
+                .child(
+                    PseudoElement
+                        .builder()
+                        .type("text")
+                        .parameter("text", "no uid")
+                        .build())
+                .child(
+                    PseudoElement
+                        .builder()
+                        .uid("dynamic")
+                        .type("text")
+                        .parameter("text", "$$value$text")
+                        .build())
+                .child(
+                    PseudoElement
+                        .builder()
+                        .uid("active")
+                        .type("text")
+                        .parameter("active", "true")
+                        .build())
+                .build();
+
+        // run
+        CompiledElement compiled = TemplateCompiler.compile(element);
+
+        // verify
+        assertFalse(compiled.isConstant());
+        assertTrue(compiled.getChildren().get(0).isConstant());
+        assertFalse(compiled.getChildren().get(1).isConstant());
+        assertFalse(compiled.getChildren().get(2).isConstant());
+        assertFalse(compiled.getChildren().get(3).isConstant());
+        assertNull(compiled.getChildren().get(0).getFolded());
+    }
+
+    @Test
+    void test_inline()
+    {
+        // setup
+        CompiledElement part     =
+            TemplateCompiler.compile(
+                PseudoElement
+                    .builder()
+                    .type("text")
+                    .parameter("text", "part")
+                    .build());
+        CompiledElement element  =
+            TemplateCompiler.compile(
+                PseudoElement
+                    .builder()
+                    .type("content")
+                    .child(
+                        PseudoElement
+                            .builder()
+                            .type("COMPONENT")
+                            .parameter("path", "part.json")
+                            .build())
+                    .child(
+                        PseudoElement
+                            .builder()
+                            .type("COMPONENT")
+                            .parameter("path", "part.json")
+                            .parameter("sourceKey", "source")
+                            .build())
+                    .child(
+                        PseudoElement
+                            .builder()
+                            .type("COMPONENT")
+                            .parameter("path", "missing.json")
+                            .build())
+                    .build());
+
+        // run
+        CompiledElement inlined  = TemplateCompiler.inline(element, Map.of("part.json", part)::get);
+
+        // verify
+        assertEquals(ContainerType.TEXT, inlined.getChildren().get(0).getContainerType());
+        assertEquals("part.json", inlined.getChildren().get(0).getIncludePath());
+        assertSame(part.getParameters(), inlined.getChildren().get(0).getParameters());
+        assertNull(part.getIncludePath());
+        assertEquals(InternalElementType.COMPONENT, inlined.getChildren().get(1).getInternalType());
+        assertEquals(InternalElementType.COMPONENT, inlined.getChildren().get(2).getInternalType());
+        assertEquals(3 + part.getNodeCount(), inlined.getNodeCount());
+        assertSame(part, TemplateCompiler.inline(part, path -> null));
+    }
+}
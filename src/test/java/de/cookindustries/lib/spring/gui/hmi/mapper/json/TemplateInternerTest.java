@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TemplateInternerTest
+{
+
+    private static PseudoElement button(String text)
+    {
+        return PseudoElement
+            .builder()
+            .type("BUTTON")
+            .classes(List.of(new String("btn"), new String("btn-primary")))
+            .parameter(new String("text"), new String(text))
+            .build();
+    }
+
+    private static PseudoElement form(String text)
+    {
+        return PseudoElement
+            .builder()
+            .uid("form")
+            .type("FORM")
+            .child(button(text))
+            .child(button("cancel"))
+            .build();
+    }
+
+    @Test
+    void test_intern_identicalTrees()
+    {
+        // setup
+        TemplateInterner interner = new TemplateInterner();
+
+        // run
+        PseudoElement    first    = interner.intern(form("save"));
+        PseudoElement    second   = interner.intern(form("save"));
+
+        // verify
+        assertSame(first, second);
+        assertEquals(3L, interner.getStats().sharedTrees());
+        assertEquals(0L, interner.getStats().sharedPlans());
+        assertTrue(interner.getStats().savedBytes() > 0);
+    }
+
+    @Test
+    void test_intern_sharedSubtreesAndStrings()
+    {
+        // setup
+        TemplateInterner interner = new TemplateInterner();
+
+        // run
+        PseudoElement    first    = interner.intern(form("save"));
+        PseudoElement    second   = interner.intern(form("send"));
+
+        // verify
+        assertNotSame(first, second);
+        assertNotSame(first.getChildren().get(0), second.getChildren().get(0));
+        assertSame(first.getChildren().get(1), second.getChildren().get(1));
+        assertSame(first.getChildren().get(0).getClasses().get(0), second.getChildren().get(0).getClasses().get(0));
+        assertEquals("send", second.getChildren().get(0).getParameters().get("text"));
+    }
+
+    @Test
+    void test_compile_sharedPlans()
+    {
+        // setup
+        TemplateInterner interner = new TemplateInterner();
+        PseudoElement    save     = interner.intern(form("save"));
+        PseudoElement    send     = interner.intern(form("send"));
+        long             bytes    = interner.getStats().savedBytes();
+
+        // run
+        CompiledElement  first    = TemplateCompiler.compile(save, null, interner);
+        CompiledElement  second   = TemplateCompiler.compile(send, null, interner);
+
+        // verify
+        assertNotSame(first, second);
+        assertNotSame(first.getChildren().get(0), second.getChildren().get(0));
+        assertSame(first.getChildren().get(1), second.getChildren().get(1));
+        assertEquals(2L, interner.getStats().sharedPlans());
+        assertTrue(interner.getStats().savedBytes() > bytes);
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.config.properties.CiLibProperties;
+import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesPathProperties;
+import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesProperties;
+import de.cookindustries.lib.spring.gui.hmi.mapper.html.HtmlMapper;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappable;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableDissector;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableList;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
+import de.cookindustries.lib.spring.gui.hmi.util.TemplateFileCache;
+import de.cookindustries.lib.spring.gui.hmi.util.UidStrategies;
+import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
+
+class TemplateRendererGeneratorTest
+{
+
+    public record Item(String name) implements FlatMappable
+    {
+    }
+
+    private static final String PATH = "json-mapper/renderer-page.json";
+
+    private TemplateFileCache   templateFileCache;
+
+    @BeforeEach
+    public void init()
+    {
+        CiLibResourcesPathProperties resPath = new CiLibResourcesPathProperties();
+        resPath.setTemplates("json-test-files");
+
+        CiLibResourcesProperties res = new CiLibResourcesProperties();
+        res.setPath(resPath);
+
+        CiLibProperties properties = new CiLibProperties();
+        properties.setResources(res);
+
+        templateFileCache = new TemplateFileCache(properties);
+        templateFileCache.init();
+    }
+
+    private String map(TemplateRenderers renderers)
+    {
+        TokenMap tokenMap =
+            TokenMap
+                .builder()
+                .value("title", "Welcome")
+                .value("name", "Jane")
+                .deactivateUid("hidden")
+                .build();
+
+        return map(PATH, tokenMap, renderers);
+    }
+
+    private String map(String path, TokenMap tokenMap, TemplateRenderers renderers)
+    {
+        return HtmlMapper.map(
+            JsonMapper
+                .builder()
+                .srcPath(path)
+                .locale(Locale.ENGLISH)
+                .templateFileCache(templateFileCache)
+                .translationProvider(new StaticTranslationProvider())
+                .flatMappableDissector(new FlatMappableDissector(new StaticTranslationProvider()))
+                .tokenMap(tokenMap)
+                .uidStrategy(UidStrategies.deterministic())
+                .renderers(renderers)
+                .build()
+                .map()
+                .getContainers())
+            .get(0);
+    }
+
+    private static TemplateRenderer compile(String path, PseudoElement template, String className) throws Exception
+    {
+        Path directory = Files.createTempDirectory("renderers");
+        Path source    = directory.resolve("gen/" + className + ".java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, TemplateRendererGenerator.generate(path, template, "gen", className));
+
+        assertEquals(0, ToolProvider
+            .getSystemJavaCompiler()
+            .run(null, null, null, "-d", directory.toString(), "-cp", System.getProperty("java.class.path"), source.toString()));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, TemplateRendererGeneratorTest.class
+            .getClassLoader()))
+        {
+            return (TemplateRenderer) loader.loadClass("gen." + className).getDeclaredConstructor().newInstance();
+        }
+    }
+
+    @Test
+    void test_className()
+    {
+        // run & verify
+        assertEquals("JsonMapperRendererPageRenderer", TemplateRendererGenerator.className(PATH));
+        assertEquals("Template1stRenderer", TemplateRendererGenerator.className("1st.json"));
+    }
+
+    @Test
+    void test_generate_unsupported()
+    {
+        // setup
+        PseudoElement form   =
+            PseudoElement
+                .builder()
+                .type("FORM")
+                .build();
+        PseudoElement active =
+            PseudoElement
+                .builder()
+                .type("TEXT")
+                .parameter("text", "text")
+                .parameter("active", "$$value$active")
+                .build();
+
+        // run & verify
+        assertThrows(IllegalArgumentException.class, () -> TemplateRendererGenerator.generate("form.json", form, "gen", "Form"));
+        assertThrows(IllegalArgumentException.class, () -> TemplateRendererGenerator.generate("active.json", active, "gen", "Active"));
+    }
+
+    @Test
+    void test_render_sameAsTransform() throws Exception
+    {
+        // setup
+        PseudoElement     template  = templateFileCache.getTemplateTo(PATH);
+        TemplateRenderers renderers = new TemplateRenderers(List.of(compile(PATH, template, "PageRenderer")));
+
+        // run
+        String            rendered  = map(renderers);
+        String            mapped    = map(TemplateRenderers.NONE);
+
+        // verify
+        assertNotNull(renderers.get(PATH, templateFileCache.getCompiledTemplateTo(PATH).getFingerprint()));
+        assertNull(renderers.get(PATH, TemplateRenderers.fingerprint(template.toBuilder().type("TEXT").build())));
+        assertEquals(mapped, rendered);
+        assertTrue(rendered.contains("Welcome"));
+        assertTrue(!rendered.contains("hidden"));
+    }
+
+    @Test
+    void test_render_transformUnsupported() throws Exception
+    {
+        // setup
+        String            path      = "json-mapper/renderer-mixed.json";
+        PseudoElement     template  = templateFileCache.getTemplateTo(path);
+        String            source    = TemplateRendererGenerator.generate(path, template, "gen", "MixedRenderer");
+        TemplateRenderers renderers = new TemplateRenderers(List.of(compile(path, template, "MixedRenderer")));
+        TokenMap          tokenMap  =
+            TokenMap
+                .builder()
+                .value("title", "Welcome")
+                .value("rows", new FlatMappableList<>(List.of(new Item("a"), new Item("b"))))
+                .build();
+
+        // run
+        String            rendered  = map(path, tokenMap, renderers);
+        String            mapped    = map(path, tokenMap, TemplateRenderers.NONE);
+
+        // verify
+        assertTrue(source.contains("context.transform(1)"));
+        assertTrue(source.contains("context.transform(2, 1)"));
+        assertEquals(mapped, rendered);
+        assertTrue(rendered.indexOf(">a<") < rendered.indexOf(">b<"));
+        assertTrue(rendered.contains("save()"));
+    }
+
+    @Test
+    void test_run() throws IOException
+    {
+        // setup
+        Path                  directory = Files.createTempDirectory("templates");
+        Path                  target    = Files.createTempDirectory("renderers");
+        ByteArrayOutputStream out       = new ByteArrayOutputStream();
+        ByteArrayOutputStream err       = new ByteArrayOutputStream();
+        Files.writeString(directory.resolve("text.json"), "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"$$value$text\"}}");
+        Files.writeString(directory.resolve("form.json"), "{\"type\": \"FORM\"}");
+
+        String[]              args      = {directory.toString(), target.resolve("java").toString(),
+            target.resolve("resources").toString(), "gen"};
+
+        // run
+        int                   all       = TemplateRendererGenerator.run(args, new PrintStream(out), new PrintStream(err));
+        int                   selected  =
+            TemplateRendererGenerator.run(new String[] {args[0], args[1], args[2], args[3], "form.json"}, new PrintStream(out),
+                new PrintStream(err));
+
+        // verify
+        assertEquals(0, all);
+        assertEquals(1, selected);
+        assertTrue(Files.exists(target.resolve("java/gen/TextRenderer.java")));
+        assertEquals(List.of("gen.TextRenderer"),
+            Files.readAllLines(target.resolve("resources/META-INF/services/" + TemplateRenderer.class.getName())));
+        assertTrue(err.toString().contains("[form.json]"));
+    }
+}
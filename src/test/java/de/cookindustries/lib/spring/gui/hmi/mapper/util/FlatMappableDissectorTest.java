@@ -9,14 +9,21 @@ package de.cookindustries.lib.spring.gui.hmi.mapper.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
+import lombok.Builder;
 
 class FlatMappableDissectorTest
 {
@@ -64,6 +71,181 @@ class FlatMappableDissectorTest
         }
     }
 
+    private static class BaseObject implements FlatMappable
+    {
+
+        public Object getName()
+        {
+            return "base";
+        }
+
+        public String getInherited()
+        {
+            return "inherited";
+        }
+    }
+
+    private static class DerivedObject extends BaseObject
+    {
+
+        @Override
+        public String getName()
+        {
+            return "derived";
+        }
+
+        public String getBroken()
+        {
+            throw new IllegalStateException();
+        }
+
+        public String label()
+        {
+            return "label";
+        }
+
+        public String hidden()
+        {
+            return "hidden";
+        }
+
+        @Override
+        public List<String> includedMethods()
+        {
+            return List.of("label");
+        }
+    }
+
+    public static class Address
+    {
+
+        private final AtomicInteger reads;
+
+        Address(AtomicInteger reads)
+        {
+            this.reads = reads;
+        }
+
+        public String getCity()
+        {
+            reads.incrementAndGet();
+
+            return "Berlin";
+        }
+
+        public String getStreet()
+        {
+            reads.incrementAndGet();
+
+            return "$$text$street";
+        }
+    }
+
+    public static class Customer implements FlatMappable
+    {
+
+        private final AtomicInteger      reads  = new AtomicInteger();
+        private final List<FlatMappable> orders = List.of(new TestObjectHolder());
+
+        public Address getAddress()
+        {
+            return new Address(reads);
+        }
+
+        public Map<String, Object> getAttributes()
+        {
+            return Map.of("color", "red", "dotted.key", "dotted", "home", new Address(reads));
+        }
+
+        public List<FlatMappable> getOrders()
+        {
+            return orders;
+        }
+
+        public String getName()
+        {
+            return "customer";
+        }
+    }
+
+    public static class TestObjectHolder implements FlatMappable
+    {
+
+    }
+
+    @ImmutableFlatMappable
+    public static class Country implements FlatMappable
+    {
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        public String getName()
+        {
+            reads.incrementAndGet();
+
+            return "$$text$germany";
+        }
+    }
+
+    @ImmutableFlatMappable
+    public static class Catalogue implements FlatMappable
+    {
+
+        private final List<Product> products = new ArrayList<>();
+
+        public List<Product> getProducts()
+        {
+            return products;
+        }
+    }
+
+    public static class Product implements FlatMappable
+    {
+
+        private final Catalogue catalogue;
+
+        public Product(Catalogue catalogue)
+        {
+            this.catalogue = catalogue;
+        }
+
+        public Catalogue getCatalogue()
+        {
+            return catalogue;
+        }
+    }
+
+    @Builder
+    public static class Label implements FlatMappable
+    {
+
+        private final String text;
+
+        public static String getDefaultText()
+        {
+            return "default";
+        }
+
+        public String getText()
+        {
+            return text;
+        }
+    }
+
+    public record Invoice(String number, int amount, Address billing) implements FlatMappable
+    {
+
+        public String getNumber()
+        {
+            return "shadowed";
+        }
+
+        public String getCurrency()
+        {
+            return "EUR";
+        }
+    }
+
     @Test
     void test_valueTransfer()
     {
@@ -93,4 +275,179 @@ class FlatMappableDissectorTest
         // verify
         assertNotNull(tokenMap);
     }
+
+    @Test
+    void test_accessorPlan()
+    {
+        // setup
+        DerivedObject derived  = new DerivedObject();
+
+        // run
+        TokenMap      tokenMap = flatMappableDissector.dissect(derived, 0, Locale.ENGLISH);
+
+        // verify
+        assertSame(AccessorPlan.of(DerivedObject.class), AccessorPlan.of(DerivedObject.class));
+        assertEquals(1L, AccessorPlan
+            .of(DerivedObject.class)
+            .getAccessors()
+            .stream()
+            .filter(accessor -> accessor.fieldName().equals("name"))
+            .count());
+        assertEquals("derived", tokenMap.getValue("name"));
+        assertEquals("inherited", tokenMap.getValue("inherited"));
+        assertEquals("label", tokenMap.getValue("label"));
+        assertNull(tokenMap.getValue("hidden"));
+        assertNull(tokenMap.getValue("broken"));
+        assertNull(tokenMap.getValue("class"));
+    }
+
+    @Test
+    void test_dissectLazily()
+    {
+        // setup
+        Customer      customer = new Customer();
+        List<String>  keys     =
+            List.of("name", "address.city", "address.street", "attributes.color", "attributes.dotted.key", "attributes.home.city",
+                "orders", "address", "attributes", "missing", "address.missing", "name.length");
+
+        // run
+        TokenMap      eager    = flatMappableDissector.dissect(customer, 0, Locale.ENGLISH);
+        int           read     = customer.reads.getAndSet(0);
+        TokenMap      lazy     = flatMappableDissector.dissectLazily(customer, 0, Locale.ENGLISH);
+        Object        city     = lazy.getValue("address.city");
+        int           lazyRead = customer.reads.get();
+
+        // verify
+        assertEquals(4, read);
+        assertEquals(1, lazyRead);
+        assertEquals("Berlin", city);
+        assertEquals(eager.getPresedence(), lazy.getPresedence());
+
+        for (String key : keys)
+        {
+            assertEquals(eager.getValue(key), lazy.getValue(key), key);
+        }
+
+        assertEquals(3, customer.reads.get());
+        assertNotNull(lazy.getValue("orders"));
+        assertNull(lazy.getValue("address"));
+    }
+
+    @Test
+    void test_dissectAll()
+    {
+        // setup
+        List<FlatMappable> rows  = new ArrayList<>(List.of(new Customer(), new TestObject(), new Customer()));
+        rows.add(1, null);
+        List<String>       keys  =
+            List.of("name", "address.city", "attributes.color", "attributes.home.street", "orders", "strVal", "intVal", "boolVal");
+
+        // run
+        FlatMappableTable  table = flatMappableDissector.dissectAll(rows, Locale.ENGLISH);
+
+        // verify
+        assertEquals(4, table.size());
+        assertNull(table.row(1));
+
+        for (int i : List.of(0, 2, 3))
+        {
+            TokenMap    expected = flatMappableDissector.dissect(rows.get(i), 0, Locale.ENGLISH);
+            TokenSource row      = table.row(i);
+
+            for (String key : keys)
+            {
+                assertEquals(expected.getValue(key), row.getValue(key), key);
+            }
+        }
+
+        assertNull(table.row(2).getValue("name"));
+        assertEquals(Integer.valueOf(-156), table.row(2).getValue("intVal"));
+    }
+
+    @Test
+    void test_dissect_immutableCached()
+    {
+        // setup
+        Country    country = new Country();
+        Country    other   = new Country();
+        TestObject mutable = new TestObject();
+
+        // run
+        TokenMap   first   = flatMappableDissector.dissect(country, 0, Locale.ENGLISH);
+        TokenMap   second  = flatMappableDissector.dissect(country, 0, Locale.ENGLISH);
+        TokenMap   german  = flatMappableDissector.dissect(country, 0, Locale.GERMAN);
+        TokenMap   nested  = flatMappableDissector.dissect(country, 1, Locale.ENGLISH);
+        TokenMap   another = flatMappableDissector.dissect(other, 0, Locale.ENGLISH);
+
+        // verify
+        assertSame(first, second);
+        assertNotSame(first, german);
+        assertNotSame(first, nested);
+        assertNotSame(first, another);
+        assertEquals(first.getValue("name"), another.getValue("name"));
+        assertEquals(3, country.reads.get());
+        assertEquals(2, flatMappableDissector.getCachedCount());
+        assertNotSame(flatMappableDissector.dissect(mutable, 0, Locale.ENGLISH), flatMappableDissector.dissect(mutable, 0, Locale.ENGLISH));
+    }
+
+    @Test
+    void test_dissect_immutableBackReference()
+    {
+        // setup
+        Catalogue referenced = new Catalogue();
+        Catalogue plain      = new Catalogue();
+
+        referenced.products.add(new Product(referenced));
+        plain.products.add(new Product(null));
+
+        // run
+        TokenMap  first      = flatMappableDissector.dissect(referenced, 0, Locale.ENGLISH);
+        TokenMap  second     = flatMappableDissector.dissect(referenced, 0, Locale.ENGLISH);
+        TokenMap  cached     = flatMappableDissector.dissect(plain, 0, Locale.ENGLISH);
+
+        // verify
+        assertNotSame(first, second);
+        assertSame(cached, flatMappableDissector.dissect(plain, 0, Locale.ENGLISH));
+        assertEquals(1, flatMappableDissector.getCachedCount());
+    }
+
+    @Test
+    void test_dissect_builder()
+    {
+        // setup
+        Label    label  = Label.builder().text("label").build();
+
+        // run
+        TokenMap result = flatMappableDissector.dissect(label, 0, Locale.ENGLISH);
+
+        // verify
+        assertEquals("label", result.getValue("text"));
+        assertEquals("default", result.getValue("defaultText"));
+        assertNull(result.getValue("builder"));
+    }
+
+    @Test
+    void test_dissect_record()
+    {
+        // setup
+        Invoice                     invoice   = new Invoice("R-1", 42, new Address(new AtomicInteger()));
+        List<AccessorPlan.Accessor> accessors = AccessorPlan.of(Invoice.class).getAccessors();
+
+        // run
+        TokenMap                    eager     = flatMappableDissector.dissect(invoice, 0, Locale.ENGLISH);
+        TokenMap                    lazy      = flatMappableDissector.dissectLazily(invoice, 0, Locale.ENGLISH);
+
+        // verify
+        assertEquals(List.of("number", "amount", "billing"),
+            accessors.subList(accessors.size() - 3, accessors.size()).stream().map(AccessorPlan.Accessor::fieldName).toList());
+        assertEquals("R-1", eager.getValue("number"));
+        assertEquals(42, eager.getValue("amount"));
+        assertEquals("Berlin", eager.getValue("billing.city"));
+        assertEquals("EUR", eager.getValue("currency"));
+
+        for (String key : List.of("number", "amount", "billing.city", "billing.street", "currency"))
+        {
+            assertEquals(eager.getValue(key), lazy.getValue(key), key);
+        }
+    }
 }
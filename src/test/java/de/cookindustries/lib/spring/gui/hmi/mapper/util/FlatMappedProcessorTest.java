@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
+
+class FlatMappedProcessorTest
+{
+
+    private static final String ROW_SOURCE =
+        """
+            package gen;
+
+            import java.util.List;
+            import java.util.Map;
+
+            import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappable;
+            import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMapped;
+
+            @FlatMapped
+            public class Row implements FlatMappable
+            {
+                public String getName() { return "row"; }
+                public int getCount() { return 3; }
+                public boolean isActive() { return true; }
+                public Map<String, String> getExtra() { return Map.of("key", "value"); }
+                public Nested getNested() { return new Nested(); }
+                public Point getPoint() { return new Point(1, "origin"); }
+                public String label() { return "label"; }
+                public String hidden() { return "hidden"; }
+                public String getBroken() { throw new IllegalStateException(); }
+                public String getClassLoader() { return "blacklisted"; }
+                public String getWithParameter(int i) { return "parameter"; }
+                @Override
+                public List<String> includedMethods() { return List.of("label"); }
+
+                @FlatMapped
+                public static class Nested
+                {
+                    public String getValue() { return "nested"; }
+                }
+
+                @FlatMapped
+                public record Point(int x, String label)
+                {
+                    public String getLabel() { return "shadowed"; }
+                }
+            }
+            """;
+
+    private static final List<String> KEYS =
+        List.of("name", "count", "active", "extra.key", "nested.value", "point.x", "point.label", "label", "hidden", "broken", "classLoader", "withParameter");
+
+    private static int compile(Path directory, String name, String source) throws Exception
+    {
+        Path file = directory.resolve("src").resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source);
+
+        Path classes = directory.resolve("classes");
+        Files.createDirectories(classes);
+
+        return ToolProvider
+            .getSystemJavaCompiler()
+            .run(null, null, new ByteArrayOutputStream(), "-processor", FlatMappedProcessor.class.getName(),
+                "-d", classes.toString(), "-s", directory.resolve("src").toString(), "-cp", System.getProperty("java.class.path"),
+                file.toString());
+    }
+
+    @Test
+    void test_generate_sameAsReflection() throws Exception
+    {
+        // setup
+        Path                         directory = Files.createTempDirectory("dissectors");
+        assertEquals(0, compile(directory, "gen/Row.java", ROW_SOURCE));
+
+        List<FlatMappedDissector<?>> loaded    = new ArrayList<>();
+        URLClassLoader               loader    =
+            new URLClassLoader(new URL[] {directory.resolve("classes").toUri().toURL()}, getClass().getClassLoader());
+        ServiceLoader.load(FlatMappedDissector.class, loader).forEach(loaded::add);
+
+        Class<?>                     rowClass  = loader.loadClass("gen.Row");
+        Class<?>                     nested    = loader.loadClass("gen.Row$Nested");
+        FlatMappable                 row       = (FlatMappable) rowClass.getDeclaredConstructor().newInstance();
+        FlatMappedDissectors         registry  = new FlatMappedDissectors(loaded);
+
+        // run
+        TokenMap                     generated =
+            new FlatMappableDissector(new StaticTranslationProvider(), registry).dissect(row, 0, Locale.ENGLISH);
+        TokenMap                     reflected =
+            new FlatMappableDissector(new StaticTranslationProvider(), FlatMappedDissectors.NONE).dissect(row, 0, Locale.ENGLISH);
+
+        loader.close();
+
+        // verify
+        assertEquals(3, loaded.size());
+        assertEquals(List.of("gen.Row_FlatMapped", "gen.Row_Nested_FlatMapped", "gen.Row_Point_FlatMapped"),
+            Files.readAllLines(directory.resolve("classes/META-INF/services/" + FlatMappedDissector.class.getName())));
+        assertNotNull(registry.get(rowClass));
+        assertEquals("gen.Row_FlatMapped", registry.get(rowClass).getClass().getName());
+        assertNotNull(registry.get(nested));
+
+        for (String key : KEYS)
+        {
+            assertEquals(reflected.getValue(key), generated.getValue(key), key);
+        }
+
+        assertEquals("row", generated.getValue("name"));
+        assertEquals(3, generated.getValue("count"));
+        assertEquals("value", generated.getValue("extra.key"));
+        assertEquals("nested", generated.getValue("nested.value"));
+        assertEquals(1, generated.getValue("point.x"));
+        assertEquals("origin", generated.getValue("point.label"));
+        assertEquals("label", generated.getValue("label"));
+        assertNull(generated.getValue("hidden"));
+        assertNull(generated.getValue("broken"));
+        assertNull(generated.getValue("classLoader"));
+    }
+
+    @Test
+    void test_generate_unsupported() throws Exception
+    {
+        // setup
+        Path   directory = Files.createTempDirectory("dissectors");
+        String source    =
+            """
+                package gen;
+
+                import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMapped;
+
+                public class Outer
+                {
+                    @FlatMapped
+                    public class Inner
+                    {
+                        public String getValue() { return "inner"; }
+                    }
+                }
+                """;
+
+        // run & verify
+        assertNotEquals(0, compile(directory, "gen/Outer.java", source));
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.function.VoidCall;
+
+class TokenLayerTest
+{
+
+    @Test
+    void test_of_firstMapWins()
+    {
+        // setup
+        VoidCall function = new VoidCall();
+        TokenMap first    =
+            TokenMap
+                .builder()
+                .value("key", "first")
+                .clazz("class", "first")
+                .build();
+        TokenMap second   =
+            TokenMap
+                .builder()
+                .value("key", "second")
+                .value("other", "second")
+                .clazz("class", "second")
+                .function("function", function)
+                .build();
+
+        // run
+        TokenLayer layer = TokenLayer.of(List.of(first, second));
+
+        // verify
+        assertEquals("first", layer.getValue("key"));
+        assertEquals("second", layer.getValue("other"));
+        assertEquals("first", layer.getClazz("class"));
+        assertSame(function, layer.getFunction("function"));
+        assertNull(layer.getValue("missing"));
+    }
+
+    @Test
+    void test_of_lazyValues()
+    {
+        // setup
+        TokenMap first  =
+            TokenMap
+                .builder()
+                .value("eager", "first")
+                .build();
+        TokenMap lazy   =
+            TokenMap
+                .builder()
+                .lazyValues(new LazyTokenValues(key -> key.startsWith("missing") ? null : "lazy"))
+                .build();
+        TokenMap last   =
+            TokenMap
+                .builder()
+                .value("lazy", "last")
+                .value("missing", "last")
+                .build();
+
+        // run
+        TokenLayer layer = TokenLayer.of(List.of(first, lazy, last));
+
+        // verify
+        assertEquals("first", layer.getValue("eager"));
+        assertEquals("lazy", layer.getValue("lazy"));
+        assertEquals("last", layer.getValue("missing"));
+        assertNull(layer.getValue("missing.too"));
+    }
+
+    @Test
+    void test_of_deactivatedUids()
+    {
+        // setup
+        TokenMap first  = TokenMap.builder().build();
+        TokenMap second =
+            TokenMap
+                .builder()
+                .deactivateUid("uid")
+                .build();
+
+        // run
+        TokenLayer layer = TokenLayer.of(List.of(first, second));
+
+        // verify
+        assertFalse(layer.isUidActive("uid"));
+        assertTrue(layer.isUidActive("other"));
+    }
+
+    @Test
+    void test_extend_presedence()
+    {
+        // setup
+        TokenLayer parent =
+            TokenLayer.of(
+                List.of(
+                    TokenMap
+                        .builder()
+                        .presedence(5)
+                        .value("parent", "parent")
+                        .value("higher", "parent")
+                        .value("lower", "parent")
+                        .deactivateUid("uid")
+                        .build()));
+
+        TokenMap   higher =
+            TokenMap
+                .builder()
+                .presedence(6)
+                .value("higher", "child")
+                .value("child", "child")
+                .build();
+        TokenMap   lower  =
+            TokenMap
+                .builder()
+                .presedence(4)
+                .value("lower", "child")
+                .build();
+
+        // run
+        TokenLayer child = parent.extend(List.of(higher, lower));
+
+        // verify
+        assertEquals("parent", child.getValue("parent"));
+        assertEquals("child", child.getValue("higher"));
+        assertEquals("parent", child.getValue("lower"));
+        assertEquals("child", child.getValue("child"));
+        assertFalse(child.isUidActive("uid"));
+        assertSame(parent, parent.extend(List.of()));
+    }
+
+    @Test
+    void test_extend_equalPresedence()
+    {
+        // setup
+        TokenLayer parent =
+            TokenLayer.of(
+                List.of(
+                    TokenMap
+                        .builder()
+                        .presedence(5)
+                        .value("value", "parent")
+                        .clazz("class", "parent")
+                        .build()));
+
+        TokenMap   equal  =
+            TokenMap
+                .builder()
+                .presedence(5)
+                .value("value", "child")
+                .clazz("class", "child")
+                .build();
+
+        // run
+        TokenLayer child = parent.extend(List.of(equal));
+
+        // verify
+        assertEquals("child", child.getValue("value"));
+        assertEquals("child", child.getClazz("class"));
+        assertEquals("parent", parent.getValue("value"));
+    }
+
+    @Test
+    void test_of_empty()
+    {
+        // run
+        TokenLayer layer = TokenLayer.of(List.of());
+
+        // verify
+        assertSame(TokenLayer.EMPTY, layer);
+    }
+}
@@ -9,6 +9,12 @@ package de.cookindustries.lib.spring.gui.hmi.mapper.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import de.cookindustries.lib.spring.gui.function.VoidCall;
@@ -60,4 +66,23 @@ class TokenMapTest
         assertEquals(Integer.valueOf(0), map.getPresedence());
     }
 
+    @Test
+    void test_of_map()
+    {
+        // setup
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "value");
+
+        // run
+        TokenMap            map    = TokenMap.of(values, 2);
+        values.put("late", "read through");
+
+        // verify
+        assertEquals("value", map.getValue("name"));
+        assertEquals("read through", map.getValue("late"));
+        assertNull(map.getValue("missing"));
+        assertEquals(2, map.getPresedence());
+        assertEquals("value", TokenLayer.of(List.of(TokenMap.of(values))).getValue("name"));
+    }
+
 }
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.mapper.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TokenScopeTest
+{
+
+    @Test
+    void test_pushAndPop()
+    {
+        // setup
+        TokenScope scope = new TokenScope();
+        scope.setBase(TokenLayer.of(List.of(TokenMap.builder().value("key", "base").build())));
+
+        TokenMap outer = TokenMap.builder().value("key", "outer").build();
+        TokenMap inner = TokenMap.builder().value("key", "inner").build();
+
+        // run & verify
+        assertEquals("base", scope.getValue("key"));
+
+        scope.push(outer);
+        assertEquals("outer", scope.getValue("key"));
+
+        scope.push(inner);
+        assertEquals("inner", scope.getValue("key"));
+
+        assertSame(inner, scope.pop());
+        assertEquals("outer", scope.getValue("key"));
+
+        assertSame(outer, scope.pop());
+        assertEquals("base", scope.getValue("key"));
+    }
+
+    @Test
+    void test_inheritFrames()
+    {
+        // setup
+        TokenMap   outer  = TokenMap.builder().value("key", "outer").build();
+        TokenMap   inner  = TokenMap.builder().value("key", "inner").deactivateUid("uid").build();
+
+        TokenScope parent = new TokenScope();
+        parent.push(outer);
+        parent.push(inner);
+
+        TokenScope child  = new TokenScope();
+
+        // run
+        child.inherit(parent);
+
+        // verify
+        assertEquals(List.of(inner, outer), child.getFrames());
+        assertEquals("inner", child.getValue("key"));
+        assertFalse(child.isUidActive("uid"));
+    }
+}
@@ -10,6 +10,8 @@ package de.cookindustries.lib.spring.gui.hmi.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -22,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import de.cookindustries.lib.spring.gui.config.properties.CiLibProperties;
 import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesPathProperties;
 import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesProperties;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.MapperResult;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.MappingTimings;
 import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappableDissector;
 import de.cookindustries.lib.spring.gui.i18n.AbsTranslationProvider;
 import de.cookindustries.lib.spring.gui.i18n.StaticTranslationProvider;
@@ -214,4 +218,101 @@ public class GuiFactoryTest
         // verify
         assertNotNull(content);
     }
+
+    @Test
+    void test_readComponent_cached()
+    {
+        // setup
+        properties =
+            GuiFactoryProperties
+                .builder()
+                .resultCache(
+                    MapperResultCache
+                        .builder()
+                        .template("json-mapper/root-component.json")
+                        .build())
+                .build();
+        ComponentSources compSrc =
+            ComponentSources
+                .builder()
+                .locale(Locale.ENGLISH)
+                .sourcePath("/json-mapper/root-component.json")
+                .build();
+        GUIFactory       factory = basicFactory();
+
+        // run
+        MapperResult     first   = factory.readComponent(compSrc);
+        MapperResult     second  = factory.readComponent(compSrc);
+        translationProvider.initMaps();
+        MapperResult     third   = factory.readComponent(compSrc);
+
+        // verify
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(1L, factory.getResultCacheStats().hits());
+        assertEquals(2L, factory.getResultCacheStats().misses());
+    }
+
+    @Test
+    void test_createHtmlSite_mappingListener()
+    {
+        // setup
+        List<MappingTimings> reported = new ArrayList<>();
+        properties =
+            GuiFactoryProperties
+                .builder()
+                .mappingListener((srcPath, locale, timings) -> reported.add(timings))
+                .build();
+        ComponentSources     compSrc  =
+            ComponentSources
+                .builder()
+                .locale(Locale.ENGLISH)
+                .sourcePath("json-mapper/root-component.json")
+                .build();
+        GUIFactory           factory  = basicFactory();
+
+        // run
+        factory.createHtmlSite("Test Site", compSrc);
+        factory.readComponent(compSrc);
+
+        // verify
+        assertEquals(2, reported.size());
+        assertTrue(reported.get(0).getRender() > 0);
+        assertTrue(reported.get(0).getSerialization() > 0);
+        assertEquals(0L, reported.get(1).getRender());
+    }
+
+    @Test
+    void test_readComponent_cachedMappingListener()
+    {
+        // setup
+        List<MappingTimings> reported = new ArrayList<>();
+        properties =
+            GuiFactoryProperties
+                .builder()
+                .resultCache(
+                    MapperResultCache
+                        .builder()
+                        .template("json-mapper/root-component.json")
+                        .build())
+                .mappingListener((srcPath, locale, timings) -> reported.add(timings))
+                .build();
+        ComponentSources     compSrc  =
+            ComponentSources
+                .builder()
+                .locale(Locale.ENGLISH)
+                .sourcePath("json-mapper/root-component.json")
+                .build();
+        GUIFactory           factory  = basicFactory();
+
+        // run
+        MapperResult         first    = factory.readComponent(compSrc);
+        factory.readComponent(compSrc);
+
+        // verify
+        assertEquals(2, reported.size());
+        assertSame(first.getTimings(), reported.get(0));
+        assertEquals(0L, reported.get(1).getTotal());
+        assertTrue(reported.get(1).getComponents().isEmpty());
+    }
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.MapperResult;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.FlatMappable;
+import de.cookindustries.lib.spring.gui.hmi.mapper.util.TokenMap;
+
+class MapperResultCacheTest
+{
+
+    private static final String                 PATH   = "menu.json";
+    private static final Supplier<MapperResult> LOADER = () -> MapperResult.builder().time(0L).build();
+
+    private record Country(String name) implements FlatMappable
+    {
+    }
+
+    private static class Holder implements FlatMappable
+    {
+    }
+
+    private static List<TokenMap> tokens(String value)
+    {
+        return List.of(TokenMap.builder().value("key", value).build());
+    }
+
+    @Test
+    void test_get_hitOnEqualTokenContent()
+    {
+        // setup
+        MapperResultCache cache = MapperResultCache.builder().template(PATH).build();
+
+        // run
+        MapperResult      first  = cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        MapperResult      second = cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        MapperResult      other  = cache.get(PATH, Locale.GERMAN, tokens("a"), 0, LOADER);
+        MapperResult      third  = cache.get(PATH, Locale.ENGLISH, tokens("b"), 0, LOADER);
+
+        // verify
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertNotSame(first, third);
+        assertEquals(new MapperResultCache.Stats(1, 3, 0, 0, 3), cache.getStats());
+        assertEquals(0.25d, cache.getStats().hitRate());
+    }
+
+    @Test
+    void test_get_uncacheableTokenMaps()
+    {
+        // setup
+        MapperResultCache cache    = MapperResultCache.builder().template(PATH).build();
+        List<TokenMap>    lazy     = List.of(TokenMap.of(Map.of("key", "a")));
+        List<TokenMap>    identity = List.of(TokenMap.builder().dissect(new Holder()).build());
+        List<TokenMap>    content  = List.of(TokenMap.builder().dissect(new Country("de")).build());
+
+        // run
+        MapperResult      first    = cache.get(PATH, Locale.ENGLISH, lazy, 0, LOADER);
+        MapperResult      second   = cache.get(PATH, Locale.ENGLISH, lazy, 0, LOADER);
+        cache.get(PATH, Locale.ENGLISH, identity, 0, LOADER);
+        MapperResult      country  = cache.get(PATH, Locale.ENGLISH, content, 0, LOADER);
+
+        // verify
+        assertNotSame(first, second);
+        assertSame(country, cache.get(PATH, Locale.ENGLISH, List.of(TokenMap.builder().dissect(new Country("de")).build()), 0, LOADER));
+        assertEquals(new MapperResultCache.Stats(1, 1, 3, 0, 1), cache.getStats());
+    }
+
+    @Test
+    void test_get_revisionChanged()
+    {
+        // setup
+        MapperResultCache cache = MapperResultCache.builder().template(PATH).build();
+
+        // run
+        MapperResult      first  = cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        MapperResult      second = cache.get(PATH, Locale.ENGLISH, tokens("a"), 1, LOADER);
+
+        // verify
+        assertNotSame(first, second);
+        assertEquals(new MapperResultCache.Stats(0, 2, 0, 1, 1), cache.getStats());
+    }
+
+    @Test
+    void test_get_ttlExpired()
+    {
+        // setup
+        AtomicLong        time  = new AtomicLong();
+        MapperResultCache cache =
+            MapperResultCache
+                .builder()
+                .template(PATH)
+                .ttl(Duration.ofSeconds(1))
+                .ticker(time::get)
+                .build();
+
+        // run
+        MapperResult      first  = cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        time.set(Duration.ofMillis(999).toNanos());
+        MapperResult      second = cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        time.set(Duration.ofSeconds(1).toNanos());
+        MapperResult      third  = cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+
+        // verify
+        assertSame(first, second);
+        assertNotSame(first, third);
+    }
+
+    @Test
+    void test_get_evictLeastRecentlyUsed()
+    {
+        // setup
+        MapperResultCache cache = MapperResultCache.builder().template(PATH).maximumSize(2).build();
+
+        // run
+        MapperResult      a = cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        MapperResult      b = cache.get(PATH, Locale.ENGLISH, tokens("b"), 0, LOADER);
+        cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        cache.get(PATH, Locale.ENGLISH, tokens("c"), 0, LOADER);
+
+        // verify
+        assertSame(a, cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER));
+        assertNotSame(b, cache.get(PATH, Locale.ENGLISH, tokens("b"), 0, LOADER));
+        assertEquals(2, cache.getStats().size());
+    }
+
+    @Test
+    void test_invalidate()
+    {
+        // setup
+        MapperResultCache cache = MapperResultCache.builder().template(PATH).template("footer.json").build();
+        cache.get(PATH, Locale.ENGLISH, tokens("a"), 0, LOADER);
+        cache.get("footer.json", Locale.ENGLISH, tokens("a"), 0, LOADER);
+
+        // run
+        cache.invalidate(PATH);
+
+        // verify
+        assertEquals(1, cache.getStats().size());
+
+        // run
+        cache.invalidateAll();
+
+        // verify
+        assertEquals(0, cache.getStats().size());
+    }
+
+    @Test
+    void test_isEnabled()
+    {
+        // setup
+        MapperResultCache cache = MapperResultCache.builder().template(PATH).build();
+
+        // run & verify
+        assertTrue(cache.isEnabled(PATH));
+        assertFalse(cache.isEnabled("other.json"));
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+class PlaceholderAppendableTest
+{
+
+    @Test
+    void test_append_replaced() throws IOException
+    {
+        // setup
+        StringBuilder         out        = new StringBuilder();
+        PlaceholderAppendable appendable = new PlaceholderAppendable(out, "@@time", "42");
+
+        // run
+        appendable.append("took @@time ms, @@@time, @@tim");
+        appendable.append('e');
+        appendable.append(" and @@ti");
+        appendable.append("me@");
+        appendable.append("@t");
+        appendable.flush();
+
+        // verify
+        assertEquals("took 42 ms, @42, 42 and 42@@t", out.toString());
+    }
+
+    @Test
+    void test_append_range() throws IOException
+    {
+        // setup
+        StringBuilder         out        = new StringBuilder();
+        PlaceholderAppendable appendable = new PlaceholderAppendable(out, "@@time", "42");
+
+        // run
+        appendable.append("xx@@time@yy", 2, 9);
+        appendable.flush();
+
+        // verify
+        assertEquals("42@", out.toString());
+    }
+}
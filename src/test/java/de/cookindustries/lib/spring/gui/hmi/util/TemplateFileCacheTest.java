@@ -0,0 +1,342 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.config.properties.CiLibProperties;
+import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesPathProperties;
+import de.cookindustries.lib.spring.gui.config.properties.CiLibResourcesProperties;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.CompiledElement;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.InternalElementType;
+import de.cookindustries.lib.spring.gui.hmi.mapper.json.TemplateBundle;
+
+class TemplateFileCacheTest
+{
+
+    private CiLibProperties   libProperties;
+    private TemplateFileCache templateFileCache;
+
+    @BeforeEach
+    public void init()
+    {
+        CiLibResourcesPathProperties resPath = new CiLibResourcesPathProperties();
+        resPath.setTemplates("json-test-files");
+
+        CiLibResourcesProperties res = new CiLibResourcesProperties();
+        res.setPath(resPath);
+
+        libProperties = new CiLibProperties();
+        libProperties.setResources(res);
+
+        templateFileCache = new TemplateFileCache(libProperties);
+    }
+
+    @Test
+    void test_init()
+    {
+        // run
+        templateFileCache.init();
+
+        // verify
+        assertNotNull(templateFileCache.getCompiledTemplateTo("json-mapper/root-component.json"));
+        assertNotNull(templateFileCache.getCompiledTemplateTo("json-mapper/container/text-container.json"));
+        assertEquals(1L, templateFileCache.getRevision());
+    }
+
+    @Test
+    void test_init_intern()
+    {
+        // run
+        templateFileCache.init();
+
+        // verify
+        assertNotNull(templateFileCache.getInternStats());
+        assertTrue(templateFileCache.getInternStats().sharedStrings() > 0);
+        assertTrue(templateFileCache.getInternStats().savedBytes() > 0);
+    }
+
+    @Test
+    void test_init_reload()
+    {
+        // setup
+        templateFileCache.init();
+
+        // run
+        templateFileCache.init();
+
+        // verify
+        assertNotNull(templateFileCache.getTemplateTo("json-mapper/generated-uids.json"));
+        assertEquals(2L, templateFileCache.getRevision());
+    }
+
+    @Test
+    void test_getCompiledTemplateTo_unknown()
+    {
+        // setup
+        templateFileCache.init();
+
+        // run & verify
+        assertThrows(IllegalArgumentException.class, () -> templateFileCache.getCompiledTemplateTo("unknown.json"));
+    }
+
+    @Test
+    void test_init_lazy()
+    {
+        // setup
+        libProperties.getResources().getTemplateCache().setLazy(true);
+        libProperties.getResources().getTemplateCache().setMaximumSize(2);
+
+        TemplateFileCache lazyCache = new TemplateFileCache(libProperties);
+
+        // run
+        lazyCache.init();
+
+        // verify
+        assertEquals(0, lazyCache.getLoadedCount());
+        assertEquals(1L, lazyCache.getRevision());
+    }
+
+    @Test
+    void test_getCompiledTemplateTo_lazy()
+    {
+        // setup
+        libProperties.getResources().getTemplateCache().setLazy(true);
+        libProperties.getResources().getTemplateCache().setMaximumSize(2);
+
+        TemplateFileCache lazyCache = new TemplateFileCache(libProperties);
+        lazyCache.init();
+
+        // run
+        CompiledElement   first     = lazyCache.getCompiledTemplateTo("json-mapper/root-component.json");
+        CompiledElement   cached    = lazyCache.getCompiledTemplateTo("json-mapper/root-component.json");
+        lazyCache.getCompiledTemplateTo("json-mapper/generated-uids.json");
+        lazyCache.getCompiledTemplateTo("json-mapper/nested-components.json");
+        CompiledElement   reloaded  = lazyCache.getCompiledTemplateTo("json-mapper/root-component.json");
+
+        // verify
+        assertSame(first, cached);
+        assertNotSame(first, reloaded);
+        assertEquals(2, lazyCache.getLoadedCount());
+        assertThrows(IllegalArgumentException.class, () -> lazyCache.getCompiledTemplateTo("unknown.json"));
+    }
+
+    @Test
+    void test_reload_watchDirectory() throws IOException
+    {
+        // setup
+        Path              directory    = Files.createTempDirectory("templates");
+        Path              part         = directory.resolve("part.json");
+        Set<String>       invalidated  = new HashSet<>();
+        Files.writeString(directory.resolve("page.json"), "{\"type\": \"COMPONENT\", \"parameters\": {\"path\": \"part.json\"}}");
+        Files.writeString(part, "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"old\"}}");
+        libProperties.getResources().getTemplateCache().setWatchDirectory(directory.toString());
+
+        TemplateFileCache watchedCache = new TemplateFileCache(libProperties);
+        watchedCache.init();
+        watchedCache.addInvalidationListener(invalidated::addAll);
+
+        long              pageRev      = watchedCache.getRevision("page.json");
+        long              otherRev     = watchedCache.getRevision("json-mapper/root-component.json");
+
+        // run
+        Files.writeString(part, "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"new\"}}");
+        watchedCache.reload(Set.of(part));
+        watchedCache.close();
+
+        // verify
+        assertEquals("new", watchedCache.getTemplateTo("part.json").getParameters().get("text"));
+        assertEquals("COMPONENT", watchedCache.getTemplateTo("page.json").getType());
+        assertEquals("new", watchedCache.getCompiledTemplateTo("page.json").getParameters().get("text").getRaw());
+        assertEquals(Set.of("part.json", "page.json"), invalidated);
+        assertNotEquals(pageRev, watchedCache.getRevision("page.json"));
+        assertEquals(otherRev, watchedCache.getRevision("json-mapper/root-component.json"));
+    }
+
+    @Test
+    void test_reload_deleted() throws IOException
+    {
+        // setup
+        Path              directory    = Files.createTempDirectory("templates");
+        Path              part         = directory.resolve("part.json");
+        Files.writeString(part, "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"old\"}}");
+        libProperties.getResources().getTemplateCache().setWatchDirectory(directory.toString());
+
+        TemplateFileCache watchedCache = new TemplateFileCache(libProperties);
+        watchedCache.init();
+        watchedCache.close();
+
+        // run
+        Files.delete(part);
+        watchedCache.reload(Set.of(part));
+
+        // verify
+        assertThrows(IllegalArgumentException.class, () -> watchedCache.getTemplateTo("part.json"));
+        assertNotNull(watchedCache.getTemplateTo("json-mapper/root-component.json"));
+    }
+
+    @Test
+    void test_reload_deletedOverride() throws IOException
+    {
+        // setup
+        Path              directory    = Files.createTempDirectory("templates");
+        Path              override     = directory.resolve("json-mapper/root-component.json");
+        Files.createDirectories(override.getParent());
+        Files.writeString(override, "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"override\"}}");
+        libProperties.getResources().getTemplateCache().setWatchDirectory(directory.toString());
+
+        TemplateFileCache watchedCache = new TemplateFileCache(libProperties);
+        watchedCache.init();
+        watchedCache.close();
+
+        libProperties.getResources().getTemplateCache().setLazy(true);
+
+        TemplateFileCache lazyCache    = new TemplateFileCache(libProperties);
+        lazyCache.init();
+        lazyCache.close();
+
+        templateFileCache.init();
+
+        String            packaged     = templateFileCache.getTemplateTo("json-mapper/root-component.json").getType();
+        String            overridden   = watchedCache.getTemplateTo("json-mapper/root-component.json").getType();
+        lazyCache.getTemplateTo("json-mapper/root-component.json");
+
+        // run
+        Files.delete(override);
+        watchedCache.reload(Set.of(override));
+        lazyCache.reload(Set.of(override));
+
+        // verify
+        assertEquals("TEXT", overridden);
+        assertNotEquals(overridden, packaged);
+        assertEquals(packaged, watchedCache.getTemplateTo("json-mapper/root-component.json").getType());
+        assertEquals(packaged, lazyCache.getTemplateTo("json-mapper/root-component.json").getType());
+    }
+
+    @Test
+    void test_watchDirectory() throws IOException, InterruptedException
+    {
+        // setup
+        Path              directory    = Files.createTempDirectory("templates");
+        Path              part         = directory.resolve("part.json");
+        Files.writeString(part, "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"old\"}}");
+        libProperties.getResources().getTemplateCache().setWatchDirectory(directory.toString());
+
+        TemplateFileCache watchedCache = new TemplateFileCache(libProperties);
+        watchedCache.init();
+
+        long              revision     = watchedCache.getRevision("part.json");
+        long              deadline     = System.currentTimeMillis() + 10_000L;
+
+        // run
+        Files.writeString(part, "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"new\"}}");
+
+        while (watchedCache.getRevision("part.json") == revision && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(50);
+        }
+
+        watchedCache.close();
+
+        // verify
+        assertEquals("new", watchedCache.getTemplateTo("part.json").getParameters().get("text"));
+    }
+
+    @Test
+    void test_watchDirectory_movedDirectory() throws IOException, InterruptedException
+    {
+        // setup
+        Path              directory    = Files.createTempDirectory("templates");
+        Path              target       = Files.createTempDirectory("moved").resolve("parts");
+        Path              parts        = directory.resolve("parts");
+        Files.createDirectories(parts);
+        Files.writeString(parts.resolve("part.json"), "{\"type\": \"TEXT\", \"parameters\": {\"text\": \"part\"}}");
+        libProperties.getResources().getTemplateCache().setWatchDirectory(directory.toString());
+
+        TemplateFileCache watchedCache = new TemplateFileCache(libProperties);
+        watchedCache.init();
+
+        long              revision     = watchedCache.getRevision("parts/part.json");
+        long              deadline     = System.currentTimeMillis() + 10_000L;
+
+        // run
+        Files.move(parts, target);
+
+        while (watchedCache.getRevision("parts/part.json") == revision && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(50);
+        }
+
+        watchedCache.close();
+
+        // verify
+        assertThrows(IllegalArgumentException.class, () -> watchedCache.getTemplateTo("parts/part.json"));
+    }
+
+    @Test
+    void test_init_bundle() throws IOException
+    {
+        // setup
+        Path              bundle       = Files.createTempFile("templates", ".bundle");
+        templateFileCache.init();
+        TemplateBundle.write(Map.of("part.json", templateFileCache.getTemplateTo("json-mapper/generated-uids.json")), bundle);
+        libProperties.getResources().getTemplateCache().setBundle("file:" + bundle);
+
+        TemplateFileCache bundledCache = new TemplateFileCache(libProperties);
+
+        // run
+        bundledCache.init();
+
+        // verify
+        assertEquals("CONTENT", bundledCache.getTemplateTo("part.json").getType());
+        assertEquals(1, bundledCache.getLoadedCount());
+        assertThrows(IllegalArgumentException.class, () -> bundledCache.getTemplateTo("json-mapper/root-component.json"));
+    }
+
+    @Test
+    void test_init_includeCycle() throws IOException
+    {
+        // setup
+        Path              directory    = Files.createTempDirectory("templates");
+        Files.writeString(directory.resolve("a.json"), "{\"type\": \"COMPONENT\", \"parameters\": {\"path\": \"b.json\"}}");
+        Files.writeString(directory.resolve("b.json"), "{\"type\": \"COMPONENT\", \"parameters\": {\"path\": \"a.json\"}}");
+        Files.writeString(directory.resolve("page.json"),
+            "{\"type\": \"CONTENT\", \"children\": [{\"type\": \"COMPONENT\", \"parameters\": {\"path\": \"a.json\"}}]}");
+        libProperties.getResources().getTemplateCache().setWatchDirectory(directory.toString());
+
+        TemplateFileCache watchedCache = new TemplateFileCache(libProperties);
+
+        // run
+        watchedCache.init();
+        watchedCache.close();
+
+        // verify
+        CompiledElement   page         = watchedCache.getCompiledTemplateTo("page.json");
+
+        assertEquals(List.of(List.of("a.json", "b.json")), watchedCache.getIncludeCycles());
+        assertEquals(InternalElementType.COMPONENT, watchedCache.getCompiledTemplateTo("a.json").getInternalType());
+        assertEquals(InternalElementType.COMPONENT, page.getChildren().get(0).getInternalType());
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2016-2026 sebastian koch/Cook Industries.
+ * <p>
+ * Licensed under the MIT License.
+ * <p>
+ * See LICENSE file in the project root for full license information.
+ */
+package de.cookindustries.lib.spring.gui.hmi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.cookindustries.lib.spring.gui.hmi.container.TextContainer;
+
+class UidStrategiesTest
+{
+
+    @Test
+    void test_random()
+    {
+        // setup
+        UidStrategy strategy = UidStrategies.random();
+
+        // run
+        String      first    = strategy.nextUid();
+        String      second   = strategy.nextUid();
+
+        // verify
+        assertNotEquals(first, second);
+        assertTrue(first.matches("[0-9a-f]{16}"));
+        assertSame(strategy, strategy.fork(1));
+    }
+
+    @Test
+    void test_deterministic()
+    {
+        // setup
+        UidStrategy strategy = UidStrategies.deterministic();
+
+        // run
+        String      first    = strategy.nextUid();
+        String      second   = strategy.nextUid();
+        UidStrategy fork     = strategy.fork(3);
+
+        // verify
+        assertEquals("uid-1", first);
+        assertEquals("uid-2", second);
+        assertEquals("uid-3-1", fork.nextUid());
+        assertEquals("uid-3", strategy.nextUid());
+    }
+
+    @Test
+    void test_callWith()
+    {
+        // setup
+        UidStrategy strategy = UidStrategies.deterministic("test-");
+
+        // run
+        String      uid      = UidStrategies.callWith(strategy, () -> TextContainer.builder().text("text").build().getUid());
+
+        // verify
+        assertEquals("test-1", uid);
+        assertSame(UidStrategies.random(), UidStrategies.current());
+    }
+}
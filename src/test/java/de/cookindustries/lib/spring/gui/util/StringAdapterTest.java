@@ -8,6 +8,7 @@
 package de.cookindustries.lib.spring.gui.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Collection;
 import java.util.List;
@@ -188,4 +189,20 @@ class StringAdapterTest
         assertEquals("", nullResult);
     }
 
+    @Test
+    void test_sanitizeUid()
+    {
+        // setup
+        String valid   = "my-uid_1";
+        String invalid = "my uid.1\t\"ä#";
+
+        // run
+        String result  = StringAdapter.sanitizeUid(invalid);
+
+        // verify
+        assertSame(valid, StringAdapter.sanitizeUid(valid));
+        assertEquals("my-uid-1-", result);
+        assertEquals(invalid.replaceAll("[\\s.]", "-").replaceAll("[^a-zA-Z0-9_-]", ""), result);
+    }
+
 }